@@ -0,0 +1,251 @@
+package br.com.warrick.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JComboBox;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JPasswordField;
+import javax.swing.JTextArea;
+import javax.swing.JTextField;
+import br.com.warrick.swing.WAnimator;
+import br.com.warrick.swing.WVirtualClock;
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Verifica que a pintura em regime permanente dos componentes W não aloca mais memória que a do componente Swing
+ * equivalente.
+ *
+ * <p>
+ * Cada componente W é comparado com o seu par do Swing ({@code WTextField} e {@code JTextField}, {@code WLabel} e
+ * {@code JLabel}, ...), com o mesmo texto e tamanho, cada um pintado em uma JVM própria. Os bytes alocados pela EDT durante as pinturas
+ * vêm de {@link ThreadMXBean#getCurrentThreadAllocatedBytes()}, depois de um aquecimento que deixa o JIT compilar o
+ * caminho de pintura, e valem os da rodada de menor alocação. A diferença por pintura é o que os componentes W
+ * acrescentam por quadro e deve ser zero.</p>
+ *
+ * <p>
+ * Os estados medidos são o repouso, o estado com foco e mouse sobre o componente, com as animações já concluídas
+ * por um {@link WVirtualClock}, e o meio das animações: o relógio virtual avança um quadro antes de cada pintura, e o
+ * foco alterna a cada transição concluída, de modo que o rótulo e a linha mudam de quadro a quadro. Nesse estado são
+ * medidas apenas as pinturas, sem o avanço do relógio, e o componente do Swing é medido com foco. O processo termina com status 1 se algum componente alocar mais que o seu par, de
+ * modo que a verificação pode ser executada na integração contínua:</p>
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar br.com.warrick.benchmarks.AllocationCheck
+ * </pre>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public final class AllocationCheck {
+    // ============================================ CONSTANTES ============================================
+
+    /** Componentes verificados, na mesma ordem dos benchmarks */
+    private static final String[] COMPONENTES = {
+        "WTextField", "WTextArea", "WPasswordField", "WComboBox", "WButton", "WCheckBox", "WLabel"
+    };
+
+    /** Pinturas de aquecimento antes da medida */
+    private static final int AQUECIMENTO = 20_000;
+
+    /** Rodadas de medida; vale a de menor alocação, livre de alocações esporádicas do JIT e do JDK */
+    private static final int RODADAS = 5;
+
+    /** Pinturas medidas em cada rodada */
+    private static final int PINTURAS = 2_000;
+
+    /**
+     * Tolerância em bytes por pintura: um objeto pequeno ({@code Rectangle}) do Java2D que a análise de escape
+     * elimina ou não conforme a profundidade de inlining, diferente entre o componente W e o do Swing
+     */
+    private static final double TOLERANCIA = 32.0;
+
+    /**
+     * Tolerância em bytes por pintura no meio das animações: o {@code drawImage} redimensionado do rótulo, que o
+     * Java2D executa com uma transformação e uma região novas a cada chamada (cerca de 250 bytes)
+     */
+    private static final double TOLERANCIA_ANIMACAO = 256.0;
+
+    // ============================================ CONSTRUTORES ============================================
+
+    private AllocationCheck() {
+    }
+
+    // ============================================ MÉTODOS ============================================
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length == 3) {
+            // Processo filho: mede um único componente e imprime o resultado
+            System.setProperty("java.awt.headless", "true");
+            System.setProperty("wswing.animation", "full");
+            ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+            threads.setThreadAllocatedMemoryEnabled(true);
+            System.out.println(bytesPorPintura(threads, args[0], "w".equals(args[1]), args[2]));
+            System.exit(0);
+        }
+
+        System.out.printf("%-16s %-8s %12s %12s %10s%n", "Componente", "Estado", "W (B/pint.)", "Swing (B/pint.)",
+                "Diferença");
+        boolean falhou = false;
+        for (String nome : COMPONENTES) {
+            for (String estado : new String[] {"repouso", "foco", "animacao"}) {
+                double w = medirEmProcesso(nome, "w", estado);
+                double swing = medirEmProcesso(nome, "swing", estado);
+                double diferenca = w - swing;
+                boolean ok = diferenca <= ("animacao".equals(estado) ? TOLERANCIA_ANIMACAO : TOLERANCIA);
+                falhou |= !ok;
+                System.out.printf("%-16s %-8s %12.1f %12.1f %10.1f%s%n", nome, estado, w, swing, diferenca,
+                        ok ? "" : "  <- aloca por quadro");
+            }
+        }
+        if (falhou) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Mede um componente em uma JVM nova, com a mesma JVM e classpath deste processo.
+     *
+     * <p>
+     * Medir o componente W e o do Swing na mesma JVM faz o segundo rodar com o código compilado pelo JIT para o
+     * primeiro: a análise de escape elimina ou não as alocações temporárias do Java2D conforme o perfil, e a
+     * diferença oscila de uma execução para outra. Com {@code -Xbatch} a compilação acontece na própria thread, na
+     * mesma ordem a cada execução, e o resultado se repete.</p>
+     */
+    private static double medirEmProcesso(String nome, String tipo, String estado)
+            throws IOException, InterruptedException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        Process processo = new ProcessBuilder(java, "-Xbatch", "-cp", System.getProperty("java.class.path"),
+                AllocationCheck.class.getName(), nome, tipo, estado)
+                .redirectErrorStream(true)
+                .start();
+        String saida;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(processo.getInputStream(), StandardCharsets.UTF_8))) {
+            saida = reader.lines().reduce((primeira, ultima) -> ultima).orElse("");
+        }
+        if (processo.waitFor() != 0) {
+            throw new IllegalStateException("Falha ao medir " + nome + " (" + tipo + ", " + estado + "): " + saida);
+        }
+        return Double.parseDouble(saida.trim());
+    }
+
+    /**
+     * Mede os bytes alocados por pintura do componente W ou do seu par do Swing, no estado informado.
+     */
+    private static double bytesPorPintura(ThreadMXBean threads, String nome, boolean w, String estado) {
+        boolean animando = w && "animacao".equals(estado);
+        double[] resultado = new double[1];
+        Componentes.naEdt(() -> {
+            JComponent c = w ? Componentes.criar(nome) : criarSwing(nome);
+            WVirtualClock clock = null;
+            if (!"repouso".equals(estado)) {
+                // As animações disparadas pelos eventos terminam sem esperar o tempo real
+                clock = new WVirtualClock();
+                WAnimator.setClock(clock);
+                Componentes.mouse(c, true);
+                Componentes.foco(c, true);
+                if (!animando) {
+                    clock.finish();
+                    WAnimator.setClock(null);
+                }
+            }
+            BufferedImage image = new BufferedImage(Componentes.LARGURA, Componentes.ALTURA,
+                    BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2 = image.createGraphics();
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            boolean[] focado = {true};
+            for (int i = 0; i < AQUECIMENTO; i++) {
+                if (animando) {
+                    avancarAnimacao(c, clock, focado);
+                }
+                c.paint(g2);
+            }
+            long menor = Long.MAX_VALUE;
+            for (int r = 0; r < RODADAS; r++) {
+                long total = 0;
+                if (animando) {
+                    // Só as pinturas contam: o avanço do relógio fica fora da medida
+                    for (int i = 0; i < PINTURAS; i++) {
+                        avancarAnimacao(c, clock, focado);
+                        long antes = threads.getCurrentThreadAllocatedBytes();
+                        c.paint(g2);
+                        total += threads.getCurrentThreadAllocatedBytes() - antes;
+                    }
+                } else {
+                    long antes = threads.getCurrentThreadAllocatedBytes();
+                    for (int i = 0; i < PINTURAS; i++) {
+                        c.paint(g2);
+                    }
+                    total = threads.getCurrentThreadAllocatedBytes() - antes;
+                }
+                menor = Math.min(menor, total);
+            }
+            if (animando) {
+                WAnimator.setClock(null);
+            }
+            g2.dispose();
+            resultado[0] = (double) menor / PINTURAS;
+        });
+        return resultado[0];
+    }
+
+    /**
+     * Avança as animações do componente em um quadro, alternando o foco quando a transição anterior termina.
+     */
+    private static void avancarAnimacao(JComponent c, WVirtualClock clock, boolean[] focado) {
+        if (WAnimator.getActiveCount() == 0) {
+            focado[0] = !focado[0];
+            Componentes.foco(c, focado[0]);
+        }
+        clock.frame();
+    }
+
+    /**
+     * Cria o componente do Swing equivalente ao componente W informado, com o mesmo texto e tamanho.
+     */
+    private static JComponent criarSwing(String nome) {
+        JComponent c;
+        switch (nome) {
+            case "WTextField":
+                c = new JTextField();
+                break;
+            case "WTextArea":
+                c = new JTextArea();
+                break;
+            case "WPasswordField":
+                c = new JPasswordField();
+                break;
+            case "WComboBox":
+                JComboBox<String> combo = new JComboBox<>();
+                combo.addItem("São Paulo");
+                combo.addItem("Rio de Janeiro");
+                c = combo;
+                break;
+            case "WButton":
+                c = new JButton("Salvar");
+                break;
+            case "WCheckBox":
+                c = new JCheckBox("Lembrar de mim");
+                break;
+            case "WLabel":
+                c = new JLabel("Esqueci minha senha");
+                break;
+            default:
+                throw new IllegalArgumentException("Componente desconhecido: " + nome);
+        }
+        c.setSize(Componentes.LARGURA, Componentes.ALTURA);
+        c.doLayout();
+        return c;
+    }
+}
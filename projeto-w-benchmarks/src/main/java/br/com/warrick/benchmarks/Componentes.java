@@ -0,0 +1,176 @@
+package br.com.warrick.benchmarks;
+
+import br.com.warrick.swing.*;
+import java.awt.event.FocusEvent;
+import java.awt.event.FocusListener;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseListener;
+import java.lang.reflect.InvocationTargetException;
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+
+/**
+ * Fábrica e utilitários compartilhados pelos benchmarks dos componentes W.
+ *
+ * <p>
+ * Os eventos sintéticos são entregues diretamente aos listeners do componente, pois em modo headless não há janela
+ * com foco para o {@code KeyboardFocusManager} encaminhar eventos de foco.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+final class Componentes {
+    // ============================================ CONSTANTES ============================================
+
+    /** Largura usada para pintar os componentes */
+    static final int LARGURA = 300;
+
+    /** Altura usada para pintar os componentes */
+    static final int ALTURA = 60;
+
+    // ============================================ CONSTRUTORES ============================================
+
+    private Componentes() {
+    }
+
+    // ============================================ MÉTODOS ============================================
+
+    /**
+     * Cria e dimensiona o componente W com o nome informado.
+     */
+    static JComponent criar(String nome) {
+        JComponent c;
+        switch (nome) {
+            case "WTextField":
+                c = new WTextField("Nome completo");
+                break;
+            case "WTextArea":
+                c = new WTextArea("Observações");
+                break;
+            case "WPasswordField":
+                c = new WPasswordField("Senha");
+                break;
+            case "WComboBox":
+                WComboBox<String> combo = new WComboBox<>("Estado");
+                combo.addItem("São Paulo");
+                combo.addItem("Rio de Janeiro");
+                c = combo;
+                break;
+            case "WButton":
+                c = new WButton("Salvar");
+                break;
+            case "WCheckBox":
+                c = new WCheckBox("Lembrar de mim");
+                break;
+            case "WLabel":
+                c = new WLabel("Esqueci minha senha");
+                break;
+            default:
+                throw new IllegalArgumentException("Componente desconhecido: " + nome);
+        }
+        c.setSize(LARGURA, ALTURA);
+        c.doLayout();
+        return c;
+    }
+
+    /**
+     * Leva o componente a um estado no meio das animações: mouse sobre o componente, foco, mensagem de erro visível
+     * e todos os progressos em 0.5.
+     */
+    static void colocarEmAnimacao(JComponent c) {
+        naEdt(() -> {
+            // Relógio virtual: as animações disparadas pelos eventos terminam sem esperar o tempo real
+            WVirtualClock clock = new WVirtualClock();
+            WAnimator.setClock(clock);
+            mouse(c, true);
+            foco(c, true);
+            if (c instanceof WTextField) {
+                ((WTextField) c).mostrarErro("Campo inválido");
+            } else if (c instanceof WTextArea) {
+                ((WTextArea) c).mostrarErro("Campo inválido");
+            } else if (c instanceof WPasswordField) {
+                ((WPasswordField) c).mostrarErro("Senha inválida");
+            } else if (c instanceof WComboBox) {
+                ((WComboBox<?>) c).mostrarErro("Seleção inválida");
+            }
+            clock.finish();
+            WAnimator.setClock(null);
+        });
+
+        naEdt(() -> {
+            if (c instanceof WTextField) {
+                WTextField f = (WTextField) c;
+                f.setAnimationLocation(0.5f);
+                f.setLineAnimationProgress(0.5f);
+                f.setErrorAnimationLocation(0.5f);
+            } else if (c instanceof WTextArea) {
+                WTextArea f = (WTextArea) c;
+                f.setAnimationLocation(0.5f);
+                f.setLineAnimationProgress(0.5f);
+                f.setErrorAnimationLocation(0.5f);
+            } else if (c instanceof WPasswordField) {
+                WPasswordField f = (WPasswordField) c;
+                f.setAnimationLocation(0.5f);
+                f.setLineAnimationProgress(0.5f);
+                f.setErrorAnimationLocation(0.5f);
+            } else if (c instanceof WComboBox) {
+                WComboBox<?> f = (WComboBox<?>) c;
+                f.setAnimationLocation(0.5f);
+                f.setLineAnimationProgress(0.5f);
+                f.setErrorAnimationLocation(0.5f);
+            } else if (c instanceof WButton) {
+                WButton b = (WButton) c;
+                b.setLineAnimationProgress(0.5f);
+                b.setTextScaleProgress(0.5f);
+            } else if (c instanceof WCheckBox) {
+                ((WCheckBox) c).setLineAnimationProgress(0.5f);
+            } else if (c instanceof WLabel) {
+                ((WLabel) c).setLineAnimationProgress(0.5f);
+            }
+        });
+    }
+
+    /**
+     * Entrega um evento de foco sintético a todos os listeners de foco do componente.
+     */
+    static void foco(JComponent c, boolean ganhou) {
+        FocusEvent e = new FocusEvent(c, ganhou ? FocusEvent.FOCUS_GAINED : FocusEvent.FOCUS_LOST);
+        for (FocusListener l : c.getFocusListeners()) {
+            if (ganhou) {
+                l.focusGained(e);
+            } else {
+                l.focusLost(e);
+            }
+        }
+    }
+
+    /**
+     * Entrega um evento de entrada ou saída do mouse a todos os listeners de mouse do componente.
+     */
+    static void mouse(JComponent c, boolean entrou) {
+        int id = entrou ? MouseEvent.MOUSE_ENTERED : MouseEvent.MOUSE_EXITED;
+        MouseEvent e = new MouseEvent(c, id, System.currentTimeMillis(), 0, 10, 10, 0, false);
+        for (MouseListener l : c.getMouseListeners()) {
+            if (entrou) {
+                l.mouseEntered(e);
+            } else {
+                l.mouseExited(e);
+            }
+        }
+    }
+
+    /**
+     * Executa a tarefa na EDT e aguarda o término.
+     */
+    static void naEdt(Runnable tarefa) {
+        try {
+            SwingUtilities.invokeAndWait(tarefa);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.warrick.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.JTextComponent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mede o custo de uma edição no documento dos campos de texto W, incluindo os {@code DocumentListener}s dos
+ * componentes (estado do rótulo, validação e repintura).
+ *
+ * <p>
+ * Cada operação insere um caractere no fim do documento e o remove em seguida, mantendo o tamanho constante.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Dwswing.animation=full"})
+public class DocumentBenchmark {
+    // ============================================ CONSTANTES ============================================
+
+    /** Quantidade de edições entregues por chamada à EDT */
+    static final int LOTE = 100;
+
+    // ============================================ PARÂMETROS ============================================
+
+    @Param({"WTextField", "WTextArea", "WPasswordField"})
+    public String componente;
+
+    @Param({"0", "1000"})
+    public int tamanhoInicial;
+
+    // ============================================ ATRIBUTOS ============================================
+
+    private Document document;
+
+    private Runnable edicao;
+
+    // ============================================ CICLO DE VIDA ============================================
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Componentes.naEdt(() -> {
+            JTextComponent text = (JTextComponent) Componentes.criar(componente);
+            text.setText("x".repeat(tamanhoInicial));
+            document = text.getDocument();
+        });
+        edicao = () -> {
+            try {
+                for (int i = 0; i < LOTE; i++) {
+                    int fim = document.getLength();
+                    document.insertString(fim, "a", null);
+                    document.remove(fim, 1);
+                }
+            } catch (BadLocationException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    // ============================================ BENCHMARKS ============================================
+
+    /**
+     * Insere e remove um caractere no fim do documento.
+     */
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public void inserirRemover() {
+        Componentes.naEdt(edicao);
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.warrick.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import javax.swing.JComponent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mede o custo dos listeners de foco e mouse de cada componente W.
+ *
+ * <p>
+ * Cada operação é um ciclo completo (ganhar e perder o foco, ou entrar e sair com o mouse), o que inclui o
+ * disparo das animações correspondentes. Os eventos são entregues na EDT em lotes de {@value #LOTE} para diluir o
+ * custo do {@code invokeAndWait}.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Dwswing.animation=full"})
+public class EventBenchmark {
+    // ============================================ CONSTANTES ============================================
+
+    /** Quantidade de ciclos entregues por chamada à EDT */
+    static final int LOTE = 100;
+
+    // ============================================ PARÂMETROS ============================================
+
+    @Param({"WTextField", "WTextArea", "WPasswordField", "WComboBox", "WButton", "WCheckBox", "WLabel"})
+    public String componente;
+
+    // ============================================ ATRIBUTOS ============================================
+
+    private JComponent component;
+
+    private Runnable cicloFoco;
+
+    private Runnable cicloMouse;
+
+    // ============================================ CICLO DE VIDA ============================================
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Componentes.naEdt(() -> component = Componentes.criar(componente));
+        cicloFoco = () -> {
+            for (int i = 0; i < LOTE; i++) {
+                Componentes.foco(component, true);
+                Componentes.foco(component, false);
+            }
+        };
+        cicloMouse = () -> {
+            for (int i = 0; i < LOTE; i++) {
+                Componentes.mouse(component, true);
+                Componentes.mouse(component, false);
+            }
+        };
+    }
+
+    // ============================================ BENCHMARKS ============================================
+
+    /**
+     * Ciclo de ganho e perda de foco.
+     */
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public void foco() {
+        Componentes.naEdt(cicloFoco);
+    }
+
+    /**
+     * Ciclo de entrada e saída do mouse.
+     */
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public void mouse() {
+        Componentes.naEdt(cicloMouse);
+    }
+}
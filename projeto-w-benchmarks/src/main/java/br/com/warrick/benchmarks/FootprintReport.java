@@ -0,0 +1,194 @@
+package br.com.warrick.benchmarks;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.swing.JComponent;
+import org.openjdk.jol.vm.VM;
+import org.openjdk.jol.vm.VirtualMachine;
+import sun.misc.Unsafe;
+
+/**
+ * Relatório de memória ocupada por instância de cada componente W, medido com o JOL.
+ *
+ * <p>
+ * O grafo de objetos de um componente alcança objetos compartilhados (fontes, cores, listeners e bordas estáticos,
+ * UI do LookAndFeel) e o estado global do AWT. O relatório percorre o grafo de {@code N} e de {@code 2N} componentes
+ * sem entrar em classes, threads e contextos da aplicação, e divide a diferença por {@code N}: o que é compartilhado
+ * aparece nas duas medidas e se cancela. O tamanho de cada objeto vem do JOL.</p>
+ *
+ * <pre>
+ * java -Djdk.attach.allowAttachSelf=true -cp target/benchmarks.jar br.com.warrick.benchmarks.FootprintReport
+ * </pre>
+ *
+ * <p>
+ * A propriedade {@code jdk.attach.allowAttachSelf} permite ao JOL carregar seu agente e medir também as classes
+ * ocultas das lambdas.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public final class FootprintReport {
+    // ============================================ CONSTANTES ============================================
+
+    /** Componentes medidos, na mesma ordem dos benchmarks */
+    private static final String[] COMPONENTES = {
+        "WTextField", "WTextArea", "WPasswordField", "WComboBox", "WButton", "WCheckBox", "WLabel"
+    };
+
+    /** Quantidade de instâncias da primeira medida */
+    private static final int INSTANCIAS = 500;
+
+    /** Classes cujo conteúdo é estado global e não pertence a nenhum componente */
+    private static final String[] FRONTEIRA = {
+        "java.lang.Class", "java.lang.ClassLoader", "java.lang.Thread", "java.lang.ThreadGroup", "java.lang.Module",
+        "java.lang.ref.Reference", "java.security.AccessControlContext", "java.security.ProtectionDomain",
+        "sun.awt.AppContext", "java.awt.Toolkit", "java.awt.EventQueue"
+    };
+
+    /** Acesso aos campos dos pacotes do JDK sem exigir {@code --add-opens} */
+    private static final Unsafe UNSAFE = unsafe();
+
+    /** Campos de referência por classe */
+    private static final Map<Class<?>, List<Field>> CAMPOS = new ConcurrentHashMap<>();
+
+    // ============================================ CONSTRUTORES ============================================
+
+    private FootprintReport() {
+    }
+
+    // ============================================ MÉTODOS ============================================
+
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        System.out.printf("%-16s %12s%n", "Componente", "Bytes/inst.");
+        for (String nome : COMPONENTES) {
+            System.out.printf("%-16s %12d%n", nome, bytesPorInstancia(nome));
+        }
+    }
+
+    /**
+     * Mede a memória acrescentada por uma instância do componente informado.
+     */
+    private static long bytesPorInstancia(String nome) {
+        // A primeira instância inicializa os objetos estáticos e compartilhados
+        Componentes.naEdt(() -> Componentes.criar(nome));
+
+        long base = tamanho(criar(nome, INSTANCIAS));
+        long dobro = tamanho(criar(nome, 2 * INSTANCIAS));
+        return (dobro - base) / INSTANCIAS;
+    }
+
+    /**
+     * Cria os componentes na EDT; a medida é feita fora dela para não alcançar o evento em execução.
+     */
+    private static JComponent[] criar(String nome, int quantidade) {
+        JComponent[] componentes = new JComponent[quantidade];
+        Componentes.naEdt(() -> {
+            for (int i = 0; i < quantidade; i++) {
+                componentes[i] = Componentes.criar(nome);
+            }
+        });
+        return componentes;
+    }
+
+    /**
+     * Soma o tamanho de todos os objetos alcançáveis a partir da raiz, cada um contado uma única vez.
+     */
+    private static long tamanho(Object raiz) {
+        VirtualMachine vm = VM.current();
+        Set<Object> visitados = Collections.newSetFromMap(new IdentityHashMap<>());
+        ArrayDeque<Object> pendentes = new ArrayDeque<>();
+        pendentes.add(raiz);
+        visitados.add(raiz);
+
+        long total = 0;
+        while (!pendentes.isEmpty()) {
+            Object o = pendentes.poll();
+            total += vm.sizeOf(o);
+            if (fronteira(o.getClass())) {
+                continue;
+            }
+            Class<?> c = o.getClass();
+            if (c.isArray()) {
+                if (!c.getComponentType().isPrimitive()) {
+                    for (int i = 0, n = Array.getLength(o); i < n; i++) {
+                        visitar(Array.get(o, i), visitados, pendentes);
+                    }
+                }
+                continue;
+            }
+            for (Field f : campos(c)) {
+                visitar(ler(o, f), visitados, pendentes);
+            }
+        }
+        return total;
+    }
+
+    private static void visitar(Object o, Set<Object> visitados, ArrayDeque<Object> pendentes) {
+        if (o != null && visitados.add(o)) {
+            pendentes.add(o);
+        }
+    }
+
+    private static boolean fronteira(Class<?> c) {
+        for (Class<?> k = c; k != null; k = k.getSuperclass()) {
+            for (String nome : FRONTEIRA) {
+                if (k.getName().equals(nome)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Campos de instância de tipo referência, incluindo os herdados.
+     */
+    private static List<Field> campos(Class<?> classe) {
+        return CAMPOS.computeIfAbsent(classe, c -> {
+            List<Field> campos = new ArrayList<>();
+            for (Class<?> k = c; k != null; k = k.getSuperclass()) {
+                for (Field f : k.getDeclaredFields()) {
+                    if (!Modifier.isStatic(f.getModifiers()) && !f.getType().isPrimitive()) {
+                        // Campos de classes ocultas (lambdas) não têm offset; são lidos por reflexão
+                        if (!k.isHidden() || f.trySetAccessible()) {
+                            campos.add(f);
+                        }
+                    }
+                }
+            }
+            return campos;
+        });
+    }
+
+    private static Object ler(Object o, Field f) {
+        if (f.getDeclaringClass().isHidden()) {
+            try {
+                return f.get(o);
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+        }
+        return UNSAFE.getObject(o, UNSAFE.objectFieldOffset(f));
+    }
+
+    private static Unsafe unsafe() {
+        try {
+            Field f = Unsafe.class.getDeclaredField("theUnsafe");
+            f.setAccessible(true);
+            return (Unsafe) f.get(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
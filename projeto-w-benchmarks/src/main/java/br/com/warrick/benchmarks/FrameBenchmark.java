@@ -0,0 +1,120 @@
+package br.com.warrick.benchmarks;
+
+import br.com.warrick.swing.WAnimator;
+import br.com.warrick.swing.WVirtualClock;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JComponent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mede o custo de um quadro de animação de cada componente W: avanço dos slots pelo {@link WAnimator} e pintura do
+ * componente no progresso resultante.
+ *
+ * <p>
+ * O tempo das animações vem de um {@link WVirtualClock}, então cada operação percorre exatamente a mesma sequência de
+ * quadros, sem esperar o tempo real. Cada operação é um ciclo de mouse e foco (entrar e ganhar o foco, sair e perder o
+ * foco) percorrido quadro a quadro até o fim das animações; o resultado é normalizado por quadro.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Dwswing.animation=full"})
+public class FrameBenchmark {
+    // ============================================ CONSTANTES ============================================
+
+    /** Quadros por transição: 300 ms a 60 quadros por segundo, arredondado para cima */
+    static final int QUADROS = 19;
+
+    // ============================================ PARÂMETROS ============================================
+
+    @Param({"WTextField", "WTextArea", "WPasswordField", "WComboBox", "WButton", "WCheckBox", "WLabel"})
+    public String componente;
+
+    // ============================================ ATRIBUTOS ============================================
+
+    private JComponent component;
+
+    private WVirtualClock clock;
+
+    private BufferedImage image;
+
+    private Graphics2D g2;
+
+    private Runnable ciclo;
+
+    // ============================================ CICLO DE VIDA ============================================
+
+    @Setup(Level.Trial)
+    public void setup() {
+        image = new BufferedImage(Componentes.LARGURA, Componentes.ALTURA, BufferedImage.TYPE_INT_ARGB);
+        g2 = image.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        Componentes.naEdt(() -> {
+            component = Componentes.criar(componente);
+            clock = new WVirtualClock();
+            WAnimator.setClock(clock);
+            WAnimator.setFrameRate(60);
+        });
+        ciclo = () -> {
+            Componentes.mouse(component, true);
+            Componentes.foco(component, true);
+            quadros();
+            Componentes.mouse(component, false);
+            Componentes.foco(component, false);
+            quadros();
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Componentes.naEdt(() -> WAnimator.setClock(null));
+        g2.dispose();
+    }
+
+    // ============================================ BENCHMARKS ============================================
+
+    /**
+     * Ciclo completo de entrada e saída, com {@value #QUADROS} quadros em cada sentido.
+     */
+    @Benchmark
+    @OperationsPerInvocation(2 * QUADROS)
+    public BufferedImage quadro() {
+        Componentes.naEdt(ciclo);
+        return image;
+    }
+
+    // ============================================ MÉTODOS ============================================
+
+    /**
+     * Gera e pinta os quadros de uma transição. Quadros além do fim da animação pintam o estado final, para que todo
+     * ciclo tenha a mesma quantidade de quadros.
+     */
+    private void quadros() {
+        for (int i = 0; i < QUADROS; i++) {
+            clock.frame();
+            component.paint(g2);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.warrick.benchmarks;
+
+import br.com.warrick.swing.WComboBox;
+import br.com.warrick.swing.WItemProvider;
+import java.awt.Dimension;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mede o custo de criar um {@link WComboBox} paginado, calcular seu tamanho e selecionar um item no meio da lista.
+ *
+ * <p>
+ * Com o modelo paginado o custo deve ser o mesmo para mil ou um milhão de itens.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class LazyComboBoxBenchmark {
+    // ============================================ PARÂMETROS ============================================
+
+    @Param({"1000", "1000000"})
+    public int itens;
+
+    // ============================================ BENCHMARKS ============================================
+
+    /**
+     * Cria o combo, mede o tamanho preferido e seleciona o item do meio.
+     */
+    @Benchmark
+    public Dimension abrir() {
+        Dimension[] tamanho = new Dimension[1];
+        Componentes.naEdt(() -> {
+            WComboBox<String> combo = new WComboBox<>("Cliente", WItemProvider.generated(itens, i -> "Cliente " + i));
+            combo.setSize(Componentes.LARGURA, Componentes.ALTURA);
+            tamanho[0] = combo.getPreferredSize();
+            combo.setSelectedIndex(itens / 2);
+        });
+        return tamanho[0];
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.warrick.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JComponent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mede o custo de pintar um quadro de cada componente W em um {@link BufferedImage}.
+ *
+ * <p>
+ * O estado {@code estavel} pinta o componente em repouso; o estado {@code animando} pinta com foco, mouse sobre o
+ * componente, mensagem de erro visível e todos os progressos de animação em 0.5, que é o caminho percorrido a cada
+ * quadro durante uma transição.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Dwswing.animation=full"})
+public class PaintBenchmark {
+    // ============================================ PARÂMETROS ============================================
+
+    @Param({"WTextField", "WTextArea", "WPasswordField", "WComboBox", "WButton", "WCheckBox", "WLabel"})
+    public String componente;
+
+    @Param({"estavel", "animando"})
+    public String estado;
+
+    // ============================================ ATRIBUTOS ============================================
+
+    private JComponent component;
+
+    private BufferedImage image;
+
+    private Graphics2D g2;
+
+    // ============================================ CICLO DE VIDA ============================================
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Componentes.naEdt(() -> component = Componentes.criar(componente));
+        if ("animando".equals(estado)) {
+            Componentes.colocarEmAnimacao(component);
+        }
+        image = new BufferedImage(Componentes.LARGURA, Componentes.ALTURA, BufferedImage.TYPE_INT_ARGB);
+        g2 = image.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        g2.dispose();
+    }
+
+    // ============================================ BENCHMARKS ============================================
+
+    /**
+     * Pinta um quadro completo do componente (fundo, borda, texto, rótulo, linha e mensagem).
+     */
+    @Benchmark
+    public BufferedImage paint() {
+        component.paint(g2);
+        return image;
+    }
+}
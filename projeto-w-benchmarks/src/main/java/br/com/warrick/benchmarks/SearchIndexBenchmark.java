@@ -0,0 +1,128 @@
+package br.com.warrick.benchmarks;
+
+import br.com.warrick.swing.WSearchIndex;
+import java.util.concurrent.TimeUnit;
+import javax.swing.DefaultListModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mede o custo por tecla do filtro por digitação do {@code WComboBox}: cada operação de {@link #digitar()} é uma
+ * das buscas feitas ao digitar {@value #CONSULTA} caractere a caractere, com o índice completo.
+ *
+ * <p>
+ * Os demais benchmarks medem o que a digitação sobre um índice pronto esconde: a primeira tecla antes de qualquer
+ * indexação, a indexação completa que o timer distribui em blocos e uma edição do modelo seguida de busca.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SearchIndexBenchmark {
+    // ============================================ CONSTANTES ============================================
+
+    /** Texto digitado */
+    static final String CONSULTA = "sao paulo 12";
+
+    /** Cidades usadas para gerar os itens */
+    private static final String[] CIDADES = {"São Paulo", "Rio de Janeiro", "Belo Horizonte", "Curitiba",
+            "Porto Alegre", "Salvador", "Recife", "Fortaleza"};
+
+    // ============================================ PARÂMETROS ============================================
+
+    @Param({"10000", "500000"})
+    public int itens;
+
+    // ============================================ ATRIBUTOS ============================================
+
+    /** Modelo com os itens */
+    private DefaultListModel<String> model;
+
+    /** Índice completo do modelo */
+    private WSearchIndex index;
+
+    /** Posição das edições, no meio da lista */
+    private int meio;
+
+    // ============================================ CICLO DE VIDA ============================================
+
+    @Setup(Level.Trial)
+    public void setup() {
+        model = new DefaultListModel<>();
+        for (int i = 0; i < itens; i++) {
+            model.addElement(CIDADES[i % CIDADES.length] + " " + i);
+        }
+        index = new WSearchIndex(model);
+        index.indexChunk(Long.MAX_VALUE);
+        meio = itens / 2;
+    }
+
+    // ============================================ BENCHMARKS ============================================
+
+    /**
+     * Digita a consulta inteira, uma busca por caractere, como no popup.
+     */
+    @Benchmark
+    @OperationsPerInvocation(12)
+    public int digitar() {
+        int total = 0;
+        for (int i = 1; i <= CONSULTA.length(); i++) {
+            total += index.search(CONSULTA.substring(0, i)).length;
+        }
+        return total;
+    }
+
+    /**
+     * Primeira tecla com o índice recém-criado, antes de qualquer bloco de indexação: a busca percorre todos os
+     * itens. É o pior caso, quando a digitação começa antes de a indexação em segundo plano terminar.
+     */
+    @Benchmark
+    public int primeiraTecla() {
+        WSearchIndex novo = new WSearchIndex(model);
+        int total = novo.search(CONSULTA.substring(0, 1)).length;
+        novo.dispose();
+        return total;
+    }
+
+    /**
+     * Indexação completa de um índice novo, o trabalho que o timer distribui em blocos de alguns milissegundos.
+     */
+    @Benchmark
+    public int indexar() {
+        WSearchIndex novo = new WSearchIndex(model);
+        novo.indexChunk(Long.MAX_VALUE);
+        int total = novo.size();
+        novo.dispose();
+        return total;
+    }
+
+    /**
+     * Inserção no meio da lista seguida de busca, e remoção do item seguida de nova busca: o índice desloca as
+     * posições registradas em vez de ser reconstruído.
+     */
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public int editarEBuscar() {
+        model.add(meio, "Campinas " + meio);
+        int total = index.search(CONSULTA).length;
+        model.remove(meio);
+        return total + index.search(CONSULTA).length;
+    }
+}
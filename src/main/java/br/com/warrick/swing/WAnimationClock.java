@@ -0,0 +1,28 @@
+package br.com.warrick.swing;
+
+/**
+ * Relógio que marca o tempo das animações e das mensagens temporizadas dos componentes W.
+ *
+ * <p>
+ * O relógio padrão é {@link #SYSTEM}, em que {@link WAnimator} gera os quadros com um {@code Timer} do Swing. Com
+ * qualquer outro relógio, instalado por {@link WAnimator#setClock(WAnimationClock)}, o timer fica desligado e os
+ * quadros só avançam quando quem controla o relógio chama {@link WAnimator#frame()}, como faz o
+ * {@link WVirtualClock}.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+@FunctionalInterface
+public interface WAnimationClock {
+
+    /** Relógio do sistema, com os quadros gerados pelo timer do {@link WAnimator} */
+    WAnimationClock SYSTEM = System::nanoTime;
+
+    /**
+     * Retorna o instante atual. Apenas a diferença entre dois instantes tem significado.
+     *
+     * @return Instante em nanossegundos
+     */
+    long nanoTime();
+}
@@ -0,0 +1,26 @@
+package br.com.warrick.swing;
+
+/**
+ * Política de animação da biblioteca, aplicada por {@link WAnimator} a todos os componentes W.
+ *
+ * <p>
+ * A política inicial vem da propriedade de sistema {@value WAnimator#POLICY_PROPERTY} ({@code full}, {@code reduced}
+ * ou {@code none}); sem a propriedade, ambientes headless usam {@link #NONE} e os demais {@link #FULL}. Com um
+ * relógio manual instalado, como o {@link WVirtualClock}, o padrão é sempre {@link #FULL}. Em tempo de execução, use
+ * {@link WAnimator#setPolicy(WAnimationPolicy)}.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public enum WAnimationPolicy {
+
+    /** Animações completas, com a duração definida por cada componente */
+    FULL,
+
+    /** Animações encurtadas para um terço da duração, para usuários sensíveis a movimento ou sessões remotas */
+    REDUCED,
+
+    /** Sem animação: as propriedades vão direto ao valor final, com uma única repintura */
+    NONE
+}
@@ -0,0 +1,752 @@
+package br.com.warrick.swing;
+
+import java.awt.Frame;
+import java.awt.GraphicsEnvironment;
+import java.awt.Rectangle;
+import java.awt.Window;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import org.pushingpixels.trident.ease.Spline;
+import org.pushingpixels.trident.ease.TimelineEase;
+
+/**
+ * Motor de animação compartilhado por todos os componentes W.
+ *
+ * <p>
+ * Em vez de criar uma {@code Timeline} a cada evento de foco ou hover, cada componente reserva na construção os seus
+ * {@link Slot slots} de animação e apenas os redireciona para um novo valor alvo. Um único {@link Timer} do Swing
+ * gera o pulso de todos os slots ativos, sempre na EDT, e ao final de cada quadro cada componente alterado é pintado
+ * uma única vez.</p>
+ *
+ * <p>
+ * Um slot criado com uma {@link Region região} pinta apenas a faixa do componente onde a propriedade animada é
+ * desenhada (linha inferior, rótulo, mensagem); as faixas de um mesmo componente são unidas no quadro.</p>
+ *
+ * <p>
+ * O pulso é limitado por {@link #setFrameRate(int)}. Cada quadro é pintado janela por janela e o tempo de pintura de
+ * cada janela é comparado ao orçamento de quadro ({@link #setFrameBudget(int)}). Uma janela que estoura o orçamento
+ * pula os quadros seguintes, proporcionalmente ao excesso, e as animações iniciadas nela ficam mais curtas até que a
+ * pintura volte a caber no orçamento. Os valores seguem o relógio, então quadros pulados não atrasam a animação.</p>
+ *
+ * <p>
+ * A {@link WAnimationPolicy política de animação} vale para todos os slots: com {@link WAnimationPolicy#NONE} o slot
+ * leva a propriedade direto ao valor final, sem timer nem curva de aceleração.</p>
+ *
+ * <p>
+ * Componentes fora da tela (aba oculta, painel recolhido, janela minimizada) não gastam tempo da EDT: uma animação
+ * pedida para eles vai direto ao valor final, e uma animação em andamento termina no próximo pulso assim que o
+ * componente deixa de ser exibido.</p>
+ *
+ * <p>
+ * O tempo vem do {@link WAnimationClock relógio de animação}. Com um relógio diferente de
+ * {@link WAnimationClock#SYSTEM}, como o {@link WVirtualClock} de testes e benchmarks, o timer fica desligado e cada
+ * quadro é gerado por {@link #frame()}; nesse modo as animações rodam também fora da tela e nenhuma janela pula
+ * quadros, para que o resultado dependa apenas dos avanços do relógio. O relógio manual também ignora o padrão
+ * {@link WAnimationPolicy#NONE} dos ambientes headless, onde rodam testes e benchmarks; uma política vinda da
+ * propriedade de sistema ou de {@link #setPolicy(WAnimationPolicy)} continua valendo.</p>
+ *
+ * <p>
+ * Todos os métodos devem ser chamados na Event Dispatch Thread.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public final class WAnimator {
+    // ============================================ CONSTANTES ============================================
+
+    /** Intervalo em milissegundos entre dois pulsos (aproximadamente 60 quadros por segundo) */
+    public static final int FRAME_INTERVAL = 16;
+
+    /** Propriedade de sistema com o limite inicial de quadros por segundo */
+    public static final String FPS_PROPERTY = "wswing.animation.fps";
+
+    /** Limite máximo de quadros por segundo aceito por {@link #setFrameRate(int)} */
+    public static final int MAX_FRAME_RATE = 240;
+
+    /** Quantidade máxima de quadros seguidos que uma janela acima do orçamento pode pular */
+    private static final int MAX_SKIP = 4;
+
+    /** Curva de aceleração padrão dos componentes, compartilhada por todos os slots */
+    public static final TimelineEase SPLINE = new Spline(0.5f);
+
+    /** Propriedade de sistema com a política inicial de animação ({@code full}, {@code reduced} ou {@code none}) */
+    public static final String POLICY_PROPERTY = "wswing.animation";
+
+    /** Divisor da duração das animações na política {@link WAnimationPolicy#REDUCED} */
+    private static final int REDUCED_FACTOR = 3;
+
+    /** Região vazia, para slots cujo destino já agenda a própria repintura */
+    public static final Region NO_REPAINT = r -> r.setBounds(0, 0, 0, 0);
+
+    /** Instância única do motor */
+    private static final WAnimator INSTANCE = new WAnimator();
+
+    // ============================================ ATRIBUTOS ============================================
+
+    /** Timer que gera o pulso de todos os slots ativos */
+    private final Timer pulse;
+
+    /** Slots com animação em andamento */
+    private final ArrayList<Slot> active = new ArrayList<>();
+
+    /** Componentes alterados e ainda não pintados, na mesma ordem de {@link #areas} */
+    private final ArrayList<JComponent> owners = new ArrayList<>();
+
+    /** Área alterada de cada componente; os retângulos são reaproveitados entre quadros */
+    private final ArrayList<Rectangle> areas = new ArrayList<>();
+
+    /** Quantidade de entradas válidas em {@link #owners} e {@link #areas} */
+    private int pending;
+
+    /** Janela de cada componente pendente, calculada a cada quadro */
+    private final ArrayList<Window> windows = new ArrayList<>();
+
+    /** Orçamento de cada janela; janelas descartadas são liberadas pelo coletor */
+    private final Map<Window, Budget> budgets = new WeakHashMap<>();
+
+    /** Limite de quadros por segundo */
+    private int frameRate = initialFrameRate();
+
+    /** Orçamento de quadro em milissegundos, ou 0 para usar o intervalo entre pulsos */
+    private int frameBudget;
+
+    /** Política de animação definida, ou null para o padrão do ambiente */
+    private WAnimationPolicy policy = initialPolicy();
+
+    /** Relógio das animações */
+    private WAnimationClock clock = WAnimationClock.SYSTEM;
+
+    /** Instante do último pulso do timer, ou 0 com o timer parado */
+    private long lastTick;
+
+    /** Retângulo de trabalho das regiões; o {@code RepaintManager} copia os valores, então pode ser reaproveitado */
+    private final Rectangle scratch = new Rectangle();
+
+    // ============================================ CONSTRUTORES ============================================
+
+    private WAnimator() {
+        pulse = new Timer(1000 / frameRate, e -> tick());
+        pulse.setCoalesce(true);
+    }
+
+    // ============================================ MÉTODOS PÚBLICOS ============================================
+
+    /**
+     * Cria um slot de animação reutilizável para o componente informado.
+     *
+     * @param owner Componente que será repintado quando o valor mudar
+     * @param setter Destino dos valores interpolados (normalmente a atribuição de um campo)
+     * @param duration Duração da animação em milissegundos
+     * @param ease Curva de aceleração, ou {@code null} para interpolação linear
+     * @return Slot pronto para uso
+     */
+    public static Slot slot(JComponent owner, FloatSetter setter, int duration, TimelineEase ease) {
+        return new Slot(owner, setter, duration, ease, null);
+    }
+
+    /**
+     * Cria um slot de animação que repinta apenas a região informada do componente a cada quadro.
+     *
+     * @param owner Componente que será repintado quando o valor mudar
+     * @param setter Destino dos valores interpolados (normalmente a atribuição de um campo)
+     * @param duration Duração da animação em milissegundos
+     * @param ease Curva de aceleração, ou {@code null} para interpolação linear
+     * @param region Região do componente afetada pela propriedade, em todo o seu percurso
+     * @return Slot pronto para uso
+     */
+    public static Slot slot(JComponent owner, FloatSetter setter, int duration, TimelineEase ease, Region region) {
+        return new Slot(owner, setter, duration, ease, region);
+    }
+
+    /**
+     * Repinta apenas a região informada do componente.
+     *
+     * @param owner Componente a repintar
+     * @param region Região afetada
+     */
+    public static void repaint(JComponent owner, Region region) {
+        Rectangle r = INSTANCE.scratch;
+        region.bounds(r);
+        if (!r.isEmpty()) {
+            owner.repaint(r.x, r.y, r.width, r.height);
+        }
+    }
+
+    /**
+     * Retorna a política de animação atual.
+     *
+     * @return Política em vigor
+     */
+    public static WAnimationPolicy getPolicy() {
+        return policy();
+    }
+
+    /**
+     * Define a política de animação de todos os componentes. Ao mudar para {@link WAnimationPolicy#NONE}, as
+     * animações em andamento terminam imediatamente no valor final.
+     *
+     * @param policy Nova política, ou {@code null} para voltar à política inicial
+     */
+    public static void setPolicy(WAnimationPolicy policy) {
+        INSTANCE.policy = policy != null ? policy : initialPolicy();
+        if (policy() == WAnimationPolicy.NONE) {
+            // O próximo pulso descarta os slots parados e desliga o timer
+            for (int i = 0, n = INSTANCE.active.size(); i < n; i++) {
+                Slot slot = INSTANCE.active.get(i);
+                if (slot.running) {
+                    slot.snap(slot.to);
+                }
+            }
+        }
+    }
+
+    /**
+     * Converte a duração de uma animação segundo a política atual, para temporizações ligadas a ela (como a limpeza
+     * de uma mensagem ao final da animação de saída).
+     *
+     * @param duration Duração em milissegundos na política {@link WAnimationPolicy#FULL}
+     * @return Duração efetiva em milissegundos
+     */
+    public static int duration(int duration) {
+        switch (policy()) {
+            case NONE:
+                return 0;
+            case REDUCED:
+                return duration / REDUCED_FACTOR;
+            default:
+                return duration;
+        }
+    }
+
+    /**
+     * Limita a quantidade de quadros por segundo de todas as animações.
+     *
+     * @param fps Quadros por segundo, entre 1 e {@value #MAX_FRAME_RATE} (ex: 30, 60, 120)
+     */
+    public static void setFrameRate(int fps) {
+        INSTANCE.frameRate = Math.max(1, Math.min(MAX_FRAME_RATE, fps));
+        int delay = 1000 / INSTANCE.frameRate;
+        INSTANCE.pulse.setDelay(delay);
+        INSTANCE.pulse.setInitialDelay(delay);
+    }
+
+    /**
+     * Retorna o limite atual de quadros por segundo.
+     *
+     * @return Quadros por segundo
+     */
+    public static int getFrameRate() {
+        return INSTANCE.frameRate;
+    }
+
+    /**
+     * Define o tempo máximo de pintura de um quadro em cada janela. Acima dele, a janela pula quadros e encurta as
+     * animações que iniciar.
+     *
+     * @param millis Orçamento em milissegundos, ou 0 para usar o intervalo entre quadros
+     */
+    public static void setFrameBudget(int millis) {
+        INSTANCE.frameBudget = Math.max(0, millis);
+    }
+
+    /**
+     * Retorna o orçamento de quadro de cada janela.
+     *
+     * @return Orçamento em milissegundos
+     */
+    public static int getFrameBudget() {
+        return INSTANCE.frameBudget > 0 ? INSTANCE.frameBudget : INSTANCE.pulse.getDelay();
+    }
+
+    /**
+     * Retorna o relógio das animações.
+     *
+     * @return Relógio em uso
+     */
+    public static WAnimationClock getClock() {
+        return INSTANCE.clock;
+    }
+
+    /**
+     * Define o relógio das animações e das mensagens temporizadas. As animações em andamento terminam imediatamente
+     * no valor final, e as mensagens pendentes mantêm o tempo que faltava no relógio anterior.
+     *
+     * @param clock Novo relógio, ou {@code null} para voltar a {@link WAnimationClock#SYSTEM}
+     */
+    public static void setClock(WAnimationClock clock) {
+        WAnimationClock next = clock != null ? clock : WAnimationClock.SYSTEM;
+        if (next == INSTANCE.clock) {
+            return;
+        }
+        long before = now();
+        for (int i = 0, n = INSTANCE.active.size(); i < n; i++) {
+            Slot slot = INSTANCE.active.get(i);
+            if (slot.running) {
+                slot.snap(slot.to);
+            }
+        }
+        INSTANCE.clock = next;
+        INSTANCE.lastTick = 0;
+        WMessageScheduler.rebase((now() - before) / 1_000_000L);
+        if (!manual()) {
+            // O próximo pulso descarta os slots parados e pinta as áreas pendentes
+            INSTANCE.pulse.start();
+        } else {
+            INSTANCE.pulse.stop();
+        }
+    }
+
+    /**
+     * Gera um quadro no instante atual do relógio: avança os slots ativos, pinta os componentes alterados e executa
+     * as mensagens temporizadas vencidas. Com o relógio {@link WAnimationClock#SYSTEM} o timer já faz isso.
+     *
+     * @return Tempo real gasto no quadro, em nanossegundos
+     */
+    public static long frame() {
+        long start = System.nanoTime();
+        INSTANCE.tick();
+        WMessageScheduler.runDue();
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Retorna a quantidade de slots com animação em andamento.
+     *
+     * @return Número de slots ativos
+     */
+    public static int getActiveCount() {
+        return INSTANCE.active.size();
+    }
+
+    // ============================================ MÉTODOS PRIVADOS ============================================
+
+    /**
+     * Instante atual do relógio das animações, em nanossegundos.
+     */
+    static long now() {
+        return INSTANCE.clock.nanoTime();
+    }
+
+    /**
+     * Indica se os quadros são gerados manualmente, por um relógio diferente de {@link WAnimationClock#SYSTEM}.
+     */
+    static boolean manual() {
+        return INSTANCE.clock != WAnimationClock.SYSTEM;
+    }
+
+    /**
+     * Indica se o componente está na tela: exibido e em uma janela que não está minimizada. Com o relógio manual,
+     * todo componente é tratado como visível.
+     */
+    private static boolean onScreen(JComponent c) {
+        if (manual()) {
+            return true;
+        }
+        if (!c.isShowing()) {
+            return false;
+        }
+        Window window = SwingUtilities.getWindowAncestor(c);
+        return !(window instanceof Frame) || (((Frame) window).getExtendedState() & Frame.ICONIFIED) == 0;
+    }
+
+    /**
+     * Limite de quadros por segundo definido pela propriedade de sistema, ou 60 ({@link #FRAME_INTERVAL}).
+     */
+    private static int initialFrameRate() {
+        String value = System.getProperty(FPS_PROPERTY);
+        if (value != null) {
+            try {
+                return Math.max(1, Math.min(MAX_FRAME_RATE, Integer.parseInt(value.trim())));
+            } catch (NumberFormatException e) {
+                // Valor inválido: segue o padrão
+            }
+        }
+        return 60;
+    }
+
+    /**
+     * Indica se a janela do componente está acima do orçamento de quadro, o que encurta as animações iniciadas nela.
+     */
+    private boolean degraded(JComponent c) {
+        if (manual()) {
+            return false;
+        }
+        Budget budget = budgets.get(SwingUtilities.getWindowAncestor(c));
+        return budget != null && budget.degraded;
+    }
+
+    /**
+     * Política definida pela propriedade de sistema, ou null sem ela para seguir o padrão do ambiente.
+     */
+    private static WAnimationPolicy initialPolicy() {
+        String value = System.getProperty(POLICY_PROPERTY);
+        if (value != null) {
+            try {
+                return WAnimationPolicy.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                // Valor desconhecido: segue o padrão do ambiente
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Política em vigor. Sem política definida, {@link WAnimationPolicy#NONE} em ambientes headless, exceto com um
+     * relógio manual: quem instala o relógio quer ver os quadros intermediários.
+     */
+    private static WAnimationPolicy policy() {
+        WAnimationPolicy policy = INSTANCE.policy;
+        if (policy != null) {
+            return policy;
+        }
+        return GraphicsEnvironment.isHeadless() && !manual() ? WAnimationPolicy.NONE : WAnimationPolicy.FULL;
+    }
+
+    /**
+     * Registra um slot no pulso, iniciando o timer se necessário.
+     */
+    private void schedule(Slot slot) {
+        active.add(slot);
+        if (!manual() && !pulse.isRunning()) {
+            pulse.start();
+        }
+    }
+
+    /**
+     * Avança todos os slots ativos e pinta uma única vez cada componente alterado.
+     */
+    private void tick() {
+        long now = clock.nanoTime();
+        int slots = active.size();
+
+        // Pulsos atrasados (EDT ocupada) contam como quadros perdidos
+        int late = 0;
+        if (!manual()) {
+            if (lastTick != 0) {
+                late = (int) Math.max(0, (now - lastTick) / (pulse.getDelay() * 1_000_000L) - 1);
+            }
+            lastTick = now;
+        }
+        WMetrics.frame(slots, late);
+
+        int alive = 0;
+        for (int i = 0, n = active.size(); i < n; i++) {
+            Slot slot = active.get(i);
+            if (slot.running && !onScreen(slot.owner)) {
+                // Sem repintura: o componente será pintado por inteiro ao voltar para a tela
+                slot.running = false;
+                slot.setter.set(slot.to);
+            } else if (slot.running) {
+                slot.advance(now);
+                mark(slot.owner, slot.region);
+            }
+            if (slot.running) {
+                active.set(alive++, slot);
+            } else {
+                slot.scheduled = false;
+            }
+        }
+        for (int i = active.size() - 1; i >= alive; i--) {
+            active.remove(i);
+        }
+
+        paintFrame();
+
+        if (active.isEmpty() && pending == 0) {
+            pulse.stop();
+            lastTick = 0;
+        }
+    }
+
+    /**
+     * Acrescenta a região do slot à área pendente do componente.
+     */
+    private void mark(JComponent owner, Region region) {
+        Rectangle r = scratch;
+        if (region != null) {
+            region.bounds(r);
+            if (r.isEmpty()) {
+                return;
+            }
+        } else {
+            r.setBounds(0, 0, owner.getWidth(), owner.getHeight());
+        }
+        for (int i = 0; i < pending; i++) {
+            if (owners.get(i) == owner) {
+                areas.get(i).add(r);
+                return;
+            }
+        }
+        if (pending == areas.size()) {
+            owners.add(owner);
+            areas.add(new Rectangle(r));
+            windows.add(null);
+        } else {
+            owners.set(pending, owner);
+            areas.get(pending).setBounds(r);
+        }
+        pending++;
+    }
+
+    /**
+     * Pinta as áreas pendentes janela por janela, medindo o tempo de cada uma. Janelas acima do orçamento pulam os
+     * quadros seguintes e mantêm as suas áreas pendentes até o próximo quadro pintado.
+     */
+    private void paintFrame() {
+        for (int i = 0; i < pending; i++) {
+            windows.set(i, SwingUtilities.getWindowAncestor(owners.get(i)));
+        }
+        long budgetNanos = getFrameBudget() * 1_000_000L;
+        long intervalNanos = pulse.getDelay() * 1_000_000L;
+
+        // As áreas mantidas para o próximo quadro ficam no início da lista, em [0, kept)
+        int kept = 0;
+        for (int i = 0; i < pending; i++) {
+            JComponent owner = owners.get(i);
+            if (i < kept || owner == null) {
+                continue;
+            }
+            Window window = windows.get(i);
+            if (window == null) {
+                owners.set(i, null);
+                continue;
+            }
+            Budget budget = budgets.computeIfAbsent(window, w -> new Budget());
+            if (budget.skip > 0 && !manual()) {
+                budget.skip--;
+                WMetrics.dropped(1);
+                for (int j = i; j < pending; j++) {
+                    if (windows.get(j) == window && owners.get(j) != null) {
+                        keep(j, kept++);
+                    }
+                }
+                continue;
+            }
+
+            long start = System.nanoTime();
+            for (int j = i; j < pending; j++) {
+                JComponent c = owners.get(j);
+                if (c != null && windows.get(j) == window) {
+                    c.paintImmediately(areas.get(j));
+                    owners.set(j, null);
+                }
+            }
+            long cost = System.nanoTime() - start;
+
+            if (manual()) {
+                // Relógio manual: todo quadro é pintado, sem depender do tempo real de pintura
+                continue;
+            }
+            if (cost > budgetNanos) {
+                budget.degraded = true;
+                budget.skip = (int) Math.min(MAX_SKIP, cost / intervalNanos);
+            } else if (cost <= budgetNanos / 2) {
+                budget.degraded = false;
+            }
+        }
+        for (int i = kept; i < pending; i++) {
+            owners.set(i, null);
+            windows.set(i, null);
+        }
+        pending = kept;
+    }
+
+    /**
+     * Troca a área pendente da posição {@code from} com a da posição {@code to}, no início da lista, sem alocar.
+     */
+    private void keep(int from, int to) {
+        JComponent owner = owners.get(from);
+        Window window = windows.get(from);
+        Rectangle area = areas.get(from);
+        owners.set(from, owners.get(to));
+        owners.set(to, owner);
+        areas.set(from, areas.get(to));
+        areas.set(to, area);
+        windows.set(from, windows.get(to));
+        windows.set(to, window);
+    }
+
+    // ============================================ TIPOS INTERNOS ============================================
+
+    /**
+     * Destino de um valor interpolado.
+     */
+    @FunctionalInterface
+    public interface FloatSetter {
+
+        /**
+         * Recebe o novo valor da animação.
+         *
+         * @param value Valor interpolado
+         */
+        void set(float value);
+    }
+
+    /**
+     * Região de um componente afetada por uma propriedade animada.
+     */
+    @FunctionalInterface
+    public interface Region {
+
+        /**
+         * Preenche o retângulo com a região, em coordenadas do componente.
+         *
+         * @param r Retângulo a preencher
+         */
+        void bounds(Rectangle r);
+    }
+
+    /**
+     * Estado do orçamento de quadro de uma janela.
+     */
+    private static final class Budget {
+
+        /** Quadros que a janela ainda deve pular */
+        int skip;
+
+        /** Indica se o último quadro pintado estourou o orçamento */
+        boolean degraded;
+    }
+
+    /**
+     * Slot de animação de uma única propriedade de um componente.
+     *
+     * <p>
+     * O slot é criado uma vez e reaproveitado: chamar {@link #animate(float, float)} durante uma animação em andamento
+     * apenas redireciona o slot para o novo alvo, sem empilhar animações.</p>
+     */
+    public static final class Slot {
+
+        /** Componente dono do slot */
+        private final JComponent owner;
+
+        /** Destino dos valores interpolados */
+        private final FloatSetter setter;
+
+        /** Curva de aceleração ({@code null} para linear) */
+        private final TimelineEase ease;
+
+        /** Região repintada a cada quadro ({@code null} para o componente inteiro) */
+        private final Region region;
+
+        /** Duração da animação em milissegundos, na política {@link WAnimationPolicy#FULL} */
+        private final int duration;
+
+        /** Duração da animação atual em nanossegundos, já ajustada pela política */
+        private long durationNanos;
+
+        /** Valor inicial da animação atual */
+        private float from;
+
+        /** Valor alvo da animação atual */
+        private float to;
+
+        /** Instante de início da animação atual */
+        private long start;
+
+        /** Indica se a animação está em andamento */
+        private boolean running;
+
+        /** Indica se o slot está registrado no pulso */
+        private boolean scheduled;
+
+        private Slot(JComponent owner, FloatSetter setter, int duration, TimelineEase ease, Region region) {
+            this.owner = owner;
+            this.setter = setter;
+            this.ease = ease;
+            this.region = region;
+            this.duration = duration;
+        }
+
+        /**
+         * Anima a propriedade do valor atual até o alvo. Se a propriedade já estiver no alvo, ou se já houver uma
+         * animação em andamento para o mesmo alvo, nada é feito; para outro alvo, a animação é redirecionada a partir
+         * do valor atual. Com a política {@link WAnimationPolicy#NONE}, ou com o componente fora da tela, a
+         * propriedade vai direto ao alvo.
+         *
+         * @param current Valor atual da propriedade
+         * @param target Valor final desejado
+         */
+        public void animate(float current, float target) {
+            if (running ? to == target : current == target) {
+                return;
+            }
+            if (policy() == WAnimationPolicy.NONE || !onScreen(owner)) {
+                snap(target);
+                return;
+            }
+            from = current;
+            to = target;
+            start = INSTANCE.clock.nanoTime();
+            durationNanos = duration(duration) * 1_000_000L;
+            if (INSTANCE.degraded(owner)) {
+                // Janela acima do orçamento: metade dos quadros para a mesma transição
+                durationNanos /= 2;
+            }
+            running = true;
+            if (!scheduled) {
+                scheduled = true;
+                INSTANCE.schedule(this);
+            }
+        }
+
+        /**
+         * Leva a propriedade direto ao valor final e repinta o componente uma única vez.
+         */
+        private void snap(float target) {
+            to = target;
+            running = false;
+            setter.set(target);
+            if (region != null) {
+                repaint(owner, region);
+            } else {
+                owner.repaint();
+            }
+        }
+
+        /**
+         * Interrompe a animação em andamento, mantendo o valor atual.
+         */
+        public void abort() {
+            running = false;
+        }
+
+        /**
+         * Indica se há uma animação em andamento.
+         *
+         * @return true se o slot estiver animando
+         */
+        public boolean isRunning() {
+            return running;
+        }
+
+        /**
+         * Retorna o valor alvo da última animação.
+         *
+         * @return Valor alvo
+         */
+        public float getTarget() {
+            return to;
+        }
+
+        /**
+         * Calcula e aplica o valor do quadro atual.
+         */
+        private void advance(long now) {
+            float fraction = durationNanos <= 0 ? 1f : Math.min(1f, (float) (now - start) / durationNanos);
+            if (fraction >= 1f) {
+                setter.set(to);
+                running = false;
+                return;
+            }
+            float eased = ease != null ? ease.map(fraction) : fraction;
+            setter.set(from + (to - from) * eased);
+        }
+    }
+}
@@ -5,15 +5,12 @@ import java.awt.Cursor;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.awt.geom.Rectangle2D;
 import javax.swing.JButton;
-import javax.swing.UIManager;
 import javax.swing.border.EmptyBorder;
-import org.pushingpixels.trident.Timeline;
-import org.pushingpixels.trident.ease.Spline;
 
 /**
  * Componente de botão personalizado com animações suaves e estilo minimalista.
@@ -82,6 +79,19 @@ public class WButton extends JButton {
     /** Fator de escala máximo do texto (1.0 = normal, 1.10 = 10% maior) */
     protected static final float MAX_TEXT_SCALE = 1.10f;
 
+    /** Paleta de cores do tema compartilhada por todas as instâncias */
+    private static final WPalette PALETTE = WPalette.of(WButton.class);
+
+    /** Borda com os espaçamentos internos, compartilhada por todas as instâncias */
+    private static final EmptyBorder DEFAULT_BORDER =
+            new EmptyBorder(PADDING_TOP, PADDING_LEFT, PADDING_BOTTOM, PADDING_RIGHT);
+
+    /** Cursor de mão compartilhado */
+    private static final Cursor HAND_CURSOR = Cursor.getPredefinedCursor(Cursor.HAND_CURSOR);
+
+    /** Listener de mouse compartilhado por todas as instâncias */
+    private static final Handler HANDLER = new Handler();
+
     // ============================================ ATRIBUTOS ============================================
 
     /** Localização atual da animação da linha (0.0 a 1.0) */
@@ -105,11 +115,13 @@ public class WButton extends JButton {
     /** Cor do texto quando o botão está pressionado */
     protected Color pressedTextColor = DEFAULT_PRESSED_TEXT_COLOR;
 
-    /** Controlador de animação para transições suaves da linha */
-    protected Timeline lineTimeline;
+    /** Slot de animação para transições suaves da linha; repinta apenas a faixa da linha */
+    protected final WAnimator.Slot lineAnimation =
+            WAnimator.slot(this, v -> lineAnimationProgress = v, ANIMATION_DURATION, WAnimator.SPLINE, this::lineBand);
 
-    /** Controlador de animação para o efeito de zoom do texto */
-    protected Timeline textTimeline;
+    /** Slot de animação para o efeito de zoom do texto */
+    protected final WAnimator.Slot textAnimation =
+            WAnimator.slot(this, v -> textScaleProgress = v, ANIMATION_DURATION, WAnimator.SPLINE);
 
     // ============================================ CONSTRUTORES ============================================
 
@@ -140,12 +152,7 @@ public class WButton extends JButton {
      * @return Cor do tema ou cor padrão
      */
     protected Color getThemeColor(String key, Color defaultColor) {
-        try {
-            Color color = UIManager.getColor(key);
-            return color != null ? color : defaultColor;
-        } catch (Exception e) {
-            return defaultColor;
-        }
+        return PALETTE.get(key, defaultColor);
     }
 
     /**
@@ -153,53 +160,43 @@ public class WButton extends JButton {
      */
     private void setupButton() {
         // Configuração de borda e cores
-        setBorder(new EmptyBorder(PADDING_TOP, PADDING_LEFT, PADDING_BOTTOM, PADDING_RIGHT));
+        setBorder(DEFAULT_BORDER);
         setBackground(getThemeColor("WButton.bgColor", DEFAULT_BG_COLOR));
         setForeground(getThemeColor("WButton.textColor", DEFAULT_TEXT_COLOR));
         setOpaque(false);
         setFocusPainted(false);
         setBorderPainted(false);
         setContentAreaFilled(false);
-        setCursor(new Cursor(Cursor.HAND_CURSOR));
+        setCursor(HAND_CURSOR);
         
         // Inicializa as cores do tema
         lineColor = getThemeColor("WButton.lineColor", DEFAULT_LINE_COLOR);
         hoverColor = getThemeColor("WButton.hoverColor", DEFAULT_HOVER_COLOR);
 
-        // Configura os listeners de mouse
-        addMouseListener(new MouseAdapter() {
-            @Override
-            public void mouseEntered(MouseEvent me) {
-                mouseOver = true;
-                animateLine(true);
-                animateText(true);
-            }
-
-            @Override
-            public void mouseExited(MouseEvent me) {
-                mouseOver = false;
-                if (!pressed) {
-                    animateLine(false);
-                    animateText(false);
-                }
-            }
+        // Listener de mouse compartilhado
+        addMouseListener(HANDLER);
+    }
 
-            @Override
-            public void mousePressed(MouseEvent me) {
-                pressed = true;
-                animateLine(true);
-                animateText(true);
-            }
+    /**
+     * Anima a linha e o texto quando o mouse entra ou sai do botão.
+     */
+    private void mouseAlterado(boolean sobre) {
+        mouseOver = sobre;
+        if (sobre || !pressed) {
+            animateLine(sobre);
+            animateText(sobre);
+        }
+    }
 
-            @Override
-            public void mouseReleased(MouseEvent me) {
-                pressed = false;
-                if (!mouseOver) {
-                    animateLine(false);
-                    animateText(false);
-                }
-            }
-        });
+    /**
+     * Anima a linha e o texto quando o botão é pressionado ou solto.
+     */
+    private void pressionadoAlterado(boolean pressionado) {
+        pressed = pressionado;
+        if (pressionado || !mouseOver) {
+            animateLine(pressionado);
+            animateText(pressionado);
+        }
     }
 
     // ============================================ MÉTODOS DE ANIMAÇÃO ============================================
@@ -210,17 +207,7 @@ public class WButton extends JButton {
      * @param show Se verdadeiro, expande a linha; se falso, retrai
      */
     private void animateLine(boolean show) {
-        if (lineTimeline != null && !lineTimeline.isDone()) {
-            lineTimeline.abort();
-        }
-
-        lineTimeline = new Timeline(this);
-        lineTimeline.addPropertyToInterpolate("lineAnimationProgress",
-                lineAnimationProgress,
-                show ? 1f : 0f);
-        lineTimeline.setEase(new Spline(0.5f));
-        lineTimeline.setDuration(ANIMATION_DURATION);
-        lineTimeline.play();
+        lineAnimation.animate(lineAnimationProgress, show ? 1f : 0f);
     }
 
     /**
@@ -229,17 +216,7 @@ public class WButton extends JButton {
      * @param zoom Se verdadeiro, aumenta o texto; se falso, retorna ao tamanho normal
      */
     private void animateText(boolean zoom) {
-        if (textTimeline != null && !textTimeline.isDone()) {
-            textTimeline.abort();
-        }
-
-        textTimeline = new Timeline(this);
-        textTimeline.addPropertyToInterpolate("textScaleProgress",
-                textScaleProgress,
-                zoom ? 1f : 0f);
-        textTimeline.setEase(new Spline(0.5f));
-        textTimeline.setDuration(ANIMATION_DURATION);
-        textTimeline.play();
+        textAnimation.animate(textScaleProgress, zoom ? 1f : 0f);
     }
 
     // ============================================ MÉTODOS DE PINTURA ============================================
@@ -251,8 +228,10 @@ public class WButton extends JButton {
      */
     @Override
     protected void paintComponent(Graphics g) {
-        Graphics2D g2 = (Graphics2D) g.create();
+        long start = WMetrics.start();
+        WGraphicsState state = WGraphicsState.save(g);
         try {
+            Graphics2D g2 = state.graphics();
             // Habilita anti-aliasing para renderização suave
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
                     RenderingHints.VALUE_ANTIALIAS_ON);
@@ -266,11 +245,12 @@ public class WButton extends JButton {
             paintLines(g2);
 
             // Desenha o texto com animação
-            paintText(g2);
+            paintText(state);
 
         } finally {
-            g2.dispose();
+            state.restore();
         }
+        WMetrics.paint(this, start);
     }
 
     /**
@@ -306,12 +286,7 @@ public class WButton extends JButton {
             
             if (pressed) {
                 // Escurece a cor da linha em 20% quando pressionado
-                Color pressedLineColor = getThemeColor("WButton.lineColor", lineColor);
-                currentLineColor = new Color(
-                    Math.max((int)(pressedLineColor.getRed() * 0.8), 0),
-                    Math.max((int)(pressedLineColor.getGreen() * 0.8), 0),
-                    Math.max((int)(pressedLineColor.getBlue() * 0.8), 0)
-                );
+                currentLineColor = WPaintCache.pressed(getThemeColor("WButton.lineColor", lineColor));
             } else {
                 currentLineColor = getThemeColor("WButton.hoverColor", hoverColor);
             }
@@ -328,12 +303,22 @@ public class WButton extends JButton {
         }
     }
 
+    /**
+     * Calcula a faixa ocupada pela linha inferior, já com a espessura do estado pressionado.
+     *
+     * @param r Retângulo que recebe a faixa
+     */
+    private void lineBand(Rectangle r) {
+        r.setBounds(0, getHeight() - LINE_Y_OFFSET - LINE_HEIGHT - 1, getWidth(), 2 * LINE_HEIGHT + 2);
+    }
+
     /**
      * Desenha o texto do botão com efeito de zoom.
      *
-     * @param g2 O contexto gráfico 2D para desenho
+     * @param state Estado salvo do contexto gráfico 2D para desenho
      */
-    private void paintText(Graphics2D g2) {
+    private void paintText(WGraphicsState state) {
+        Graphics2D g2 = state.graphics();
         String text = getText();
         if (text == null || text.isEmpty()) {
             return;
@@ -350,11 +335,7 @@ public class WButton extends JButton {
         // Aplica cor mais escura se o botão estiver pressionado
         if (pressed && isEnabled()) {
             // Escurece a cor em 20%
-            textColor = new Color(
-                Math.max((int)(textColor.getRed() * 0.8), 0),
-                Math.max((int)(textColor.getGreen() * 0.8), 0),
-                Math.max((int)(textColor.getBlue() * 0.8), 0)
-            );
+            textColor = WPaintCache.pressed(textColor);
         } 
         // Aplica cor de hover se o mouse estiver sobre o botão
         else if (mouseOver && isEnabled()) {
@@ -364,19 +345,17 @@ public class WButton extends JButton {
         // Aplica a cor ao texto
         g2.setColor(textColor);
 
-        // Calcula a escala do texto baseada no estado do mouse
-        float currentScale = 1.0f;
-        if (mouseOver || pressed) {
-            currentScale = 1.0f + ((MAX_TEXT_SCALE - 1.0f) * textScaleProgress);
-        }
+        // Calcula a escala do texto baseada no estado do mouse, arredondada para a tabela de fontes
+        int scaleStep = (mouseOver || pressed) ? WPaintCache.scaleStep(textScaleProgress) : 0;
+        float currentScale = WPaintCache.scaleOf(scaleStep, MAX_TEXT_SCALE);
 
         // Obtém as métricas da fonte com a escala aplicada
-        g2.setFont(getFont().deriveFont(getFont().getSize() * currentScale));
+        g2.setFont(WPaintCache.scaledFont(getFont(), scaleStep, MAX_TEXT_SCALE));
         FontMetrics fm = g2.getFontMetrics();
-        Rectangle2D textBounds = fm.getStringBounds(text, g2);
+        int textWidth = fm.stringWidth(text);
 
         // Calcula a posição centralizada do texto
-        int textX = (int) ((getWidth() / currentScale - textBounds.getWidth() / currentScale) / 2);
+        int textX = (int) ((getWidth() / currentScale - textWidth / currentScale) / 2);
         int textY = (int) ((getHeight() / currentScale - fm.getHeight() / currentScale) / 2 + fm.getAscent() / currentScale);
 
         // Aplica transformação para o efeito de zoom suave
@@ -389,18 +368,16 @@ public class WButton extends JButton {
         double centerX = getWidth() / 2.0;
         double centerY = getHeight() / 2.0;
         
-        // Move para o centro, aplica o zoom e depois move de volta
-        g2.translate(centerX, centerY);
-        g2.scale(currentScale, currentScale);
-        g2.translate(-centerX, -centerY);
-        
-        // Desenha o texto
+        // Move para o centro, aplica o zoom e depois move de volta; sem zoom a transformação não muda
+        if (currentScale != 1.0f) {
+            state.saveTransform();
+            g2.translate(centerX, centerY);
+            g2.scale(currentScale, currentScale);
+            g2.translate(-centerX, -centerY);
+        }
+
+        // Desenha o texto; a transformação é restaurada por paintComponent
         g2.drawString(text, textX, textY);
-        
-        // Restaura a transformação
-        g2.translate(centerX, centerY);
-        g2.scale(1/currentScale, 1/currentScale);
-        g2.translate(-centerX, -centerY);
     }
 
     // ============================================ MÉTODOS DE CONFIGURAÇÃO ============================================
@@ -451,7 +428,7 @@ public class WButton extends JButton {
      */
     public void setLineAnimationProgress(float lineAnimationProgress) {
         this.lineAnimationProgress = lineAnimationProgress;
-        repaint();
+        WAnimator.repaint(this, this::lineBand);
     }
 
     /**
@@ -501,4 +478,40 @@ public class WButton extends JButton {
     public float getTextScaleProgress() {
         return textScaleProgress;
     }
+
+    // ============================================ CLASSE INTERNA - LISTENER COMPARTILHADO ============================================
+
+    /**
+     * Listener de mouse sem estado: o botão vem da origem do evento, então uma única instância atende a todos.
+     */
+    private static final class Handler extends MouseAdapter {
+
+        @Override
+        public void mouseEntered(MouseEvent e) {
+            long start = WMetrics.start();
+            ((WButton) e.getComponent()).mouseAlterado(true);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void mouseExited(MouseEvent e) {
+            long start = WMetrics.start();
+            ((WButton) e.getComponent()).mouseAlterado(false);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void mousePressed(MouseEvent e) {
+            long start = WMetrics.start();
+            ((WButton) e.getComponent()).pressionadoAlterado(true);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void mouseReleased(MouseEvent e) {
+            long start = WMetrics.start();
+            ((WButton) e.getComponent()).pressionadoAlterado(false);
+            WMetrics.listener(e.getComponent(), start);
+        }
+    }
 }
@@ -3,9 +3,7 @@ package br.com.warrick.swing;
 import java.awt.*;
 import java.awt.event.*;
 import javax.swing.JCheckBox;
-import javax.swing.UIManager;
 import javax.swing.border.EmptyBorder;
-import org.pushingpixels.trident.Timeline;
 
 /**
  * Componente de checkbox personalizado com aparência similar ao WTextField.
@@ -74,6 +72,19 @@ public class WCheckBox extends JCheckBox {
     /** Borda arredondada do checkbox */
     protected static final int CHECK_BORDER = 4;
 
+    /** Paleta de cores do tema compartilhada por todas as instâncias */
+    private static final WPalette PALETTE = WPalette.of(WCheckBox.class);
+
+    /** Borda com os espaçamentos internos, compartilhada por todas as instâncias */
+    private static final EmptyBorder DEFAULT_BORDER =
+            new EmptyBorder(PADDING_TOP, PADDING_LEFT, PADDING_BOTTOM, PADDING_RIGHT);
+
+    /** Cursor de mão compartilhado */
+    private static final Cursor HAND_CURSOR = Cursor.getPredefinedCursor(Cursor.HAND_CURSOR);
+
+    /** Listener de mouse, foco e seleção compartilhado por todas as instâncias */
+    private static final Handler HANDLER = new Handler();
+
     // ============================================ ATRIBUTOS ============================================
 
     /** Localização atual da animação da linha (0.0 a 1.0) */
@@ -97,6 +108,10 @@ public class WCheckBox extends JCheckBox {
     /** Cor do texto quando não selecionado */
     protected Color unselectedTextColor = DEFAULT_UNSELECTED_TEXT_COLOR;
 
+    /** Slot de animação da linha de foco; repinta apenas a faixa da linha */
+    protected final WAnimator.Slot lineAnimation =
+            WAnimator.slot(this, v -> lineAnimationProgress = v, ANIMATION_DURATION, null, this::lineBand);
+
     // ============================================ CONSTRUTORES ============================================
 
     /**
@@ -126,8 +141,7 @@ public class WCheckBox extends JCheckBox {
      * @return Cor do tema ou cor padrão
      */
     protected Color getThemeColor(String key, Color defaultColor) {
-        Color themeColor = UIManager.getColor(key);
-        return themeColor != null ? themeColor : defaultColor;
+        return PALETTE.get(key, defaultColor);
     }
 
     /**
@@ -135,10 +149,10 @@ public class WCheckBox extends JCheckBox {
      */
     private void setupCheckBox() {
         // Configuração de borda e cores
-        setBorder(new EmptyBorder(PADDING_TOP, PADDING_LEFT, PADDING_BOTTOM, PADDING_RIGHT));
+        setBorder(DEFAULT_BORDER);
         setBackground(getThemeColor("WCheckBox.bgColor", DEFAULT_BG_COLOR));
         setOpaque(false);
-        setCursor(new Cursor(Cursor.HAND_CURSOR));
+        setCursor(HAND_CURSOR);
 
         // Inicializa as cores customizáveis do tema
         lineColor = getThemeColor("WCheckBox.lineColor", DEFAULT_LINE_COLOR);
@@ -147,42 +161,21 @@ public class WCheckBox extends JCheckBox {
         selectedTextColor = getThemeColor("WCheckBox.selectedTextColor", DEFAULT_SELECTED_TEXT_COLOR);
         unselectedTextColor = getThemeColor("WCheckBox.unselectedTextColor", DEFAULT_UNSELECTED_TEXT_COLOR);
 
-        // Listener de mouse
-        addMouseListener(new MouseAdapter() {
-            @Override
-            public void mouseEntered(MouseEvent me) {
-                mouseOver = true;
-                repaint();
-            }
+        // Listeners compartilhados de mouse, estado e foco
+        addMouseListener(HANDLER);
+        addItemListener(HANDLER);
+        addFocusListener(HANDLER);
 
-            @Override
-            public void mouseExited(MouseEvent me) {
-                mouseOver = false;
-                repaint();
-            }
-        });
-        
-        // Listener para mudança de estado
-        addItemListener(e -> {
-            updateTextColor();
-            repaint();
-        });
-        
         // Define a cor inicial do texto
         updateTextColor();
+    }
 
-        // Listener de foco
-        addFocusListener(new FocusAdapter() {
-            @Override
-            public void focusGained(FocusEvent fe) {
-                animateLine(true);
-            }
-
-            @Override
-            public void focusLost(FocusEvent fe) {
-                animateLine(false);
-            }
-        });
+    /**
+     * Atualiza o estado de hover quando o mouse entra ou sai do checkbox.
+     */
+    private void mouseAlterado(boolean sobre) {
+        mouseOver = sobre;
+        repaint();
     }
 
     // ============================================ MÉTODOS DE ANIMAÇÃO ============================================
@@ -191,12 +184,7 @@ public class WCheckBox extends JCheckBox {
      * Anima a linha de foco.
      */
     private void animateLine(boolean show) {
-        Timeline lineTimeline = new Timeline(this);
-        lineTimeline.addPropertyToInterpolate("lineAnimationProgress",
-                lineAnimationProgress,
-                show ? 1f : 0f);
-        lineTimeline.setDuration(ANIMATION_DURATION);
-        lineTimeline.play();
+        lineAnimation.animate(lineAnimationProgress, show ? 1f : 0f);
     }
 
     // ============================================ MÉTODOS DE PINTURA ============================================
@@ -237,8 +225,10 @@ public class WCheckBox extends JCheckBox {
     
     @Override
     protected void paintComponent(Graphics g) {
-        Graphics2D g2 = (Graphics2D) g.create();
+        long start = WMetrics.start();
+        WGraphicsState state = WGraphicsState.save(g);
         try {
+            Graphics2D g2 = state.graphics();
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
 
@@ -270,8 +260,16 @@ public class WCheckBox extends JCheckBox {
             }
 
         } finally {
-            g2.dispose();
+            state.restore();
         }
+        WMetrics.paint(this, start);
+    }
+
+    /**
+     * Calcula a faixa ocupada pela linha inferior.
+     */
+    private void lineBand(Rectangle r) {
+        r.setBounds(0, getHeight() - LINE_Y_OFFSET - LINE_HEIGHT / 2 - 1, getWidth(), LINE_HEIGHT + 2);
     }
 
     /**
@@ -354,7 +352,7 @@ public class WCheckBox extends JCheckBox {
 
     public void setLineAnimationProgress(float lineAnimationProgress) {
         this.lineAnimationProgress = lineAnimationProgress;
-        repaint();
+        WAnimator.repaint(this, this::lineBand);
     }
 
     // ============================================ MÉTODOS DE ACESSO ============================================
@@ -392,4 +390,49 @@ public class WCheckBox extends JCheckBox {
     public float getLineAnimationProgress() {
         return lineAnimationProgress;
     }
-}
\ No newline at end of file
+
+    // ============================================ CLASSE INTERNA - LISTENER COMPARTILHADO ============================================
+
+    /**
+     * Listener sem estado: o checkbox vem da origem do evento, então uma única instância atende a todos.
+     */
+    private static final class Handler extends MouseAdapter implements FocusListener, ItemListener {
+
+        @Override
+        public void mouseEntered(MouseEvent e) {
+            long start = WMetrics.start();
+            ((WCheckBox) e.getComponent()).mouseAlterado(true);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void mouseExited(MouseEvent e) {
+            long start = WMetrics.start();
+            ((WCheckBox) e.getComponent()).mouseAlterado(false);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void itemStateChanged(ItemEvent e) {
+            long start = WMetrics.start();
+            WCheckBox c = (WCheckBox) e.getItemSelectable();
+            c.updateTextColor();
+            c.repaint();
+            WMetrics.listener(c, start);
+        }
+
+        @Override
+        public void focusGained(FocusEvent e) {
+            long start = WMetrics.start();
+            ((WCheckBox) e.getComponent()).animateLine(true);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void focusLost(FocusEvent e) {
+            long start = WMetrics.start();
+            ((WCheckBox) e.getComponent()).animateLine(false);
+            WMetrics.listener(e.getComponent(), start);
+        }
+    }
+}
@@ -2,7 +2,10 @@ package br.com.warrick.swing;
 
 import java.awt.*;
 import java.awt.event.*;
-import java.awt.geom.Rectangle2D;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.LineBorder;
@@ -11,8 +14,6 @@ import javax.swing.event.PopupMenuListener;
 import javax.swing.plaf.basic.BasicComboBoxUI;
 import javax.swing.plaf.basic.BasicComboPopup;
 import javax.swing.plaf.basic.ComboPopup;
-import org.pushingpixels.trident.Timeline;
-import org.pushingpixels.trident.ease.Spline;
 /**
  * Componente de combo box personalizado com suporte a animações, rótulo flutuante e validação.
  *
@@ -97,6 +98,22 @@ public class WComboBox<E> extends JComboBox<E> {
     /** Posição vertical da mensagem de erro */
     protected static final int ERROR_MESSAGE_Y_OFFSET = -2;
 
+    /** Paleta de cores do tema compartilhada por todas as instâncias */
+    private static final WPalette PALETTE = WPalette.of(WComboBox.class);
+
+    /** Borda com os espaçamentos internos, compartilhada por todas as instâncias */
+    private static final EmptyBorder DEFAULT_BORDER =
+            new EmptyBorder(PADDING_TOP, PADDING_LEFT, PADDING_BOTTOM, PADDING_RIGHT);
+
+    /** Borda das células da lista */
+    private static final EmptyBorder CELL_BORDER = new EmptyBorder(8, 10, 8, 10);
+
+    /** Borda do botão da seta */
+    private static final EmptyBorder ARROW_BORDER = new EmptyBorder(10, 5, 5, 5);
+
+    /** Listener de foco, mouse, teclado e seleção compartilhado por todas as instâncias */
+    private static final Handler HANDLER = new Handler();
+
     // ============================================ ATRIBUTOS ============================================
 
     /** Localização atual da animação da linha (0.0 a 1.0) */
@@ -135,11 +152,50 @@ public class WComboBox<E> extends JComboBox<E> {
     /** Cor de destaque quando o mouse está sobre o componente */
     protected Color hoverColor = DEFAULT_HOVER_COLOR;
 
-    /** Controlador de animação para transições suaves do rótulo */
-    protected Timeline timeline;
+    /** Slot de animação para transições suaves do rótulo */
+    protected final WAnimator.Slot labelAnimation =
+            WAnimator.slot(this, v -> animationLocation = v, ANIMATION_DURATION, WAnimator.SPLINE, this::labelBand);
+
+    /** Slot de animação para mensagens de erro */
+    protected final WAnimator.Slot errorAnimation =
+            WAnimator.slot(this, this::setErrorAnimationLocation, ANIMATION_DURATION, WAnimator.SPLINE,
+                    WAnimator.NO_REPAINT);
+
+    /** Slot de animação da linha de foco */
+    protected final WAnimator.Slot lineAnimation =
+            WAnimator.slot(this, v -> lineAnimationProgress = v, ANIMATION_DURATION, null, this::lineBand);
+
+    /** Tarefa de limpeza da mensagem, agendada no {@link WMessageScheduler} */
+    private final Runnable limpezaMensagem = this::concluirLimpezaMensagem;
+
+    /**
+     * Camada de mensagens da janela, ou null enquanto o campo não estiver em uma janela.
+     */
+    private WMessageOverlay messageOverlay;
+
+    /** Layout de glifos do rótulo flutuante, reaproveitado entre os quadros da animação */
+    protected final WGlyphCache labelGlyphs = new WGlyphCache();
+
+    /** Margens reaproveitadas pela pintura do rótulo */
+    private final Insets labelInsets = new Insets(0, 0, 0, 0);
 
-    /** Controlador de animação para mensagens de erro */
-    protected Timeline errorTimeline;
+    /** Validação assíncrona pelos validadores de {@link #addValidador(WValidator)}, criada no primeiro uso */
+    private WValidationPipeline<E> validacaoAsync;
+
+    /** Indica se o filtro por digitação está habilitado */
+    protected boolean filtravel = false;
+
+    /** Texto digitado no filtro */
+    protected final StringBuilder filtro = new StringBuilder();
+
+    /** Índice de busca do filtro, criado ao receber o foco e indexado em segundo plano */
+    private WSearchIndex searchIndex;
+
+    /** Seleção por tecla usada antes de habilitar o filtro */
+    private KeySelectionManager keySelectionPadrao;
+
+    /** UI customizada instalada pelo componente */
+    private WComboBoxUI comboUI;
 
     // ============================================ CONSTRUTORES ============================================
 
@@ -161,8 +217,28 @@ public class WComboBox<E> extends JComboBox<E> {
         setupComboBox();
     }
 
+    /**
+     * Cria um novo combo box cujos itens são carregados sob demanda a partir da fonte informada.
+     *
+     * @param labelText Texto do rótulo que será exibido como dica flutuante
+     * @param provider Fonte paginada dos itens
+     * @see WLazyComboBoxModel
+     */
+    public WComboBox(String labelText, WItemProvider<E> provider) {
+        this(labelText);
+        setModel(new WLazyComboBoxModel<>(provider));
+    }
+
     // ============================================ MÉTODOS PRIVADOS ============================================
 
+    /**
+     * Retorna o modelo paginado, ou null se o combo usar um modelo comum.
+     */
+    @SuppressWarnings("unchecked")
+    private WLazyComboBoxModel<E> lazyModel() {
+        return dataModel instanceof WLazyComboBoxModel ? (WLazyComboBoxModel<E>) dataModel : null;
+    }
+
     /**
      * Obtém uma cor do tema FlatLaf ou retorna a cor padrão.
      *
@@ -171,8 +247,7 @@ public class WComboBox<E> extends JComboBox<E> {
      * @return Cor do tema ou cor padrão
      */
     protected Color getThemeColor(String key, Color defaultColor) {
-        Color themeColor = UIManager.getColor(key);
-        return themeColor != null ? themeColor : defaultColor;
+        return PALETTE.get(key, defaultColor);
     }
 
     /**
@@ -189,7 +264,7 @@ public class WComboBox<E> extends JComboBox<E> {
      */
     private void setupComboBox() {
         // Configuração de borda e cores (usando tema se disponível)
-        setBorder(new EmptyBorder(PADDING_TOP, PADDING_LEFT, PADDING_BOTTOM, PADDING_RIGHT));
+        setBorder(DEFAULT_BORDER);
         setBackground(getThemeColor("WComboBox.bgColor", DEFAULT_BG_COLOR));
         setForeground(getThemeColor("WComboBox.textColor", DEFAULT_TEXT_COLOR));
         setOpaque(false);
@@ -202,66 +277,193 @@ public class WComboBox<E> extends JComboBox<E> {
         initAnimation();
 
         // Instala a UI customizada
-        setUI(new WComboBoxUI(this));
+        comboUI = new WComboBoxUI(this);
+        setUI(comboUI);
+
+        // Renderer próprio: o CellRendererPane adota o renderer como filho, e um renderer compartilhado manteria
+        // vivo o último combo pintado, com a janela dele
+        setRenderer(new Renderer());
+
+        // Listeners compartilhados
+        addMouseListener(HANDLER);
+        addFocusListener(HANDLER);
+        addItemListener(HANDLER);
+        addKeyListener(HANDLER);
+        addPropertyChangeListener("model", HANDLER);
+    }
 
-        // Renderer customizado
-        setRenderer(new DefaultListCellRenderer() {
-            @Override
-            public Component getListCellRendererComponent(JList<?> list, Object value,
-                                                          int index, boolean isSelected, boolean cellHasFocus) {
-                Component com = super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
-                setBorder(new EmptyBorder(8, 10, 8, 10));
-
-                if (isSelected) {
-                    com.setBackground(getThemeColor("WComboBox.selectionColor", DEFAULT_SELECTION_COLOR));
-                    com.setForeground(Color.WHITE);
-                } else {
-                    com.setBackground(getThemeColor("WComboBox.listBgColor", DEFAULT_LIST_BG_COLOR));
-                    com.setForeground(getThemeColor("WComboBox.textColor", DEFAULT_TEXT_COLOR));
-                }
-                return com;
-            }
-        });
+    /**
+     * Retorna o pipeline de validação assíncrona, criando-o no primeiro uso.
+     */
+    private WValidationPipeline<E> validacaoAsync() {
+        if (validacaoAsync == null) {
+            validacaoAsync = new WValidationPipeline<>(this::itemSelecionado, this::aplicarValidacao);
+        }
+        return validacaoAsync;
+    }
 
-        // Listener de mouse
-        addMouseListener(new MouseAdapter() {
-            @Override
-            public void mouseEntered(MouseEvent me) {
-                mouseOver = true;
-                repaint();
-            }
+    /**
+     * Agenda a validação assíncrona após uma alteração, se houver validadores.
+     */
+    private void agendarValidacao() {
+        if (validacaoAsync != null) {
+            validacaoAsync.schedule();
+        }
+    }
 
-            @Override
-            public void mouseExited(MouseEvent me) {
-                mouseOver = false;
-                repaint();
-            }
-        });
+    /**
+     * Atualiza o rótulo e a linha de foco quando o combo ganha ou perde o foco.
+     */
+    private void focoAlterado(boolean ganhou) {
+        updateLabelState(ganhou);
+        animateLine(ganhou);
+        if (ganhou && filtroDisponivel()) {
+            prepararIndice();
+        }
+    }
 
-        // Listener de foco
-        addFocusListener(new FocusAdapter() {
-            @Override
-            public void focusGained(FocusEvent fe) {
-                updateLabelState(true);
-                animateLine(true);
-            }
+    /**
+     * Atualiza o estado de hover quando o mouse entra ou sai do combo.
+     */
+    private void mouseAlterado(boolean sobre) {
+        mouseOver = sobre;
+        repaint();
+    }
 
-            @Override
-            public void focusLost(FocusEvent fe) {
-                updateLabelState(false);
-                animateLine(false);
+    /**
+     * Limpa o erro e atualiza o rótulo quando um item é selecionado.
+     */
+    private void selecaoAlterada(ItemEvent e) {
+        if (e.getStateChange() == ItemEvent.SELECTED) {
+            if (hasError) {
+                limparErro();
             }
-        });
+            updateLabelState(isFocusOwner());
+            agendarValidacao();
+        }
+    }
 
-        // Listener de seleção para limpar erros
-        addItemListener(e -> {
-            if (e.getStateChange() == ItemEvent.SELECTED) {
-                if (hasError) {
-                    limparErro();
-                }
-                updateLabelState(isFocusOwner());
-            }
-        });
+    /**
+     * Acrescenta o caractere digitado ao filtro.
+     */
+    private void teclaDigitada(KeyEvent ke) {
+        char c = ke.getKeyChar();
+        if (!filtroDisponivel() || c < ' ' || c == KeyEvent.VK_DELETE
+                || ke.isControlDown() || ke.isAltDown() || ke.isMetaDown()) {
+            return;
+        }
+        filtro.append(c);
+        aplicarFiltro();
+        ke.consume();
+    }
+
+    /**
+     * Trata as teclas de edição e navegação enquanto há texto no filtro.
+     */
+    private void teclaPressionada(KeyEvent ke) {
+        if (!filtroDisponivel() || filtro.length() == 0) {
+            return;
+        }
+        switch (ke.getKeyCode()) {
+            case KeyEvent.VK_BACK_SPACE:
+                filtro.setLength(filtro.length() - 1);
+                aplicarFiltro();
+                break;
+            case KeyEvent.VK_ESCAPE:
+                limparFiltro();
+                break;
+            case KeyEvent.VK_UP:
+                moverSelecaoFiltro(-1);
+                break;
+            case KeyEvent.VK_DOWN:
+                moverSelecaoFiltro(1);
+                break;
+            case KeyEvent.VK_ENTER:
+                confirmarFiltro();
+                break;
+            case KeyEvent.VK_SPACE:
+                // O espaço faz parte do filtro (keyTyped), não abre/fecha o popup
+                break;
+            default:
+                return;
+        }
+        // Impede que as ações padrão do JComboBox usem índices da lista filtrada
+        ke.consume();
+    }
+
+    /**
+     * O índice pertence ao modelo: troca de modelo descarta o filtro.
+     */
+    private void modeloAlterado() {
+        limparFiltro();
+        if (searchIndex != null) {
+            searchIndex.dispose();
+            searchIndex = null;
+        }
+    }
+
+    /**
+     * Indica se o filtro por digitação pode ser usado no estado atual. Modelos paginados não são filtrados: o índice
+     * leria todos os itens da fonte.
+     */
+    private boolean filtroDisponivel() {
+        return filtravel && isEnabled() && !isEditable() && lazyModel() == null;
+    }
+
+    /**
+     * Cria o índice do filtro, se necessário, e inicia a indexação em segundo plano, antes da primeira tecla.
+     */
+    private void prepararIndice() {
+        if (searchIndex == null) {
+            searchIndex = new WSearchIndex(getModel());
+            searchIndex.buildInBackground();
+        }
+    }
+
+    /**
+     * Aplica o texto do filtro à lista do popup, abrindo-o se necessário.
+     */
+    private void aplicarFiltro() {
+        WComboBoxUI.WComboPopup popup = popupFiltro();
+        if (popup == null) {
+            return;
+        }
+        prepararIndice();
+        popup.filtrar(searchIndex.search(filtro.toString()));
+        if (filtro.length() > 0 && !isPopupVisible() && isShowing()) {
+            setPopupVisible(true);
+        }
+        repaint();
+    }
+
+    /**
+     * Move a seleção da lista filtrada sem alterar o item selecionado no combo.
+     */
+    private void moverSelecaoFiltro(int delta) {
+        WComboBoxUI.WComboPopup popup = popupFiltro();
+        if (popup != null) {
+            popup.moverSelecao(delta);
+        }
+    }
+
+    /**
+     * Seleciona o item destacado na lista filtrada, fecha o popup e limpa o filtro.
+     */
+    private void confirmarFiltro() {
+        WComboBoxUI.WComboPopup popup = popupFiltro();
+        int index = popup != null ? popup.getIndiceSelecionado() : -1;
+        if (index != -1) {
+            setSelectedIndex(index);
+        }
+        setPopupVisible(false);
+        limparFiltro();
+    }
+
+    /**
+     * Retorna o popup da UI customizada, ou null se outra UI estiver instalada.
+     */
+    private WComboBoxUI.WComboPopup popupFiltro() {
+        return getUI() == comboUI ? comboUI.getFilterPopup() : null;
     }
 
     /**
@@ -269,18 +471,58 @@ public class WComboBox<E> extends JComboBox<E> {
      */
     @Override
     public void paint(Graphics g) {
+        long start = WMetrics.start();
         super.paint(g);
 
-        // Desenha a mensagem de erro/sucesso fora dos limites do componente
-        if (hasError && errorMessage != null && !errorMessage.isEmpty() && errorAnimationLocation > 0) {
-            Graphics2D g2 = (Graphics2D) g.create();
+        // Sem camada de mensagens (fora de uma janela), o próprio campo desenha a mensagem
+        if (messageOverlay == null && hasError && errorMessage != null && !errorMessage.isEmpty() && errorAnimationLocation > 0) {
+            WGraphicsState state = WGraphicsState.save(g);
             try {
+                Graphics2D g2 = state.graphics();
                 g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
                 paintExternalMessage(g2);
             } finally {
-                g2.dispose();
+                state.restore();
             }
         }
+        WMetrics.paint(this, start);
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        messageOverlay = WMessageOverlay.attach(this, this::paintOverlayMessage, this::messageBounds);
+        repaintMessage();
+    }
+
+    @Override
+    public void removeNotify() {
+        if (messageOverlay != null) {
+            messageOverlay.detach(this);
+            messageOverlay = null;
+        }
+        super.removeNotify();
+    }
+
+    /**
+     * Desenha a mensagem de erro/sucesso para a camada de mensagens, nas coordenadas do campo.
+     */
+    private void paintOverlayMessage(Graphics2D g2) {
+        if (hasError && errorMessage != null && !errorMessage.isEmpty() && errorAnimationLocation > 0) {
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            paintExternalMessage(g2);
+        }
+    }
+
+    /**
+     * Repinta a mensagem de erro/sucesso pela camada de mensagens, ou a faixa inferior do campo sem camada.
+     */
+    private void repaintMessage() {
+        if (messageOverlay != null) {
+            messageOverlay.repaintMessage(this);
+        } else {
+            WAnimator.repaint(this, this::messageBand);
+        }
     }
 
     /**
@@ -297,12 +539,10 @@ public class WComboBox<E> extends JComboBox<E> {
                 getThemeColor("WComboBox.errorColor", ERROR_COLOR);
 
         // Aplica transparência baseada na animação
-        int alpha = (int)(255 * errorAnimationLocation);
-        g2.setColor(new Color(messageColor.getRed(), messageColor.getGreen(),
-                messageColor.getBlue(), alpha));
+        g2.setColor(WPaintCache.alpha(messageColor, errorAnimationLocation));
 
         Font originalFont = g2.getFont();
-        g2.setFont(originalFont.deriveFont(Font.PLAIN, 11f));
+        g2.setFont(WPaintCache.messageFont(originalFont));
 
         int erroY = getHeight() + ERROR_MESSAGE_Y_OFFSET + (int)(3 * (1 - errorAnimationLocation));
         g2.drawString(errorMessage, PADDING_LEFT, erroY);
@@ -310,20 +550,57 @@ public class WComboBox<E> extends JComboBox<E> {
         g2.setFont(originalFont);
     }
 
+    /**
+     * Calcula a faixa ocupada pelo rótulo em todo o seu percurso, do repouso à posição flutuante.
+     */
+    private void labelBand(Rectangle r) {
+        if (labelGlyphs.getHeight() == 0) {
+            r.setBounds(0, 0, getWidth(), getHeight());
+            return;
+        }
+        double centerY = (getHeight() - labelGlyphs.getHeight()) / 2 + labelGlyphs.getAscent();
+        double baseline = Math.max(centerY, LABEL_TOP_POSITION);
+        r.setBounds(0, 0, getWidth(), (int) Math.ceil(baseline + labelGlyphs.getDescent() * 1.04) + 2);
+    }
+
+    /**
+     * Calcula a faixa ocupada pela linha inferior.
+     */
+    private void lineBand(Rectangle r) {
+        r.setBounds(0, getHeight() - LINE_Y_OFFSET - LINE_HEIGHT / 2 - 1, getWidth(), LINE_HEIGHT + 2);
+    }
+
+    /**
+     * Calcula a faixa ocupada pela mensagem de erro/sucesso, incluindo o deslize de entrada.
+     */
+    private void messageBand(Rectangle r) {
+        int top = getHeight() + ERROR_MESSAGE_Y_OFFSET - getFontMetrics(WPaintCache.messageFont(getFont())).getAscent();
+        r.setBounds(0, top - 1, getWidth(), getHeight() - top + 1);
+    }
+
+    /**
+     * Calcula a área exata da mensagem, incluindo o deslize de entrada; pode ultrapassar os limites do campo.
+     */
+    private void messageBounds(Rectangle r) {
+        if (errorMessage == null || errorMessage.isEmpty()) {
+            r.setBounds(0, 0, 0, 0);
+            return;
+        }
+        FontMetrics fm = getFontMetrics(WPaintCache.messageFont(getFont()));
+        int top = getHeight() + ERROR_MESSAGE_Y_OFFSET - fm.getAscent();
+        r.setBounds(PADDING_LEFT - 2, top - 1, fm.stringWidth(errorMessage) + 4, fm.getAscent() + fm.getDescent() + 5);
+    }
+
     /**
      * Atualiza o estado do rótulo com base no foco e seleção.
      */
     private void updateLabelState(boolean hasFocus) {
         boolean shouldShow = hasFocus || getSelectedIndex() != -1;
 
-        if (showLabel == shouldShow && (timeline == null || timeline.isDone())) {
+        if (showLabel == shouldShow) {
             return;
         }
 
-        if (timeline != null && !timeline.isDone()) {
-            timeline.abort();
-        }
-
         showLabel = shouldShow;
         animateLabel(showLabel);
     }
@@ -334,42 +611,21 @@ public class WComboBox<E> extends JComboBox<E> {
      * Anima a transição do rótulo.
      */
     private void animateLabel(boolean show) {
-        timeline = new Timeline(this);
-        timeline.addPropertyToInterpolate("animationLocation",
-                animationLocation,
-                show ? 1f : 0f);
-        timeline.setEase(new Spline(0.5f));
-        timeline.setDuration(ANIMATION_DURATION);
-        timeline.play();
+        labelAnimation.animate(animationLocation, show ? 1f : 0f);
     }
 
     /**
      * Anima a mensagem de erro.
      */
     private void animateError(boolean show) {
-        if (errorTimeline != null && !errorTimeline.isDone()) {
-            errorTimeline.abort();
-        }
-
-        errorTimeline = new Timeline(this);
-        errorTimeline.addPropertyToInterpolate("errorAnimationLocation",
-                errorAnimationLocation,
-                show ? 1f : 0f);
-        errorTimeline.setEase(new Spline(0.5f));
-        errorTimeline.setDuration(ANIMATION_DURATION);
-        errorTimeline.play();
+        errorAnimation.animate(errorAnimationLocation, show ? 1f : 0f);
     }
 
     /**
      * Anima a linha de foco.
      */
     private void animateLine(boolean show) {
-        Timeline lineTimeline = new Timeline(this);
-        lineTimeline.addPropertyToInterpolate("lineAnimationProgress",
-                lineAnimationProgress,
-                show ? 1f : 0f);
-        lineTimeline.setDuration(ANIMATION_DURATION);
-        lineTimeline.play();
+        lineAnimation.animate(lineAnimationProgress, show ? 1f : 0f);
     }
 
     // ============================================ CLASSE INTERNA - UI CUSTOMIZADA ============================================
@@ -377,6 +633,24 @@ public class WComboBox<E> extends JComboBox<E> {
     private class WComboBoxUI extends BasicComboBoxUI {
         private final WComboBox<E> combo;
 
+        /** Tamanho de exibição medido na primeira página do modelo paginado */
+        private Dimension lazyDisplaySize;
+
+        /** Modelo usado na última medição */
+        private Object lazySizeModel;
+
+        /** Renderer usado na última medição */
+        private Object lazySizeRenderer;
+
+        /** Fonte usada na última medição */
+        private Font lazySizeFont;
+
+        /** Popup criado por esta UI */
+        private WComboPopup filterPopup;
+
+        /** Mantém a largura de célula da lista do popup ao trocar o modelo */
+        private final PropertyChangeListener modelListener = e -> updateListCellWidth(listBox);
+
         public WComboBoxUI(WComboBox<E> combo) {
             this.combo = combo;
         }
@@ -393,24 +667,13 @@ public class WComboBox<E> extends JComboBox<E> {
 
         @Override
         protected ComboPopup createPopup() {
-            BasicComboPopup popup = new BasicComboPopup(comboBox) {
-                @Override
-                protected JScrollPane createScroller() {
-                    list.setFixedCellHeight(35);
-                    JScrollPane scroll = new JScrollPane(list);
-                    scroll.setBackground(getThemeColor("WComboBox.listBgColor", DEFAULT_LIST_BG_COLOR));
-
-                    // Usar ScrollBar customizado
-                    WScrollBar sb = new WScrollBar();
-                    sb.setUnitIncrement(35);
-                    sb.setForeground(lineColor);
-                    scroll.setVerticalScrollBar(sb);
-
-                    return scroll;
-                }
-            };
+            WComboPopup popup = new WComboPopup(comboBox);
+            filterPopup = popup;
             popup.setBorder(new LineBorder(lineColor, 1));
 
+            // Mantém a largura de célula fixa enquanto o modelo for paginado (ver installListeners)
+            updateListCellWidth(popup.getList());
+
             // Listener para mudança de cor do botão
             popup.addPopupMenuListener(new PopupMenuListener() {
                 @Override
@@ -427,6 +690,7 @@ public class WComboBox<E> extends JComboBox<E> {
                         arrowButton.setBackground(getThemeColor("WComboBox.bgColor", DEFAULT_BG_COLOR));
                         arrowButton.repaint();
                     }
+                    limparFiltro();
                 }
 
                 @Override
@@ -435,22 +699,108 @@ public class WComboBox<E> extends JComboBox<E> {
                         arrowButton.setBackground(getThemeColor("WComboBox.bgColor", DEFAULT_BG_COLOR));
                         arrowButton.repaint();
                     }
+                    limparFiltro();
                 }
             });
 
             return popup;
         }
 
+        /**
+         * Registra o listener de troca de modelo uma única vez por instalação da UI.
+         */
+        @Override
+        protected void installListeners() {
+            super.installListeners();
+            comboBox.addPropertyChangeListener("model", modelListener);
+        }
+
+        @Override
+        protected void uninstallListeners() {
+            comboBox.removePropertyChangeListener("model", modelListener);
+            super.uninstallListeners();
+        }
+
+        /**
+         * Retorna o popup customizado, ou null se ainda não foi criado.
+         */
+        private WComboPopup getFilterPopup() {
+            return filterPopup;
+        }
+
+        /**
+         * Enquanto há filtro, exibe o texto digitado no lugar do item selecionado.
+         */
+        @Override
+        public void paintCurrentValue(Graphics g, Rectangle bounds, boolean hasFocus) {
+            if (filtro.length() == 0) {
+                super.paintCurrentValue(g, bounds, hasFocus);
+                return;
+            }
+            g.setFont(comboBox.getFont());
+            g.setColor(lineColor);
+            FontMetrics fm = g.getFontMetrics();
+            int y = bounds.y + (bounds.height - fm.getHeight()) / 2 + fm.getAscent();
+            g.drawString(filtro.toString(), bounds.x + PADDING_LEFT, y);
+        }
+
+        /**
+         * Fixa a largura das células da lista quando o modelo é paginado ou está filtrado.
+         *
+         * <p>
+         * Com altura e largura fixas, a lista calcula seu layout sem ler os itens do modelo; caso contrário, qualquer
+         * mudança de seleção mediria todos os itens, carregando todas as páginas ou renderizando todas as linhas
+         * filtradas.</p>
+         */
+        private void updateListCellWidth(JList<?> list) {
+            boolean fixa = lazyModel() != null || list.getModel() instanceof ListaFiltrada;
+            list.setFixedCellWidth(fixa ? Math.max(1, comboBox.getWidth()) : -1);
+        }
+
+        /**
+         * Com o modelo paginado, mede apenas a primeira página em vez de todos os itens.
+         */
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected Dimension getDisplaySize() {
+            WLazyComboBoxModel<E> lazy = lazyModel();
+            if (lazy == null || comboBox.getPrototypeDisplayValue() != null) {
+                return super.getDisplaySize();
+            }
+            ListCellRenderer renderer = comboBox.getRenderer();
+            Font font = comboBox.getFont();
+            if (lazyDisplaySize != null && lazySizeModel == lazy && lazySizeRenderer == renderer
+                    && Objects.equals(lazySizeFont, font)) {
+                return new Dimension(lazyDisplaySize);
+            }
+
+            Dimension result = getDefaultSize();
+            int sample = Math.min(lazy.getSize(), lazy.getPageSize());
+            for (int i = 0; i < sample; i++) {
+                Component c = renderer.getListCellRendererComponent(listBox, lazy.getElementAt(i), -1, false, false);
+                Dimension d = getSizeForComponent(c);
+                result.width = Math.max(result.width, d.width);
+                result.height = Math.max(result.height, d.height);
+            }
+
+            lazyDisplaySize = new Dimension(result);
+            lazySizeModel = lazy;
+            lazySizeRenderer = renderer;
+            lazySizeFont = font;
+            return result;
+        }
+
         @Override
         public void paint(Graphics g, JComponent c) {
             super.paint(g, c);
-            Graphics2D g2 = (Graphics2D) g.create();
+            WGraphicsState state = WGraphicsState.save(g);
             try {
+                Graphics2D g2 = state.graphics();
                 g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
                 g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
                 paintComponents(g2);
             } finally {
-                g2.dispose();
+                state.restore();
             }
         }
 
@@ -495,7 +845,7 @@ public class WComboBox<E> extends JComboBox<E> {
                 return;
             }
 
-            Insets in = combo.getInsets();
+            Insets in = combo.getInsets(labelInsets);
 
             // Define cor do rótulo baseada no estado
             Color labelColor;
@@ -512,11 +862,10 @@ public class WComboBox<E> extends JComboBox<E> {
             }
             g2.setColor(labelColor);
 
-            FontMetrics fm = g2.getFontMetrics();
-            Rectangle2D textBounds = fm.getStringBounds(labelText, g2);
+            labelGlyphs.update(g2, labelText);
 
             // Calcula posições com animação
-            double centerY = (combo.getHeight() - textBounds.getHeight()) / 2 + fm.getAscent();
+            double centerY = (combo.getHeight() - labelGlyphs.getHeight()) / 2 + labelGlyphs.getAscent();
             double topY = LABEL_TOP_POSITION;
             double currentY = centerY - ((centerY - topY) * animationLocation);
 
@@ -526,28 +875,210 @@ public class WComboBox<E> extends JComboBox<E> {
 
             float scale = 1.0f + (0.04f * animationLocation);
 
-            Graphics2D g2d = (Graphics2D) g2.create();
-            try {
-                g2d.translate(currentX, 0);
-                g2d.scale(scale, scale);
-                g2d.drawString(labelText, 0, (float) (currentY / scale));
-            } finally {
-                g2d.dispose();
+            labelGlyphs.draw(g2, currentX, currentY, scale);
+        }
+
+        /**
+         * Popup do combo com suporte ao filtro por digitação.
+         *
+         * <p>
+         * Com filtro ativo, a lista exibe uma {@link ListaFiltrada} e os índices da lista deixam de coincidir com os
+         * do modelo; por isso a seleção por mouse e a sincronização com o item selecionado são traduzidas aqui.</p>
+         */
+        private class WComboPopup extends BasicComboPopup {
+
+            /** Visão filtrada exibida na lista, ou null sem filtro */
+            private ListaFiltrada filtrada;
+
+            @SuppressWarnings("unchecked")
+            WComboPopup(JComboBox<?> combo) {
+                super((JComboBox<Object>) combo);
+            }
+
+            @Override
+            public void show() {
+                updateListCellWidth(list);
+                super.show();
+                if (filtrada != null) {
+                    sincronizarSelecao();
+                }
+            }
+
+            @Override
+            protected JScrollPane createScroller() {
+                list.setFixedCellHeight(35);
+                JScrollPane scroll = new JScrollPane(list);
+                scroll.setBackground(getThemeColor("WComboBox.listBgColor", DEFAULT_LIST_BG_COLOR));
+
+                // Usar ScrollBar customizado
+                WScrollBar sb = new WScrollBar();
+                sb.setUnitIncrement(35);
+                sb.setForeground(lineColor);
+                scroll.setVerticalScrollBar(sb);
+
+                return scroll;
+            }
+
+            @Override
+            protected int getPopupHeightForRowCount(int maxRowCount) {
+                if (filtrada == null) {
+                    return super.getPopupHeightForRowCount(maxRowCount);
+                }
+                int rows = Math.max(1, Math.min(maxRowCount, filtrada.getSize()));
+                return rows * list.getFixedCellHeight();
+            }
+
+            @Override
+            protected ItemListener createItemListener() {
+                ItemListener padrao = super.createItemListener();
+                return e -> {
+                    if (filtrada == null) {
+                        padrao.itemStateChanged(e);
+                    } else {
+                        sincronizarSelecao();
+                    }
+                };
+            }
+
+            @Override
+            protected MouseListener createListMouseListener() {
+                MouseListener padrao = super.createListMouseListener();
+                return new MouseAdapter() {
+                    @Override
+                    public void mousePressed(MouseEvent e) {
+                        padrao.mousePressed(e);
+                    }
+
+                    @Override
+                    public void mouseReleased(MouseEvent e) {
+                        if (filtrada == null) {
+                            padrao.mouseReleased(e);
+                        } else if (SwingUtilities.isLeftMouseButton(e)) {
+                            confirmarFiltro();
+                        }
+                    }
+
+                    @Override
+                    public void mouseEntered(MouseEvent e) {
+                        padrao.mouseEntered(e);
+                    }
+
+                    @Override
+                    public void mouseExited(MouseEvent e) {
+                        padrao.mouseExited(e);
+                    }
+                };
+            }
+
+            /**
+             * Exibe apenas as linhas informadas, ou a lista completa se {@code linhas} for null.
+             */
+            void filtrar(int[] linhas) {
+                if (linhas == null) {
+                    if (filtrada == null) {
+                        return;
+                    }
+                    filtrada = null;
+                    list.setModel(comboBox.getModel());
+                    updateListCellWidth(list);
+                    int selecionado = comboBox.getSelectedIndex();
+                    if (selecionado == -1) {
+                        list.clearSelection();
+                    } else {
+                        list.setSelectedIndex(selecionado);
+                        list.ensureIndexIsVisible(selecionado);
+                    }
+                } else {
+                    if (filtrada == null) {
+                        filtrada = new ListaFiltrada(comboBox.getModel());
+                        list.setModel(filtrada);
+                        updateListCellWidth(list);
+                    }
+                    filtrada.setLinhas(linhas);
+                    sincronizarSelecao();
+                }
+                if (isVisible()) {
+                    redimensionar();
+                }
+            }
+
+            /**
+             * Move a seleção da lista, limitada à primeira e à última linha.
+             */
+            void moverSelecao(int delta) {
+                int size = list.getModel().getSize();
+                if (size == 0) {
+                    return;
+                }
+                int atual = list.getSelectedIndex();
+                int novo = atual == -1 ? 0 : Math.max(0, Math.min(size - 1, atual + delta));
+                list.setSelectedIndex(novo);
+                list.ensureIndexIsVisible(novo);
+            }
+
+            /**
+             * Retorna o índice, no modelo do combo, da linha selecionada na lista.
+             */
+            int getIndiceSelecionado() {
+                int linha = list.getSelectedIndex();
+                if (linha == -1) {
+                    return -1;
+                }
+                return filtrada != null ? filtrada.toModelIndex(linha) : linha;
+            }
+
+            /**
+             * Destaca o item selecionado do combo na lista filtrada, ou a primeira linha se ele não estiver visível.
+             */
+            private void sincronizarSelecao() {
+                int linha = filtrada.toListIndex(comboBox.getSelectedIndex());
+                if (linha == -1 && filtrada.getSize() > 0) {
+                    linha = 0;
+                }
+                if (linha == -1) {
+                    list.clearSelection();
+                } else {
+                    list.setSelectedIndex(linha);
+                    list.ensureIndexIsVisible(linha);
+                }
+            }
+
+            /**
+             * Ajusta a altura do popup aberto à quantidade de linhas filtradas, como em {@link #show()}.
+             */
+            private void redimensionar() {
+                Dimension popupSize = comboBox.getSize();
+                Insets insets = getInsets();
+                popupSize.setSize(popupSize.width - (insets.right + insets.left),
+                        getPopupHeightForRowCount(comboBox.getMaximumRowCount()));
+                Rectangle popupBounds = computePopupBounds(0, comboBox.getBounds().height,
+                        popupSize.width, popupSize.height);
+                Dimension scrollSize = popupBounds.getSize();
+                scroller.setMaximumSize(scrollSize);
+                scroller.setPreferredSize(scrollSize);
+                scroller.setMinimumSize(scrollSize);
+                list.revalidate();
+                pack();
             }
         }
 
         private class ArrowButton extends JButton {
+            /** Vértices da seta, reaproveitados entre as pinturas */
+            private final int[] px = new int[3];
+            private final int[] py = new int[3];
+
             public ArrowButton() {
                 setContentAreaFilled(false);
-                setBorder(new EmptyBorder(10, 5, 5, 5));
+                setBorder(ARROW_BORDER);
                 setBackground(getThemeColor("WComboBox.bgColor", DEFAULT_BG_COLOR));
             }
 
             @Override
             public void paint(Graphics g) {
                 super.paint(g);
-                Graphics2D g2 = (Graphics2D) g.create();
+                WGraphicsState state = WGraphicsState.save(g);
                 try {
+                    Graphics2D g2 = state.graphics();
                     g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
                     int width = getWidth();
@@ -556,8 +1087,12 @@ public class WComboBox<E> extends JComboBox<E> {
                     int x = (width - size) / 2;
                     int y = (height - size) / 2 + 3;
 
-                    int[] px = {x, x + size, x + size / 2};
-                    int[] py = {y, y, y + size};
+                    px[0] = x;
+                    px[1] = x + size;
+                    px[2] = x + size / 2;
+                    py[0] = y;
+                    py[1] = y;
+                    py[2] = y + size;
 
                     Color arrowColor = hasError ?
                             (isSuccessMessage ? SUCCESS_COLOR : ERROR_COLOR) :
@@ -566,7 +1101,7 @@ public class WComboBox<E> extends JComboBox<E> {
                     g2.setColor(arrowColor);
                     g2.fillPolygon(px, py, px.length);
                 } finally {
-                    g2.dispose();
+                    state.restore();
                 }
             }
         }
@@ -601,6 +1136,7 @@ public class WComboBox<E> extends JComboBox<E> {
      * Define uma mensagem (erro ou sucesso) no campo.
      */
     public void setMensagem(String mensagem, boolean sucesso) {
+        WMessageScheduler.cancel(this);
         this.errorMessage = mensagem;
         this.isSuccessMessage = sucesso;
         this.hasError = !sucesso;
@@ -608,6 +1144,7 @@ public class WComboBox<E> extends JComboBox<E> {
         updateLabelState(isFocusOwner());
         animateError(true);
         repaint();
+        repaintMessage();
     }
 
     /**
@@ -632,6 +1169,70 @@ public class WComboBox<E> extends JComboBox<E> {
         return false;
     }
 
+    /**
+     * Registra um validador assíncrono, executado fora da EDT a cada alteração do campo.
+     * O resultado é exibido na EDT apenas se o campo não tiver mudado desde o início da validação.
+     */
+    public void addValidador(WValidator<? super E> validador) {
+        validacaoAsync().add(validador);
+    }
+
+    /**
+     * Remove um validador assíncrono.
+     */
+    public void removeValidador(WValidator<? super E> validador) {
+        if (validacaoAsync != null) {
+            validacaoAsync.remove(validador);
+        }
+    }
+
+    /**
+     * Define o atraso, em milissegundos, entre a última alteração e o início da validação assíncrona.
+     */
+    public void setAtrasoValidacao(int atraso) {
+        validacaoAsync().setDebounce(atraso);
+    }
+
+    public int getAtrasoValidacao() {
+        return validacaoAsync != null ? validacaoAsync.getDebounce() : WValidationPipeline.DEFAULT_DEBOUNCE;
+    }
+
+    /**
+     * Valida o campo obrigatório e executa imediatamente os validadores assíncronos.
+     *
+     * @return Futuro concluído na EDT com true se o campo for válido
+     */
+    public CompletableFuture<Boolean> validarAsync() {
+        if (!validar()) {
+            return CompletableFuture.completedFuture(false);
+        }
+        if (validacaoAsync == null) {
+            return CompletableFuture.completedFuture(true);
+        }
+        return validacaoAsync.validateNow().thenApply(WValidationResult::isValid);
+    }
+
+    /**
+     * Item selecionado com o tipo do combo, entregue aos validadores assíncronos.
+     */
+    @SuppressWarnings("unchecked")
+    private E itemSelecionado() {
+        return (E) getSelectedItem();
+    }
+
+    /**
+     * Aplica no campo o resultado de uma validação assíncrona.
+     */
+    private void aplicarValidacao(WValidationResult resultado) {
+        if (!resultado.isValid()) {
+            mostrarErro(resultado.getMensagem());
+        } else if (resultado.getMensagem() != null) {
+            mostrarSucesso(resultado.getMensagem());
+        } else {
+            limparMensagem();
+        }
+    }
+
     /**
      * Exibe uma mensagem de erro personalizada.
      */
@@ -647,24 +1248,21 @@ public class WComboBox<E> extends JComboBox<E> {
             return;
         }
 
-        if (errorTimeline != null && !errorTimeline.isDone()) {
-            errorTimeline.abort();
-        }
-
         animateError(false);
 
-        new Thread(() -> {
-            try {
-                Thread.sleep(ANIMATION_DURATION);
-                this.hasError = false;
-                this.errorMessage = "";
-                this.isSuccessMessage = false;
-                updateLabelState(isFocusOwner());
-                repaint();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
+        WMessageScheduler.schedule(this, limpezaMensagem, WAnimator.duration(ANIMATION_DURATION));
+    }
+
+    /**
+     * Conclui a limpeza da mensagem após a animação de saída.
+     */
+    private void concluirLimpezaMensagem() {
+        this.hasError = false;
+        this.errorMessage = "";
+        this.isSuccessMessage = false;
+        updateLabelState(isFocusOwner());
+        repaint();
+        repaintMessage();
     }
 
     /**
@@ -677,9 +1275,20 @@ public class WComboBox<E> extends JComboBox<E> {
 
     // ============================================ MÉTODOS DE CONFIGURAÇÃO ============================================
 
+    @Override
+    public int getSelectedIndex() {
+        WLazyComboBoxModel<E> lazy = lazyModel();
+        return lazy != null ? lazy.getSelectedIndex() : super.getSelectedIndex();
+    }
+
     @Override
     public void setSelectedIndex(int index) {
-        super.setSelectedIndex(index);
+        WLazyComboBoxModel<E> lazy = lazyModel();
+        if (lazy != null) {
+            lazy.setSelectedIndex(index);
+        } else {
+            super.setSelectedIndex(index);
+        }
         updateLabelState(isFocusOwner());
         if (hasError && index != -1) {
             limparErro();
@@ -688,7 +1297,13 @@ public class WComboBox<E> extends JComboBox<E> {
 
     @Override
     public void setSelectedItem(Object item) {
-        super.setSelectedItem(item);
+        WLazyComboBoxModel<E> lazy = lazyModel();
+        if (lazy == null) {
+            super.setSelectedItem(item);
+        } else if (item == null || isEditable() || lazy.indexOf(item) != -1) {
+            // Evita a busca linear do JComboBox, que carregaria todas as páginas
+            lazy.setSelectedItem(item);
+        }
         updateLabelState(isFocusOwner());
         if (hasError && item != null) {
             limparErro();
@@ -697,6 +1312,7 @@ public class WComboBox<E> extends JComboBox<E> {
 
     public void setLabelText(String labelText) {
         this.labelText = labelText;
+        labelGlyphs.invalidate();
         repaint();
     }
 
@@ -710,6 +1326,54 @@ public class WComboBox<E> extends JComboBox<E> {
         repaint();
     }
 
+    /**
+     * Habilita o filtro por digitação: com o combo em foco, o texto digitado restringe a lista do popup aos itens
+     * que o contêm (ou que começam com ele, para 1 ou 2 caracteres), usando um {@link WSearchIndex}.
+     *
+     * <p>
+     * Backspace apaga o último caractere, Esc limpa o filtro e Enter seleciona o item destacado. Enquanto habilitado,
+     * a seleção padrão pela primeira letra do item é desativada.</p>
+     *
+     * <p>
+     * O índice é criado quando o combo recebe o foco e indexado em segundo plano. Com um {@link WLazyComboBoxModel}
+     * a digitação não filtra: indexar exigiria buscar todas as páginas da fonte.</p>
+     *
+     * @param filtravel true para habilitar o filtro
+     */
+    public void setFiltravel(boolean filtravel) {
+        if (this.filtravel == filtravel) {
+            return;
+        }
+        this.filtravel = filtravel;
+        if (filtravel) {
+            keySelectionPadrao = getKeySelectionManager();
+            setKeySelectionManager((key, model) -> -1);
+        } else {
+            limparFiltro();
+            setKeySelectionManager(keySelectionPadrao);
+            if (searchIndex != null) {
+                searchIndex.dispose();
+                searchIndex = null;
+            }
+        }
+        firePropertyChange("filtravel", !filtravel, filtravel);
+    }
+
+    /**
+     * Limpa o texto do filtro e volta a exibir a lista completa.
+     */
+    public void limparFiltro() {
+        if (filtro.length() == 0) {
+            return;
+        }
+        filtro.setLength(0);
+        WComboBoxUI.WComboPopup popup = popupFiltro();
+        if (popup != null) {
+            popup.filtrar(null);
+        }
+        repaint();
+    }
+
     public void setObrigatorio(boolean obrigatorio) {
         boolean oldValue = this.obrigatorio;
         this.obrigatorio = obrigatorio;
@@ -718,17 +1382,17 @@ public class WComboBox<E> extends JComboBox<E> {
 
     public void setAnimationLocation(float animationLocation) {
         this.animationLocation = animationLocation;
-        repaint();
+        WAnimator.repaint(this, this::labelBand);
     }
 
     public void setErrorAnimationLocation(float errorAnimationLocation) {
         this.errorAnimationLocation = errorAnimationLocation;
-        repaint();
+        repaintMessage();
     }
 
     public void setLineAnimationProgress(float lineAnimationProgress) {
         this.lineAnimationProgress = lineAnimationProgress;
-        repaint();
+        WAnimator.repaint(this, this::lineBand);
     }
 
     // ============================================ MÉTODOS DE ACESSO ============================================
@@ -761,6 +1425,14 @@ public class WComboBox<E> extends JComboBox<E> {
         return obrigatorio;
     }
 
+    public boolean isFiltravel() {
+        return filtravel;
+    }
+
+    public String getFiltro() {
+        return filtro.toString();
+    }
+
     public boolean hasError() {
         return hasError;
     }
@@ -769,6 +1441,148 @@ public class WComboBox<E> extends JComboBox<E> {
         return errorMessage;
     }
 
+    // ============================================ CLASSE INTERNA - LISTENER COMPARTILHADO ============================================
+
+    /**
+     * Listener sem estado: o combo vem da origem do evento, então uma única instância atende a todos os componentes.
+     */
+    private static final class Handler extends MouseAdapter
+            implements FocusListener, ItemListener, KeyListener, PropertyChangeListener {
+
+        @Override
+        public void mouseEntered(MouseEvent e) {
+            long start = WMetrics.start();
+            ((WComboBox<?>) e.getComponent()).mouseAlterado(true);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void mouseExited(MouseEvent e) {
+            long start = WMetrics.start();
+            ((WComboBox<?>) e.getComponent()).mouseAlterado(false);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void focusGained(FocusEvent e) {
+            long start = WMetrics.start();
+            ((WComboBox<?>) e.getComponent()).focoAlterado(true);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void focusLost(FocusEvent e) {
+            long start = WMetrics.start();
+            ((WComboBox<?>) e.getComponent()).focoAlterado(false);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void itemStateChanged(ItemEvent e) {
+            long start = WMetrics.start();
+            ((WComboBox<?>) e.getItemSelectable()).selecaoAlterada(e);
+            WMetrics.listener(e.getItemSelectable(), start);
+        }
+
+        @Override
+        public void keyTyped(KeyEvent e) {
+            long start = WMetrics.start();
+            ((WComboBox<?>) e.getComponent()).teclaDigitada(e);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void keyPressed(KeyEvent e) {
+            long start = WMetrics.start();
+            ((WComboBox<?>) e.getComponent()).teclaPressionada(e);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void keyReleased(KeyEvent e) {
+        }
+
+        @Override
+        public void propertyChange(PropertyChangeEvent e) {
+            long start = WMetrics.start();
+            ((WComboBox<?>) e.getSource()).modeloAlterado();
+            WMetrics.listener(e.getSource(), start);
+        }
+    }
+
+    // ============================================ CLASSE INTERNA - RENDERER ============================================
+
+    /**
+     * Renderer das células, um por combo, que atende ao valor exibido e a todas as células do popup; as cores vêm
+     * da paleta compartilhada.
+     *
+     * <p>
+     * Não é compartilhado entre combos: o {@link javax.swing.CellRendererPane} que pinta o valor exibido adiciona o
+     * renderer como filho e não o remove, então um renderer estático prenderia o último combo pintado, e a janela
+     * dele, depois de a janela ser descartada.</p>
+     */
+    private static class Renderer extends DefaultListCellRenderer {
+
+        @Override
+        public Component getListCellRendererComponent(JList<?> list, Object value,
+                                                      int index, boolean isSelected, boolean cellHasFocus) {
+            Component com = super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+            setBorder(CELL_BORDER);
+
+            if (isSelected) {
+                com.setBackground(PALETTE.get("WComboBox.selectionColor", DEFAULT_SELECTION_COLOR));
+                com.setForeground(Color.WHITE);
+            } else {
+                com.setBackground(PALETTE.get("WComboBox.listBgColor", DEFAULT_LIST_BG_COLOR));
+                com.setForeground(PALETTE.get("WComboBox.textColor", DEFAULT_TEXT_COLOR));
+            }
+            return com;
+        }
+    }
+
+    // ============================================ CLASSE INTERNA - LISTA FILTRADA ============================================
+
+    /**
+     * Visão somente leitura de um subconjunto das linhas do modelo, exibida no popup enquanto há filtro.
+     */
+    private static class ListaFiltrada extends AbstractListModel<Object> {
+
+        /** Modelo original */
+        private final ListModel<?> base;
+
+        /** Posições exibidas, em ordem crescente */
+        private int[] linhas = new int[0];
+
+        ListaFiltrada(ListModel<?> base) {
+            this.base = base;
+        }
+
+        void setLinhas(int[] linhas) {
+            int anterior = this.linhas.length;
+            this.linhas = linhas;
+            fireContentsChanged(this, 0, Math.max(anterior, linhas.length) - 1);
+        }
+
+        int toModelIndex(int linha) {
+            return linhas[linha];
+        }
+
+        int toListIndex(int index) {
+            int linha = index < 0 ? -1 : java.util.Arrays.binarySearch(linhas, index);
+            return linha < 0 ? -1 : linha;
+        }
+
+        @Override
+        public int getSize() {
+            return linhas.length;
+        }
+
+        @Override
+        public Object getElementAt(int linha) {
+            return base.getElementAt(linhas[linha]);
+        }
+    }
+
     // ============================================ CLASSE INTERNA - SCROLLBAR CUSTOMIZADO ============================================
 
     /**
@@ -777,6 +1591,9 @@ public class WComboBox<E> extends JComboBox<E> {
      */
     private static class WScrollBar extends JScrollBar {
 
+        /** Cor do trilho da barra de rolagem */
+        private static final Color TRACK_COLOR = new Color(240, 240, 240);
+
         public WScrollBar() {
             setUI(new WScrollBarUI());
             setPreferredSize(new Dimension(8, 8));
@@ -819,11 +1636,11 @@ public class WComboBox<E> extends JComboBox<E> {
                 int orientation = scrollbar.getOrientation();
                 if (orientation == JScrollBar.VERTICAL) {
                     int x = trackBounds.x + (trackBounds.width / 2) - 2;
-                    g2.setColor(new Color(240, 240, 240));
+                    g2.setColor(TRACK_COLOR);
                     g2.fillRect(x, trackBounds.y, 4, trackBounds.height);
                 } else {
                     int y = trackBounds.y + (trackBounds.height / 2) - 2;
-                    g2.setColor(new Color(240, 240, 240));
+                    g2.setColor(TRACK_COLOR);
                     g2.fillRect(trackBounds.x, y, trackBounds.width, 4);
                 }
             }
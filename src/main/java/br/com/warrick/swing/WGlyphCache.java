@@ -0,0 +1,285 @@
+package br.com.warrick.swing;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+
+/**
+ * Cache do layout de glifos de um texto curto, usado pelo rótulo flutuante dos componentes.
+ *
+ * <p>
+ * O {@link GlyphVector} e as métricas do texto são calculados uma única vez para cada combinação de texto, fonte,
+ * configuração gráfica e dicas de renderização de texto. Durante a animação do rótulo cada quadro apenas desenha os
+ * glifos já prontos na posição do quadro, sem medir nem converter o texto novamente.</p>
+ *
+ * <p>
+ * O rótulo parado, flutuando ou em repouso, é desenhado a partir de uma imagem translúcida com os glifos, na
+ * densidade de pixels da tela, com um {@code drawImage} em posição inteira, que não aloca nada: desenhar os glifos
+ * diretamente cria a cada quadro as informações de fonte do novo contexto gráfico que o Swing entrega para cada
+ * pintura. Durante a animação, quando a escala muda a cada quadro, a imagem existente é redimensionada no
+ * {@code drawImage}, com interpolação bilinear, em vez de ser recriada a cada quadro; quando a mesma escala é
+ * desenhada em dois quadros seguidos, a imagem é refeita nítida nessa escala. Com antialiasing LCD os glifos são
+ * desenhados diretamente, com a escala aplicada na transformação do {@code Graphics2D}, já que a imagem translúcida
+ * só comporta antialiasing em tons de cinza.</p>
+ *
+ * <p>
+ * Como a fonte faz parte da chave, trocar a fonte do componente invalida o cache automaticamente.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public class WGlyphCache {
+    // ============================================ ATRIBUTOS ============================================
+
+    /** Texto dos glifos em cache */
+    private String text;
+
+    /** Fonte dos glifos em cache */
+    private Font font;
+
+    /** Configuração gráfica (tela) dos glifos em cache */
+    private GraphicsConfiguration configuration;
+
+    /** Dicas de renderização dos glifos em cache */
+    private Object antialiasing;
+    private Object textAntialiasing;
+    private Object fractionalMetrics;
+
+    /** Contexto de renderização dos glifos em cache */
+    private FontRenderContext frc;
+
+    /** Glifos do texto */
+    private GlyphVector glyphs;
+
+    /** Altura lógica do texto (ascendente + descendente + entrelinha) */
+    private double height;
+
+    /** Ascendente da fonte em pixels */
+    private int ascent;
+
+    /** Glifos da última escala e cor desenhadas */
+    private BufferedImage image;
+
+    /** Escala do último desenho, para distinguir o rótulo parado do rótulo em animação */
+    private float lastScale = Float.NaN;
+
+    /** Escala e cor de {@link #image} */
+    private float imageScale;
+    private Color imageColor;
+
+    /** Deslocamento da imagem em relação à origem do texto (posição e linha de base) */
+    private int imageX;
+    private int imageY;
+
+    /** Tamanho lógico da imagem, antes da escala da tela */
+    private int imageWidth;
+    private int imageHeight;
+
+    // ============================================ MÉTODOS PÚBLICOS ============================================
+
+    /**
+     * Garante que o cache corresponde ao texto informado e à fonte, tela e dicas de renderização atuais do
+     * {@code Graphics2D}.
+     *
+     * @param g2 Contexto gráfico com a fonte que será usada no desenho
+     * @param text Texto a ser desenhado
+     */
+    public void update(Graphics2D g2, String text) {
+        Font currentFont = g2.getFont();
+        GraphicsConfiguration currentConfiguration = g2.getDeviceConfiguration();
+        Object currentAntialiasing = g2.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
+        Object currentTextAntialiasing = g2.getRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING);
+        Object currentFractionalMetrics = g2.getRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS);
+        // O FontRenderContext não entra na comparação: o Graphics2D cria um novo a cada contexto copiado
+        if (glyphs != null && text.equals(this.text) && currentFont.equals(font)
+                && currentConfiguration == configuration
+                && Objects.equals(currentAntialiasing, antialiasing)
+                && Objects.equals(currentTextAntialiasing, textAntialiasing)
+                && Objects.equals(currentFractionalMetrics, fractionalMetrics)) {
+            return;
+        }
+
+        FontRenderContext currentFrc = g2.getFontRenderContext();
+        FontMetrics fm = g2.getFontMetrics(currentFont);
+        this.text = text;
+        this.font = currentFont;
+        this.configuration = currentConfiguration;
+        this.antialiasing = currentAntialiasing;
+        this.textAntialiasing = currentTextAntialiasing;
+        this.fractionalMetrics = currentFractionalMetrics;
+        this.frc = currentFrc;
+        this.glyphs = currentFont.createGlyphVector(currentFrc, text);
+        this.image = null;
+        this.height = fm.getStringBounds(text, g2).getHeight();
+        this.ascent = fm.getAscent();
+    }
+
+    /**
+     * Descarta os glifos em cache. O próximo {@link #update(Graphics2D, String)} recalcula o layout.
+     */
+    public void invalidate() {
+        glyphs = null;
+        image = null;
+        text = null;
+    }
+
+    /**
+     * Desenha os glifos em cache na posição e escala informadas, na cor atual do {@code Graphics2D}.
+     *
+     * <p>
+     * O estado do {@code Graphics2D} é preservado, e o contexto não é copiado. A posição é arredondada para o pixel
+     * mais próximo. Escalas não positivas não desenham nada.</p>
+     *
+     * @param g2 Contexto gráfico, com a cor já definida
+     * @param x Posição horizontal do texto
+     * @param baseline Posição vertical da linha de base
+     * @param scale Fator de escala do texto
+     */
+    public void draw(Graphics2D g2, double x, double baseline, float scale) {
+        if (!(scale > 0)) {
+            return;
+        }
+        boolean resting = scale == lastScale;
+        lastScale = scale;
+        if (isLcd(textAntialiasing)) {
+            AffineTransform saved = g2.getTransform();
+            try {
+                g2.translate(x, 0);
+                g2.scale(scale, scale);
+                g2.drawGlyphVector(glyphs, 0, (float) (baseline / scale));
+            } finally {
+                g2.setTransform(saved);
+            }
+            return;
+        }
+
+        Color color = g2.getColor();
+        // Durante a animação a imagem da escala anterior é ampliada ou reduzida; parada, a escala ganha imagem própria
+        if (image == null || !color.equals(imageColor) || resting && imageScale != scale) {
+            renderImage(scale, color);
+            imageScale = scale;
+            imageColor = color;
+        }
+        if (imageScale != scale) {
+            drawScaledImage(g2, x, baseline, scale / imageScale);
+            return;
+        }
+        int ix = (int) Math.round(x) + imageX;
+        int iy = (int) Math.round(baseline) + imageY;
+        if (image.getWidth() == imageWidth && image.getHeight() == imageHeight) {
+            g2.drawImage(image, ix, iy, null);
+        } else {
+            g2.drawImage(image, ix, iy, imageWidth, imageHeight, null);
+        }
+    }
+
+    /**
+     * Retorna a altura lógica do texto em cache.
+     *
+     * @return Altura do texto
+     */
+    public double getHeight() {
+        return height;
+    }
+
+    /**
+     * Retorna o ascendente da fonte em cache.
+     *
+     * @return Ascendente em pixels
+     */
+    public int getAscent() {
+        return ascent;
+    }
+
+    /**
+     * Retorna a distância da linha de base até o limite inferior do texto em cache.
+     *
+     * @return Descendente em pixels (mais a entrelinha)
+     */
+    public double getDescent() {
+        return height - ascent;
+    }
+
+    // ============================================ MÉTODOS PRIVADOS ============================================
+
+    /**
+     * Desenha a imagem em cache redimensionada pelo fator informado, com interpolação bilinear, para os quadros da
+     * animação de escala.
+     */
+    private void drawScaledImage(Graphics2D g2, double x, double baseline, double factor) {
+        double left = x + imageX * factor;
+        double top = baseline + imageY * factor;
+        int x1 = (int) Math.round(left);
+        int y1 = (int) Math.round(top);
+        int x2 = (int) Math.round(left + imageWidth * factor);
+        int y2 = (int) Math.round(top + imageHeight * factor);
+        Object interpolation = g2.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2.drawImage(image, x1, y1, x2, y2, 0, 0, image.getWidth(), image.getHeight(), null);
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                interpolation != null ? interpolation : RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+    }
+
+    /**
+     * Desenha os glifos na imagem em cache, na escala informada e na densidade de pixels do contexto de
+     * renderização.
+     */
+    private void renderImage(float scale, Color color) {
+        // Margem de um pixel para o antialiasing das bordas dos glifos
+        Rectangle2D bounds = glyphs.getVisualBounds();
+        imageX = (int) Math.floor(bounds.getX() * scale) - 1;
+        imageY = (int) Math.floor(bounds.getY() * scale) - 1;
+        imageWidth = Math.max(1, (int) Math.ceil(bounds.getMaxX() * scale) + 1 - imageX);
+        imageHeight = Math.max(1, (int) Math.ceil(bounds.getMaxY() * scale) + 1 - imageY);
+
+        AffineTransform tx = frc.getTransform();
+        double sx = tx.getScaleX() > 0 ? tx.getScaleX() : 1;
+        double sy = tx.getScaleY() > 0 ? tx.getScaleY() : 1;
+        int width = (int) Math.ceil(imageWidth * sx);
+        int height = (int) Math.ceil(imageHeight * sy);
+        image = configuration != null
+                ? configuration.createCompatibleImage(width, height, Transparency.TRANSLUCENT)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D ig = image.createGraphics();
+        try {
+            ig.scale(sx, sy);
+            ig.translate(-imageX, -imageY);
+            ig.scale(scale, scale);
+            if (antialiasing != null) {
+                ig.setRenderingHint(RenderingHints.KEY_ANTIALIASING, antialiasing);
+            }
+            if (textAntialiasing != null) {
+                ig.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, textAntialiasing);
+            }
+            if (fractionalMetrics != null) {
+                ig.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, fractionalMetrics);
+            }
+            ig.setColor(color);
+            ig.drawGlyphVector(glyphs, 0, 0);
+        } finally {
+            ig.dispose();
+        }
+    }
+
+    /**
+     * Indica se a dica de antialiasing de texto é uma das variantes LCD.
+     */
+    private static boolean isLcd(Object textAntialiasing) {
+        return textAntialiasing == RenderingHints.VALUE_TEXT_ANTIALIAS_LCD_HRGB
+                || textAntialiasing == RenderingHints.VALUE_TEXT_ANTIALIAS_LCD_HBGR
+                || textAntialiasing == RenderingHints.VALUE_TEXT_ANTIALIAS_LCD_VRGB
+                || textAntialiasing == RenderingHints.VALUE_TEXT_ANTIALIAS_LCD_VBGR;
+    }
+}
@@ -0,0 +1,151 @@
+package br.com.warrick.swing;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.util.Arrays;
+
+/**
+ * Estado de um {@code Graphics2D} salvo antes da pintura de um componente W e restaurado ao final, no lugar de um
+ * contexto filho criado com {@link Graphics#create()}.
+ *
+ * <p>
+ * O {@code Graphics} recebido por {@code paintComponent} é compartilhado com a pintura da borda e dos filhos, então
+ * as mudanças feitas pelos componentes (dicas de renderização, cor e fonte) precisam ser desfeitas. Criar um
+ * contexto filho a cada quadro copia todo o estado do {@code SunGraphics2D}; este objeto guarda apenas o que os
+ * componentes alteram, sem alocar nada.</p>
+ *
+ * <p>
+ * A transformação só é salva quando o componente pede, com {@link #saveTransform()}: o
+ * {@link Graphics2D#getTransform()} sempre devolve uma cópia nova.</p>
+ *
+ * <p>
+ * Os estados ficam em uma pilha estática reaproveitada, já que a pintura de um componente pode conter a pintura de
+ * outro (um botão dentro do {@code WComboBox}). Cada {@link #save(Graphics)} deve ser seguido de um
+ * {@link #restore()} em um bloco {@code finally}:</p>
+ *
+ * <pre>
+ * WGraphicsState state = WGraphicsState.save(g);
+ * try {
+ *     Graphics2D g2 = state.graphics();
+ *     ...
+ * } finally {
+ *     state.restore();
+ * }
+ * </pre>
+ *
+ * <p>
+ * Deve ser usado apenas na Event Dispatch Thread.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public final class WGraphicsState {
+    // ============================================ ATRIBUTOS ============================================
+
+    /** Estados reaproveitados, um por nível de aninhamento */
+    private static WGraphicsState[] stack = new WGraphicsState[4];
+
+    /** Quantidade de estados salvos e ainda não restaurados */
+    private static int depth;
+
+    /** Contexto gráfico cujo estado foi salvo */
+    private Graphics2D g2;
+
+    /** Dicas de renderização alteradas pelos componentes */
+    private Object antialiasing;
+    private Object textAntialiasing;
+    private Object fractionalMetrics;
+
+    /** Cor e fonte */
+    private Color color;
+    private Font font;
+
+    /** Transformação, salva apenas por {@link #saveTransform()} */
+    private final AffineTransform transform = new AffineTransform();
+
+    /** Indica se a transformação foi salva */
+    private boolean transformSaved;
+
+    // ============================================ CONSTRUTORES ============================================
+
+    private WGraphicsState() {
+    }
+
+    // ============================================ MÉTODOS PÚBLICOS ============================================
+
+    /**
+     * Salva o estado do contexto gráfico.
+     *
+     * @param g Contexto gráfico da pintura
+     * @return Estado salvo, a ser restaurado com {@link #restore()}
+     */
+    public static WGraphicsState save(Graphics g) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        WGraphicsState state = stack[depth];
+        if (state == null) {
+            state = new WGraphicsState();
+            stack[depth] = state;
+        }
+        depth++;
+
+        Graphics2D g2 = (Graphics2D) g;
+        state.g2 = g2;
+        state.antialiasing = g2.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
+        state.textAntialiasing = g2.getRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING);
+        state.fractionalMetrics = g2.getRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS);
+        state.color = g2.getColor();
+        state.font = g2.getFont();
+        state.transformSaved = false;
+        return state;
+    }
+
+    /**
+     * Salva também a transformação, para os componentes que a alteram durante a pintura.
+     */
+    public void saveTransform() {
+        transform.setTransform(g2.getTransform());
+        transformSaved = true;
+    }
+
+    /**
+     * Retorna o contexto gráfico cujo estado foi salvo.
+     *
+     * @return Contexto gráfico
+     */
+    public Graphics2D graphics() {
+        return g2;
+    }
+
+    /**
+     * Restaura o estado salvo e libera este objeto para a próxima pintura.
+     */
+    public void restore() {
+        if (antialiasing != null) {
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, antialiasing);
+        }
+        if (textAntialiasing != null) {
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, textAntialiasing);
+        }
+        if (fractionalMetrics != null) {
+            g2.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, fractionalMetrics);
+        }
+        g2.setColor(color);
+        g2.setFont(font);
+        if (transformSaved) {
+            g2.setTransform(transform);
+        }
+
+        // Não mantém referências ao contexto e às cores da pintura
+        g2 = null;
+        color = null;
+        font = null;
+        depth--;
+    }
+}
@@ -0,0 +1,201 @@
+package br.com.warrick.swing;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.imageio.ImageIO;
+
+/**
+ * Cache de ícones compartilhado por todos os componentes W.
+ *
+ * <p>
+ * Cada ícone do classpath é decodificado uma única vez e a mesma {@link Image} é entregue a todas as instâncias. Para
+ * a pintura, o cache guarda também versões já redimensionadas para cada tamanho e fator de escala de tela (HiDPI),
+ * de modo que o {@code drawImage} de cada quadro copia pixels sem reamostrar a imagem.</p>
+ *
+ * <p>
+ * {@link #get(String)} pode ser chamado de qualquer thread; os métodos de pintura devem ser usados apenas na Event
+ * Dispatch Thread.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public final class WIconCache {
+    // ============================================ ATRIBUTOS ============================================
+
+    /** Ícones por caminho no classpath */
+    private static final Map<String, Entry> ICONS = new ConcurrentHashMap<>();
+
+    /** Ícone ausente do classpath */
+    private static final Entry MISSING = new Entry(null);
+
+    /** Configuração gráfica da última pintura */
+    private static GraphicsConfiguration lastConfig;
+
+    /** Fator de escala da última configuração gráfica */
+    private static double lastScale = 1;
+
+    // ============================================ CONSTRUTORES ============================================
+
+    private WIconCache() {
+    }
+
+    // ============================================ MÉTODOS PÚBLICOS ============================================
+
+    /**
+     * Retorna o ícone decodificado, compartilhado por todas as chamadas com o mesmo caminho.
+     *
+     * @param path Caminho absoluto do recurso no classpath (ex: "/br/com/warrick/icon/eye.png")
+     * @return Imagem do ícone, ou null se o recurso não existir ou não puder ser lido
+     */
+    public static Image get(String path) {
+        return entry(path).source;
+    }
+
+    /**
+     * Retorna o ícone redimensionado para o tamanho lógico e o fator de escala informados.
+     *
+     * @param path Caminho absoluto do recurso no classpath
+     * @param size Tamanho lógico (largura e altura) em pixels
+     * @param scale Fator de escala da tela (1.0, 1.5, 2.0...)
+     * @return Imagem com {@code size * scale} pixels de lado, ou null se o ícone não existir
+     */
+    public static Image get(String path, int size, double scale) {
+        return entry(path).variant(size, scale);
+    }
+
+    /**
+     * Desenha o ícone no tamanho lógico informado, usando a versão pré-redimensionada para a escala da tela.
+     *
+     * @param g Contexto gráfico
+     * @param path Caminho absoluto do recurso no classpath
+     * @param x Posição horizontal
+     * @param y Posição vertical
+     * @param size Tamanho lógico (largura e altura) em pixels
+     * @return false se o ícone não existir e nada foi desenhado
+     */
+    public static boolean draw(Graphics2D g, String path, int x, int y, int size) {
+        Image image = get(path, size, scaleOf(g));
+        if (image == null) {
+            return false;
+        }
+        if (image.getWidth(null) == size) {
+            g.drawImage(image, x, y, null);
+        } else {
+            g.drawImage(image, x, y, size, size, null);
+        }
+        return true;
+    }
+
+    /**
+     * Retorna o fator de escala da tela do contexto gráfico. O valor é memorizado por configuração gráfica, evitando
+     * alocar uma transformação a cada quadro.
+     *
+     * @param g Contexto gráfico
+     * @return Fator de escala horizontal da tela (1.0 sem HiDPI)
+     */
+    public static double scaleOf(Graphics2D g) {
+        GraphicsConfiguration config = g.getDeviceConfiguration();
+        if (config != lastConfig) {
+            lastConfig = config;
+            lastScale = config != null ? config.getDefaultTransform().getScaleX() : 1;
+        }
+        return lastScale;
+    }
+
+    // ============================================ MÉTODOS PRIVADOS ============================================
+
+    private static Entry entry(String path) {
+        return ICONS.computeIfAbsent(path, WIconCache::load);
+    }
+
+    private static Entry load(String path) {
+        try (InputStream in = WIconCache.class.getResourceAsStream(path)) {
+            BufferedImage image = in != null ? ImageIO.read(in) : null;
+            return image != null ? new Entry(image) : MISSING;
+        } catch (IOException e) {
+            return MISSING;
+        }
+    }
+
+    /**
+     * Redimensiona a imagem com interpolação bicúbica, reduzindo pela metade em etapas quando a redução é grande
+     * para não perder detalhes.
+     */
+    private static BufferedImage scale(BufferedImage source, int pixels) {
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+        do {
+            w = w / 2 >= pixels ? w / 2 : pixels;
+            h = h / 2 >= pixels ? h / 2 : pixels;
+            BufferedImage next = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2 = next.createGraphics();
+            try {
+                g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+                g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g2.drawImage(current, 0, 0, w, h, null);
+            } finally {
+                g2.dispose();
+            }
+            current = next;
+        } while (w != pixels || h != pixels);
+        return current;
+    }
+
+    // ============================================ CLASSE INTERNA - ENTRADA ============================================
+
+    /**
+     * Imagem decodificada e suas versões redimensionadas.
+     */
+    private static final class Entry {
+
+        /** Imagem original, ou null se o ícone não existir */
+        final BufferedImage source;
+
+        /** Tamanhos em pixels das versões redimensionadas */
+        private int[] sizes = new int[0];
+
+        /** Versões redimensionadas, na mesma ordem de {@link #sizes} */
+        private BufferedImage[] variants = new BufferedImage[0];
+
+        Entry(BufferedImage source) {
+            this.source = source;
+        }
+
+        /**
+         * Retorna a versão com o tamanho em pixels correspondente, criando-a no primeiro uso.
+         */
+        BufferedImage variant(int size, double scale) {
+            if (source == null) {
+                return null;
+            }
+            int pixels = Math.max(1, (int) Math.ceil(size * scale));
+            if (pixels == source.getWidth() && pixels == source.getHeight()) {
+                return source;
+            }
+            for (int i = 0; i < sizes.length; i++) {
+                if (sizes[i] == pixels) {
+                    return variants[i];
+                }
+            }
+            // Poucas escalas por ícone: os arrays crescem um a um
+            int n = sizes.length;
+            int[] newSizes = Arrays.copyOf(sizes, n + 1);
+            BufferedImage[] newVariants = Arrays.copyOf(variants, n + 1);
+            newSizes[n] = pixels;
+            newVariants[n] = scale(source, pixels);
+            variants = newVariants;
+            sizes = newSizes;
+            return newVariants[n];
+        }
+    }
+}
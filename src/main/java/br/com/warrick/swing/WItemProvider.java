@@ -0,0 +1,108 @@
+package br.com.warrick.swing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Fonte de itens paginada usada pelo {@link WLazyComboBoxModel}.
+ *
+ * <p>
+ * O modelo pede apenas as janelas de itens que precisa exibir, na ordem em que o usuário rola a lista. A
+ * implementação pode consultar um banco de dados, um serviço remoto ou gerar os itens sob demanda; as chamadas
+ * acontecem na Event Dispatch Thread e devem retornar rapidamente.</p>
+ *
+ * @param <E> Tipo dos itens
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public interface WItemProvider<E> {
+
+    /**
+     * Retorna a quantidade total de itens.
+     *
+     * @return Quantidade de itens disponíveis
+     */
+    int size();
+
+    /**
+     * Busca uma janela contígua de itens.
+     *
+     * @param offset Índice do primeiro item
+     * @param count Quantidade de itens a partir de {@code offset}
+     * @return Itens da janela, na ordem, com exatamente {@code count} elementos
+     */
+    List<E> fetch(int offset, int count);
+
+    /**
+     * Localiza o índice de um item, usado para selecionar itens que não estão em cache.
+     *
+     * <p>
+     * A implementação padrão retorna -1; fontes que conseguem localizar itens sem percorrer a lista inteira (por
+     * exemplo, por chave primária) devem sobrescrevê-la.</p>
+     *
+     * @param item Item procurado
+     * @return Índice do item, ou -1 se não for encontrado
+     */
+    default int indexOf(Object item) {
+        return -1;
+    }
+
+    // ============================================ FÁBRICAS ============================================
+
+    /**
+     * Cria uma fonte sobre uma lista já carregada em memória.
+     *
+     * @param items Lista de itens
+     * @param <E> Tipo dos itens
+     * @return Fonte que lê janelas da lista
+     */
+    static <E> WItemProvider<E> of(List<E> items) {
+        return new WItemProvider<E>() {
+            @Override
+            public int size() {
+                return items.size();
+            }
+
+            @Override
+            public List<E> fetch(int offset, int count) {
+                return items.subList(offset, offset + count);
+            }
+
+            @Override
+            public int indexOf(Object item) {
+                return items.indexOf(item);
+            }
+        };
+    }
+
+    /**
+     * Cria uma fonte que gera cada item a partir do seu índice, sem armazená-los.
+     *
+     * <p>
+     * Útil como substituta local de uma fonte remota em testes e benchmarks.</p>
+     *
+     * @param size Quantidade de itens
+     * @param generator Função que produz o item de cada índice
+     * @param <E> Tipo dos itens
+     * @return Fonte geradora
+     */
+    static <E> WItemProvider<E> generated(int size, IntFunction<E> generator) {
+        return new WItemProvider<E>() {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public List<E> fetch(int offset, int count) {
+                List<E> page = new ArrayList<>(count);
+                for (int i = offset; i < offset + count; i++) {
+                    page.add(generator.apply(i));
+                }
+                return page;
+            }
+        };
+    }
+}
@@ -3,8 +3,6 @@ package br.com.warrick.swing;
 import java.awt.*;
 import java.awt.event.*;
 import javax.swing.*;
-import org.pushingpixels.trident.Timeline;
-import org.pushingpixels.trident.ease.Spline;
 
 /**
  * Componente de label personalizado com suporte a animações de linha inferior interativa.
@@ -53,6 +51,21 @@ public class WLabel extends JLabel {
      */
     protected static final int ANIMATION_DURATION = 300;
 
+    /**
+     * Paleta de cores do tema compartilhada por todas as instâncias.
+     */
+    private static final WPalette PALETTE = WPalette.of(WLabel.class);
+
+    /**
+     * Cursor de mão compartilhado por todas as instâncias.
+     */
+    private static final Cursor HAND_CURSOR = Cursor.getPredefinedCursor(Cursor.HAND_CURSOR);
+
+    /**
+     * Listener de mouse compartilhado por todas as instâncias.
+     */
+    private static final Handler HANDLER = new Handler();
+
     // ============================================ ATRIBUTOS ============================================
 
     /**
@@ -71,9 +84,15 @@ public class WLabel extends JLabel {
     protected Color lineColor = DEFAULT_LINE_COLOR;
 
     /**
-     * Controlador de animação para transições suaves da linha.
+     * Slot de animação para transições suaves da linha.
      */
-    protected Timeline lineTimeline;
+    protected final WAnimator.Slot lineAnimation =
+            WAnimator.slot(this, v -> lineAnimationProgress = v, ANIMATION_DURATION, WAnimator.SPLINE);
+
+    /**
+     * Margens reaproveitadas pela pintura da linha.
+     */
+    private final Insets paintInsets = new Insets(0, 0, 0, 0);
 
     // ============================================ CONSTRUTORES ============================================
 
@@ -111,8 +130,7 @@ public class WLabel extends JLabel {
      * Obtém uma cor do tema FlatLaf ou retorna a cor padrão fornecida.
      */
     protected Color getThemeColor(String key, Color defaultColor) {
-        Color themeColor = UIManager.getColor(key);
-        return themeColor != null ? themeColor : defaultColor;
+        return PALETTE.get(key, defaultColor);
     }
 
     /**
@@ -122,25 +140,21 @@ public class WLabel extends JLabel {
         // Configuração de cores
         setForeground(getThemeColor("WLabel.textColor", DEFAULT_TEXT_COLOR));
         setOpaque(false);
-        setCursor(new Cursor(Cursor.HAND_CURSOR));
+        setCursor(HAND_CURSOR);
 
         // Inicializa a cor da linha do tema
         lineColor = getThemeColor("WLabel.lineColor", DEFAULT_LINE_COLOR);
 
-        // Listener de mouse
-        addMouseListener(new MouseAdapter() {
-            @Override
-            public void mouseEntered(MouseEvent me) {
-                mouseOver = true;
-                animateLine(true);
-            }
-
-            @Override
-            public void mouseExited(MouseEvent me) {
-                mouseOver = false;
-                animateLine(false);
-            }
-        });
+        // Listener de mouse compartilhado
+        addMouseListener(HANDLER);
+    }
+
+    /**
+     * Anima a linha quando o mouse entra ou sai do label.
+     */
+    private void mouseAlterado(boolean sobre) {
+        mouseOver = sobre;
+        animateLine(sobre);
     }
 
     /**
@@ -148,8 +162,10 @@ public class WLabel extends JLabel {
      */
     @Override
     protected void paintComponent(Graphics g) {
-        Graphics2D g2 = (Graphics2D) g.create();
+        long start = WMetrics.start();
+        WGraphicsState state = WGraphicsState.save(g);
         try {
+            Graphics2D g2 = state.graphics();
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
 
@@ -159,8 +175,9 @@ public class WLabel extends JLabel {
             // Desenha a linha
             paintLine(g2);
         } finally {
-            g2.dispose();
+            state.restore();
         }
+        WMetrics.paint(this, start);
     }
 
     /**
@@ -168,7 +185,7 @@ public class WLabel extends JLabel {
      */
     private int calculateTextY() {
         FontMetrics fm = getFontMetrics(getFont());
-        Insets insets = getInsets();
+        Insets insets = getInsets(paintInsets);
         int textHeight = fm.getHeight();
         int verticalAlignment = getVerticalAlignment();
 
@@ -198,7 +215,7 @@ public class WLabel extends JLabel {
         int textWidth = fm.stringWidth(text);
 
         // Obtém as margens do componente
-        Insets insets = getInsets();
+        Insets insets = getInsets(paintInsets);
 
         // Calcula a posição X baseada no alinhamento horizontal
         int x = 0;
@@ -237,17 +254,7 @@ public class WLabel extends JLabel {
      * Anima a transição da linha inferior.
      */
     private void animateLine(boolean show) {
-        if (lineTimeline != null && !lineTimeline.isDone()) {
-            lineTimeline.abort();
-        }
-
-        lineTimeline = new Timeline(this);
-        lineTimeline.addPropertyToInterpolate("lineAnimationProgress",
-                lineAnimationProgress,
-                show ? 1f : 0f);
-        lineTimeline.setEase(new Spline(0.5f));
-        lineTimeline.setDuration(ANIMATION_DURATION);
-        lineTimeline.play();
+        lineAnimation.animate(lineAnimationProgress, show ? 1f : 0f);
     }
 
     // ============================================ MÉTODOS DE CONFIGURAÇÃO ============================================
@@ -328,4 +335,26 @@ public class WLabel extends JLabel {
     public boolean isMouseOver() {
         return mouseOver;
     }
-}
\ No newline at end of file
+
+    // ============================================ CLASSE INTERNA - LISTENER COMPARTILHADO ============================================
+
+    /**
+     * Listener de mouse sem estado: o label vem da origem do evento, então uma única instância atende a todos.
+     */
+    private static final class Handler extends MouseAdapter {
+
+        @Override
+        public void mouseEntered(MouseEvent e) {
+            long start = WMetrics.start();
+            ((WLabel) e.getComponent()).mouseAlterado(true);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void mouseExited(MouseEvent e) {
+            long start = WMetrics.start();
+            ((WLabel) e.getComponent()).mouseAlterado(false);
+            WMetrics.listener(e.getComponent(), start);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package br.com.warrick.swing;
+
+import java.awt.Font;
+import java.awt.font.TextAttribute;
+import java.io.IOException;
+import java.io.Reader;
+import java.text.Bidi;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.swing.event.DocumentEvent;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Element;
+import javax.swing.text.Segment;
+
+/**
+ * Documento de texto simples para textos de vários megabytes, armazenado em uma {@link WPieceTableContent tabela de
+ * peças}.
+ *
+ * <p>
+ * O texto carregado por {@link #load(Reader)} ou {@link #load(char[], int)} é adotado pelo conteúdo sem cópias e
+ * chega aos ouvintes em um único evento de inserção. As edições seguintes apenas dividem peças, sem mover o texto
+ * existente como o {@link javax.swing.text.GapContent} faz a cada mudança de ponto de edição.</p>
+ *
+ * <p>
+ * O carregamento substitui todo o texto e não entra no histórico de desfazer: as edições anteriores a ele deixam de
+ * ser válidas, e o {@link javax.swing.undo.UndoManager} do documento deve ser descartado.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public class WLargeDocument extends WPlainDocument {
+    // ============================================ CONSTANTES ============================================
+
+    /** Tamanho do bloco de leitura de {@link #load(Reader)} */
+    private static final int READ_BLOCK = 64 * 1024;
+
+    /** Propriedades do {@link javax.swing.text.AbstractDocument}: texto bidirecional e caracteres acima de 255 */
+    private static final String I18N_PROPERTY = "i18n";
+    private static final String MULTI_BYTE_PROPERTY = "multiByte";
+
+    /** Primeiro caractere que pode exigir análise bidirecional ou layout complexo; os anteriores nunca exigem */
+    private static final char BIDI_START = '\u0590';
+
+    // ============================================ CONSTRUTORES ============================================
+
+    /**
+     * Cria um novo documento vazio.
+     */
+    public WLargeDocument() {
+        super(new WPieceTableContent());
+    }
+
+    // ============================================ MÉTODOS PÚBLICOS ============================================
+
+    /**
+     * Substitui o texto do documento pelo conteúdo lido do {@code Reader}. As quebras de linha {@code \r\n} e
+     * {@code \r} são convertidas em {@code \n}, como no {@link javax.swing.text.DefaultEditorKit}. O leitor não é
+     * fechado.
+     *
+     * <p>
+     * O texto é lido em blocos de {@value #READ_BLOCK} caracteres, e cada bloco preenchido vira uma peça do conteúdo
+     * como foi lido, sem ser copiado para um vetor maior.</p>
+     *
+     * @param reader Origem do texto
+     * @throws IOException Se a leitura falhar
+     */
+    public void load(Reader reader) throws IOException {
+        List<char[]> blocks = new ArrayList<>();
+        char[] block = new char[READ_BLOCK];
+        int count = 0;
+        int read;
+        // O \r no fim de um bloco ainda descarta o \n no início do seguinte
+        boolean carriageReturn = false;
+        while ((read = reader.read(block, count, block.length - count)) != -1) {
+            // Converte as quebras de linha no próprio bloco
+            for (int i = count, end = count + read; i < end; i++) {
+                char c = block[i];
+                if (c == '\r') {
+                    block[count++] = '\n';
+                    carriageReturn = true;
+                } else {
+                    if (c != '\n' || !carriageReturn) {
+                        block[count++] = c;
+                    }
+                    carriageReturn = false;
+                }
+            }
+            if (count == block.length) {
+                blocks.add(block);
+                block = new char[READ_BLOCK];
+                count = 0;
+            }
+        }
+        blocks.add(block);
+        replace(blocks, count);
+    }
+
+    /**
+     * Substitui o texto do documento pelos caracteres informados, adotando o vetor sem copiá-lo. O vetor não deve ser
+     * alterado depois da chamada.
+     *
+     * @param text Vetor com o texto
+     * @param count Quantidade de caracteres usados do vetor
+     */
+    public void load(char[] text, int count) {
+        replace(Collections.singletonList(text), count);
+    }
+
+    // ============================================ MÉTODOS PRIVADOS ============================================
+
+    /**
+     * Substitui o texto do documento pelos blocos informados, em ordem, cada um adotado como uma peça. Todos os
+     * blocos são usados por inteiro, exceto o último, do qual são usados {@code lastCount} caracteres.
+     */
+    private void replace(List<char[]> blocks, int lastCount) {
+        writeLock();
+        try {
+            WPieceTableContent content = (WPieceTableContent) getContent();
+            int length = getLength();
+            if (length > 0) {
+                DefaultDocumentEvent e = new DefaultDocumentEvent(0, length, DocumentEvent.EventType.REMOVE);
+                removeUpdate(e);
+                // Sem a cópia do texto antigo que o remove() guardaria para desfazer
+                content.clear();
+                postRemoveUpdate(e);
+                e.end();
+                fireRemoveUpdate(e);
+            }
+            int count = 0;
+            for (int i = 0, last = blocks.size() - 1; i <= last; i++) {
+                char[] block = blocks.get(i);
+                int n = i == last ? lastCount : block.length;
+                content.load(count, block, n);
+                count += n;
+            }
+            if (count > 0) {
+                DefaultDocumentEvent e = new DefaultDocumentEvent(0, count, DocumentEvent.EventType.INSERT);
+                if (Boolean.TRUE.equals(getProperty(I18N_PROPERTY)) || !loadUpdate(e)) {
+                    insertUpdate(e, null);
+                }
+                e.end();
+                fireInsertUpdate(e);
+            }
+        } catch (BadLocationException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            writeUnlock();
+        }
+    }
+
+    /**
+     * Monta o mapa de linhas do texto carregado em um documento vazio, no lugar do
+     * {@link #insertUpdate(DefaultDocumentEvent, javax.swing.text.AttributeSet) insertUpdate}.
+     *
+     * <p>
+     * O {@code PlainDocument} e o {@code AbstractDocument} leem o trecho inserido em um único vetor, o que copiaria
+     * todo o texto carregado em várias peças. Aqui as peças são percorridas uma a uma, com retorno parcial, e a mesma
+     * passada conta os caracteres não brancos e procura caracteres acima de 255 e caracteres que podem exigir
+     * análise bidirecional. Como no {@code insertString}, o documento passa a ser {@code i18n} se o texto exigir
+     * essa análise ({@link Bidi#requiresBidi(char[], int, int)}) ou o layout de scripts complexos
+     * ({@link Font#textRequiresLayout(char[], int, int)}), ou se a direção do texto for da direita para a esquerda;
+     * nesse caso nada é alterado aqui e o carregamento usa o caminho padrão, que também monta a estrutura
+     * bidirecional.</p>
+     *
+     * @return false se o documento passou a ser {@code i18n}
+     */
+    private boolean loadUpdate(DefaultDocumentEvent chng) throws BadLocationException {
+        if (TextAttribute.RUN_DIRECTION_RTL.equals(getProperty(TextAttribute.RUN_DIRECTION))) {
+            putProperty(I18N_PROPERTY, Boolean.TRUE);
+            return false;
+        }
+        int length = chng.getLength();
+        BranchElement lineMap = (BranchElement) getDefaultRootElement();
+        Element line = lineMap.getElement(0);
+        List<Element> added = new ArrayList<>();
+        Segment segment = new Segment();
+        segment.setPartialReturn(true);
+        int lineStart = 0;
+        int nonBlank = 0;
+        boolean multiByte = false;
+        boolean maybeBidi = false;
+        for (int offset = 0; offset < length; offset += segment.count) {
+            getContent().getChars(offset, length - offset, segment);
+            char[] array = segment.array;
+            for (int i = 0; i < segment.count; i++) {
+                char c = array[segment.offset + i];
+                if (c == '\n') {
+                    int lineEnd = offset + i + 1;
+                    added.add(createLeafElement(lineMap, null, lineStart, lineEnd));
+                    lineStart = lineEnd;
+                } else if (c > ' ') {
+                    nonBlank++;
+                    multiByte |= c > 255;
+                    maybeBidi |= c >= BIDI_START;
+                }
+            }
+        }
+        if (maybeBidi && requiresI18n(length)) {
+            putProperty(I18N_PROPERTY, Boolean.TRUE);
+            return false;
+        }
+        addNonBlankCount(chng, nonBlank);
+        if (multiByte) {
+            putProperty(MULTI_BYTE_PROPERTY, Boolean.TRUE);
+        }
+        if (added.isEmpty()) {
+            // Uma única linha: o elemento existente já cresceu junto com o conteúdo
+            return true;
+        }
+
+        added.add(createLeafElement(lineMap, null, lineStart, line.getEndOffset()));
+        Element[] removed = {line};
+        Element[] lines = added.toArray(new Element[0]);
+        chng.addEdit(new ElementEdit(lineMap, 0, removed, lines));
+        lineMap.replace(0, 1, lines);
+        return true;
+    }
+
+    /**
+     * Indica se algum trecho dos primeiros {@code length} caracteres exige análise bidirecional ou layout de
+     * scripts complexos, percorrendo as peças uma a uma.
+     */
+    private boolean requiresI18n(int length) throws BadLocationException {
+        Segment segment = new Segment();
+        segment.setPartialReturn(true);
+        for (int offset = 0; offset < length; offset += segment.count) {
+            getContent().getChars(offset, length - offset, segment);
+            int end = segment.offset + segment.count;
+            if (Bidi.requiresBidi(segment.array, segment.offset, end)
+                    || Font.textRequiresLayout(segment.array, segment.offset, end)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
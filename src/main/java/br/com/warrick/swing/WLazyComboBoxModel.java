@@ -0,0 +1,270 @@
+package br.com.warrick.swing;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.swing.AbstractListModel;
+import javax.swing.ComboBoxModel;
+
+/**
+ * Modelo de combo box paginado que carrega os itens sob demanda a partir de um {@link WItemProvider}.
+ *
+ * <p>
+ * Os itens são lidos em páginas de tamanho fixo, apenas quando a lista pede um índice que ainda não está em cache.
+ * As páginas ficam em um cache LRU limitado, então a memória usada depende do número de páginas mantidas e não da
+ * quantidade total de itens. Combinado com a lista de altura e largura de célula fixas do {@link WComboBox}, abrir
+ * o popup custa o mesmo para mil ou um milhão de itens: só as linhas visíveis são lidas e renderizadas.</p>
+ *
+ * <p>
+ * O modelo guarda o índice do item selecionado, de modo que {@link WComboBox#getSelectedIndex()} não precisa
+ * percorrer a lista. Deve ser usado apenas na Event Dispatch Thread.</p>
+ *
+ * @param <E> Tipo dos itens
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public class WLazyComboBoxModel<E> extends AbstractListModel<E> implements ComboBoxModel<E> {
+    // ============================================ CONSTANTES ============================================
+
+    /** Quantidade padrão de itens por página */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    /** Quantidade padrão de páginas mantidas em cache */
+    public static final int DEFAULT_MAX_PAGES = 20;
+
+    // ============================================ ATRIBUTOS ============================================
+
+    /** Fonte dos itens */
+    private final WItemProvider<E> provider;
+
+    /** Quantidade de itens por página */
+    private final int pageSize;
+
+    /** Páginas em cache, da menos para a mais recentemente usada */
+    private final Map<Integer, Object[]> pages;
+
+    /** Quantidade total de itens, lida da fonte na criação e em {@link #refresh()} */
+    private int size;
+
+    /** Item selecionado */
+    private Object selectedItem;
+
+    /** Índice do item selecionado, ou -1 */
+    private int selectedIndex = -1;
+
+    /** Quantidade de páginas buscadas na fonte desde a criação */
+    private int fetchCount;
+
+    // ============================================ CONSTRUTORES ============================================
+
+    /**
+     * Cria um modelo com o tamanho de página e o cache padrões.
+     *
+     * @param provider Fonte dos itens
+     */
+    public WLazyComboBoxModel(WItemProvider<E> provider) {
+        this(provider, DEFAULT_PAGE_SIZE, DEFAULT_MAX_PAGES);
+    }
+
+    /**
+     * Cria um modelo com tamanho de página e cache personalizados.
+     *
+     * @param provider Fonte dos itens
+     * @param pageSize Quantidade de itens por página
+     * @param maxPages Quantidade máxima de páginas mantidas em cache
+     */
+    public WLazyComboBoxModel(WItemProvider<E> provider, int pageSize, int maxPages) {
+        if (pageSize <= 0 || maxPages <= 0) {
+            throw new IllegalArgumentException("pageSize e maxPages devem ser positivos");
+        }
+        this.provider = Objects.requireNonNull(provider, "provider");
+        this.pageSize = pageSize;
+        this.pages = new LinkedHashMap<Integer, Object[]>(maxPages * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Object[]> eldest) {
+                return size() > maxPages;
+            }
+        };
+        this.size = provider.size();
+    }
+
+    // ============================================ LISTMODEL ============================================
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E getElementAt(int index) {
+        if (index < 0 || index >= size) {
+            return null;
+        }
+        return (E) page(index / pageSize)[index % pageSize];
+    }
+
+    // ============================================ COMBOBOXMODEL ============================================
+
+    @Override
+    public void setSelectedItem(Object item) {
+        if (Objects.equals(selectedItem, item)) {
+            return;
+        }
+        selectedItem = item;
+        selectedIndex = item == null ? -1 : indexOf(item);
+        fireContentsChanged(this, -1, -1);
+    }
+
+    @Override
+    public Object getSelectedItem() {
+        return selectedItem;
+    }
+
+    // ============================================ MÉTODOS PÚBLICOS ============================================
+
+    /**
+     * Seleciona o item do índice informado sem procurá-lo na lista.
+     *
+     * @param index Índice do item, ou -1 para limpar a seleção
+     * @throws IllegalArgumentException se o índice estiver fora dos limites
+     */
+    public void setSelectedIndex(int index) {
+        if (index < -1 || index >= size) {
+            throw new IllegalArgumentException("setSelectedIndex: " + index + " out of bounds");
+        }
+        Object item = index == -1 ? null : getElementAt(index);
+        if (index == selectedIndex && Objects.equals(selectedItem, item)) {
+            return;
+        }
+        selectedItem = item;
+        selectedIndex = index;
+        fireContentsChanged(this, -1, -1);
+    }
+
+    /**
+     * Retorna o índice do item selecionado.
+     *
+     * @return Índice do item selecionado, ou -1
+     */
+    public int getSelectedIndex() {
+        return selectedIndex;
+    }
+
+    /**
+     * Localiza um item, procurando primeiro nas páginas em cache e depois na fonte.
+     *
+     * @param item Item procurado
+     * @return Índice do item, ou -1 se não for encontrado
+     */
+    public int indexOf(Object item) {
+        for (Map.Entry<Integer, Object[]> entry : pages.entrySet()) {
+            Object[] page = entry.getValue();
+            for (int i = 0; i < page.length; i++) {
+                if (Objects.equals(page[i], item)) {
+                    return entry.getKey() * pageSize + i;
+                }
+            }
+        }
+        return provider.indexOf(item);
+    }
+
+    /**
+     * Descarta o cache e relê a quantidade de itens da fonte, por exemplo após uma alteração nos dados.
+     *
+     * <p>
+     * O item selecionado continua selecionado se ainda estiver no mesmo índice ou se a fonte o localizar em outro;
+     * caso contrário, a seleção é limpa. A mudança de tamanho é avisada como itens acrescentados ou removidos no
+     * final, e os itens em comum como alterados.</p>
+     */
+    public void refresh() {
+        int oldSize = size;
+        Object oldItem = selectedItem;
+        pages.clear();
+        size = provider.size();
+        if (selectedItem != null) {
+            if (selectedIndex < 0 || selectedIndex >= size
+                    || !Objects.equals(getElementAt(selectedIndex), selectedItem)) {
+                selectedIndex = provider.indexOf(selectedItem);
+                if (selectedIndex == -1) {
+                    selectedItem = null;
+                }
+            }
+        }
+
+        if (size > oldSize) {
+            fireIntervalAdded(this, oldSize, size - 1);
+        } else if (size < oldSize) {
+            fireIntervalRemoved(this, size, oldSize - 1);
+        }
+        int common = Math.min(oldSize, size);
+        if (common > 0) {
+            fireContentsChanged(this, 0, common - 1);
+        }
+        if (selectedItem != oldItem) {
+            fireContentsChanged(this, -1, -1);
+        }
+    }
+
+    /**
+     * Retorna a fonte dos itens.
+     *
+     * @return Fonte dos itens
+     */
+    public WItemProvider<E> getProvider() {
+        return provider;
+    }
+
+    /**
+     * Retorna a quantidade de itens por página.
+     *
+     * @return Tamanho da página
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Retorna a quantidade de páginas atualmente em cache.
+     *
+     * @return Páginas em cache
+     */
+    public int getCachedPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * Retorna quantas páginas foram buscadas na fonte desde a criação do modelo.
+     *
+     * @return Quantidade de buscas
+     */
+    public int getFetchCount() {
+        return fetchCount;
+    }
+
+    // ============================================ MÉTODOS PRIVADOS ============================================
+
+    /**
+     * Retorna a página informada, buscando-a na fonte se não estiver em cache.
+     */
+    private Object[] page(int pageIndex) {
+        // get() também marca a página como a mais recentemente usada
+        Object[] page = pages.get(pageIndex);
+        if (page == null) {
+            int offset = pageIndex * pageSize;
+            int count = Math.min(pageSize, size - offset);
+            List<E> items = provider.fetch(offset, count);
+            page = new Object[count];
+            Iterator<E> it = items.iterator();
+            for (int i = 0; i < count && it.hasNext(); i++) {
+                page[i] = it.next();
+            }
+            fetchCount++;
+            pages.put(pageIndex, page);
+        }
+        return page;
+    }
+}
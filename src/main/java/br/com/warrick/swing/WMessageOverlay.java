@@ -0,0 +1,319 @@
+package br.com.warrick.swing;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.Window;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.ComponentListener;
+import java.awt.event.HierarchyBoundsListener;
+import java.awt.event.HierarchyEvent;
+import java.util.ArrayList;
+import javax.swing.JComponent;
+import javax.swing.JLayeredPane;
+import javax.swing.JRootPane;
+import javax.swing.SwingUtilities;
+
+/**
+ * Camada de mensagens de erro e sucesso de uma janela.
+ *
+ * <p>
+ * As mensagens dos campos são desenhadas logo abaixo da linha inferior e podem ultrapassar os limites do componente
+ * (descendentes do texto, mensagens mais largas que o campo). Em vez de cada campo pintar além dos próprios limites e
+ * depender da repintura do painel pai, uma única camada transparente por janela, instalada no
+ * {@link JLayeredPane} da {@link JRootPane}, desenha as mensagens de todos os campos registrados. A camada guarda o
+ * último retângulo pintado de cada mensagem e, a cada mudança, repinta apenas a união do retângulo antigo com o novo.
+ * </p>
+ *
+ * <p>
+ * A camada não recebe eventos de mouse. As mensagens são recortadas pela área visível do contêiner de cada campo,
+ * de modo que um campo rolado para fora de um {@code JScrollPane} não exibe sua mensagem sobre outros componentes.</p>
+ *
+ * <p>
+ * Deve ser usada apenas na Event Dispatch Thread.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public final class WMessageOverlay extends JComponent {
+    // ============================================ CONSTANTES ============================================
+
+    /** Chave da camada nas propriedades do {@link JLayeredPane} */
+    private static final String OVERLAY_KEY = "WMessageOverlay";
+
+    /** Camada do {@link JLayeredPane}: acima do conteúdo e abaixo dos popups */
+    private static final Integer OVERLAY_LAYER = JLayeredPane.PALETTE_LAYER;
+
+    /** Acompanha a posição dos campos registrados, compartilhado por todas as camadas */
+    private static final Tracker TRACKER = new Tracker();
+
+    // ============================================ ATRIBUTOS ============================================
+
+    /** Campos registrados nesta janela */
+    private final ArrayList<Entry> entries = new ArrayList<>();
+
+    /** Retângulo de trabalho, reaproveitado a cada cálculo */
+    private final Rectangle scratch = new Rectangle();
+
+    /** Mantém o tamanho da camada igual ao do {@link JLayeredPane} */
+    private final ComponentListener resizer = new ComponentAdapter() {
+        @Override
+        public void componentResized(ComponentEvent e) {
+            setBounds(0, 0, e.getComponent().getWidth(), e.getComponent().getHeight());
+        }
+    };
+
+    // ============================================ CONSTRUTORES ============================================
+
+    private WMessageOverlay() {
+        setOpaque(false);
+        setFocusable(false);
+    }
+
+    // ============================================ MÉTODOS PÚBLICOS ============================================
+
+    /**
+     * Registra o campo na camada de mensagens da sua janela, criando a camada se necessário.
+     *
+     * <p>
+     * Deve ser chamado quando o campo é adicionado à hierarquia ({@code addNotify}).</p>
+     *
+     * @param owner Campo dono da mensagem
+     * @param painter Desenha a mensagem nas coordenadas do campo
+     * @param bounds Região ocupada pela mensagem, nas coordenadas do campo
+     * @return Camada em que o campo foi registrado, ou null se o campo não estiver em uma {@link JRootPane}
+     */
+    public static WMessageOverlay attach(JComponent owner, Painter painter, WAnimator.Region bounds) {
+        JRootPane root = SwingUtilities.getRootPane(owner);
+        if (root == null) {
+            return null;
+        }
+        JLayeredPane layeredPane = root.getLayeredPane();
+        WMessageOverlay overlay = (WMessageOverlay) layeredPane.getClientProperty(OVERLAY_KEY);
+        if (overlay == null) {
+            overlay = new WMessageOverlay();
+            overlay.setBounds(0, 0, layeredPane.getWidth(), layeredPane.getHeight());
+            layeredPane.add(overlay, OVERLAY_LAYER);
+            layeredPane.addComponentListener(overlay.resizer);
+            layeredPane.putClientProperty(OVERLAY_KEY, overlay);
+        }
+        // A própria criação da camada pode repetir o addNotify dos campos; o registro é feito uma única vez
+        if (overlay.indexOf(owner) >= 0) {
+            return overlay;
+        }
+        overlay.entries.add(new Entry(owner, painter, bounds));
+        owner.addComponentListener(TRACKER);
+        owner.addHierarchyBoundsListener(TRACKER);
+        return overlay;
+    }
+
+    /**
+     * Remove o campo da camada, repintando a área que a sua mensagem ocupava.
+     *
+     * <p>
+     * Deve ser chamado quando o campo é removido da hierarquia ({@code removeNotify}).</p>
+     *
+     * @param owner Campo registrado
+     */
+    public void detach(JComponent owner) {
+        int index = indexOf(owner);
+        if (index < 0) {
+            return;
+        }
+        Entry entry = entries.remove(index);
+        owner.removeComponentListener(TRACKER);
+        owner.removeHierarchyBoundsListener(TRACKER);
+        if (!entry.last.isEmpty()) {
+            repaint(entry.last);
+        }
+    }
+
+    /**
+     * Repinta a mensagem do campo: a área ocupada no último quadro e a área atual.
+     *
+     * @param owner Campo registrado
+     */
+    public void repaintMessage(JComponent owner) {
+        int index = indexOf(owner);
+        if (index < 0) {
+            return;
+        }
+        Rectangle last = entries.get(index).last;
+        if (!last.isEmpty()) {
+            repaint(last);
+        }
+        update(entries.get(index));
+        if (!last.isEmpty()) {
+            repaint(last);
+        }
+    }
+
+    /**
+     * Retorna a quantidade de campos registrados nesta camada.
+     *
+     * @return Número de campos
+     */
+    public int getMessageCount() {
+        return entries.size();
+    }
+
+    /**
+     * A camada nunca contém o ponto, deixando os eventos de mouse para os componentes abaixo dela.
+     */
+    @Override
+    public boolean contains(int x, int y) {
+        return false;
+    }
+
+    // ============================================ MÉTODOS DE PINTURA ============================================
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        long start = WMetrics.start();
+        Rectangle clip = g.getClipBounds();
+        for (int i = 0, n = entries.size(); i < n; i++) {
+            Entry entry = entries.get(i);
+            if (!entry.owner.isShowing() || entry.last.isEmpty()) {
+                continue;
+            }
+            if (clip != null && !clip.intersects(entry.last)) {
+                continue;
+            }
+            Point origin = SwingUtilities.convertPoint(entry.owner, 0, 0, this);
+            Graphics2D g2 = (Graphics2D) g.create();
+            try {
+                g2.clip(entry.last);
+                g2.translate(origin.x, origin.y);
+                g2.setFont(entry.owner.getFont());
+                entry.painter.paint(g2);
+            } finally {
+                g2.dispose();
+            }
+        }
+        WMetrics.paint(this, start);
+    }
+
+    // ============================================ MÉTODOS PRIVADOS ============================================
+
+    private int indexOf(JComponent owner) {
+        for (int i = 0, n = entries.size(); i < n; i++) {
+            if (entries.get(i).owner == owner) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Recalcula a área da mensagem nas coordenadas da camada, recortada pela área visível do contêiner do campo.
+     */
+    private void update(Entry entry) {
+        Rectangle r = entry.last;
+        JComponent owner = entry.owner;
+        Container parent = owner.getParent();
+        if (!owner.isShowing() || parent == null) {
+            r.setBounds(0, 0, 0, 0);
+            return;
+        }
+        entry.bounds.bounds(r);
+        Point origin = SwingUtilities.convertPoint(owner, 0, 0, this);
+        r.translate(origin.x, origin.y);
+
+        scratch.setBounds(0, 0, parent.getWidth(), parent.getHeight());
+        if (parent instanceof JComponent) {
+            ((JComponent) parent).computeVisibleRect(scratch);
+        }
+        Point parentOrigin = SwingUtilities.convertPoint(parent, 0, 0, this);
+        scratch.translate(parentOrigin.x, parentOrigin.y);
+        Rectangle.intersect(r, scratch, r);
+        if (r.isEmpty()) {
+            r.setBounds(0, 0, 0, 0);
+        }
+    }
+
+    /**
+     * Camada em que o componente está registrado, se houver.
+     */
+    private static WMessageOverlay overlayOf(Component c) {
+        JRootPane root = SwingUtilities.getRootPane(c);
+        return root != null ? (WMessageOverlay) root.getLayeredPane().getClientProperty(OVERLAY_KEY) : null;
+    }
+
+    // ============================================ TIPOS INTERNOS ============================================
+
+    /**
+     * Desenha a mensagem de um campo.
+     */
+    @FunctionalInterface
+    public interface Painter {
+
+        /**
+         * Desenha a mensagem nas coordenadas do campo. O contexto já traz a fonte do campo.
+         *
+         * @param g2 Contexto gráfico, descartado pela camada após o desenho
+         */
+        void paint(Graphics2D g2);
+    }
+
+    /**
+     * Campo registrado e o último retângulo pintado da sua mensagem.
+     */
+    private static final class Entry {
+
+        final JComponent owner;
+        final Painter painter;
+        final WAnimator.Region bounds;
+
+        /** Área pintada no último quadro, nas coordenadas da camada */
+        final Rectangle last = new Rectangle();
+
+        Entry(JComponent owner, Painter painter, WAnimator.Region bounds) {
+            this.owner = owner;
+            this.painter = painter;
+            this.bounds = bounds;
+        }
+    }
+
+    /**
+     * Repinta a mensagem quando o campo ou um contêiner acima dele muda de posição ou tamanho.
+     */
+    private static final class Tracker extends ComponentAdapter implements HierarchyBoundsListener {
+
+        @Override
+        public void componentMoved(ComponentEvent e) {
+            moved(e.getComponent());
+        }
+
+        @Override
+        public void componentResized(ComponentEvent e) {
+            moved(e.getComponent());
+        }
+
+        @Override
+        public void ancestorMoved(HierarchyEvent e) {
+            // Mover a janela não altera a posição do campo dentro dela
+            if (!(e.getChanged() instanceof Window)) {
+                moved(e.getComponent());
+            }
+        }
+
+        @Override
+        public void ancestorResized(HierarchyEvent e) {
+            if (!(e.getChanged() instanceof Window)) {
+                moved(e.getComponent());
+            }
+        }
+
+        private static void moved(Component c) {
+            WMessageOverlay overlay = overlayOf(c);
+            if (overlay != null && c instanceof JComponent) {
+                overlay.repaintMessage((JComponent) c);
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package br.com.warrick.swing;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+/**
+ * Agendador compartilhado do ciclo de vida das mensagens de erro e sucesso.
+ *
+ * <p>
+ * Ao limpar uma mensagem, o componente anima o desaparecimento e só depois descarta o estado de erro. Em vez de uma
+ * {@code Thread} por campo, todos os componentes registram aqui a tarefa de limpeza, executada na Event Dispatch
+ * Thread por um único {@link Timer}. Cada componente tem no máximo uma tarefa pendente: agendar de novo substitui a
+ * anterior e {@link #cancel(Object)} a descarta, por exemplo quando uma nova mensagem é exibida.</p>
+ *
+ * <p>
+ * O tempo segue o {@link WAnimationClock relógio de animação}, para que a limpeza acompanhe a animação de saída. Com um
+ * relógio manual, as tarefas vencidas são executadas a cada {@link WAnimator#frame()}.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public final class WMessageScheduler {
+    // ============================================ ATRIBUTOS ============================================
+
+    /** Tarefas pendentes, uma por componente */
+    private static final Map<Object, Pending> PENDING = new IdentityHashMap<>();
+
+    /** Timer único que dispara a próxima tarefa a vencer */
+    private static final Timer TIMER = new Timer(0, e -> runDue());
+
+    static {
+        TIMER.setRepeats(false);
+    }
+
+    // ============================================ CONSTRUTORES ============================================
+
+    private WMessageScheduler() {
+    }
+
+    // ============================================ MÉTODOS PÚBLICOS ============================================
+
+    /**
+     * Agenda uma tarefa para o componente, substituindo a tarefa pendente anterior, se houver.
+     *
+     * @param owner Componente dono da tarefa
+     * @param task Tarefa executada na EDT após o atraso
+     * @param delay Atraso em milissegundos
+     */
+    public static void schedule(Object owner, Runnable task, int delay) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> schedule(owner, task, delay));
+            return;
+        }
+
+        Pending pending = PENDING.get(owner);
+        if (pending == null) {
+            pending = new Pending();
+            PENDING.put(owner, pending);
+        }
+        pending.task = task;
+        pending.due = now() + delay;
+        restartTimer();
+    }
+
+    /**
+     * Cancela a tarefa pendente do componente, se houver.
+     *
+     * @param owner Componente dono da tarefa
+     */
+    public static void cancel(Object owner) {
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(() -> cancel(owner));
+            return;
+        }
+
+        if (PENDING.remove(owner) != null) {
+            restartTimer();
+        }
+    }
+
+    /**
+     * Indica se o componente possui uma tarefa pendente.
+     *
+     * @param owner Componente dono da tarefa
+     * @return true se houver tarefa agendada
+     */
+    public static boolean isPending(Object owner) {
+        return PENDING.containsKey(owner);
+    }
+
+    // ============================================ MÉTODOS PRIVADOS ============================================
+
+    /**
+     * Desloca as tarefas pendentes ao trocar o relógio, mantendo o tempo que faltava para cada uma.
+     *
+     * @param delta Diferença entre o relógio novo e o anterior, em milissegundos
+     */
+    static void rebase(long delta) {
+        for (Pending pending : PENDING.values()) {
+            pending.due += delta;
+        }
+        restartTimer();
+    }
+
+    /**
+     * Executa todas as tarefas vencidas e reprograma o timer para a próxima.
+     */
+    static void runDue() {
+        if (PENDING.isEmpty()) {
+            return;
+        }
+        long now = now();
+        Iterator<Pending> it = PENDING.values().iterator();
+        Runnable[] due = new Runnable[PENDING.size()];
+        int count = 0;
+        while (it.hasNext()) {
+            Pending pending = it.next();
+            if (pending.due <= now) {
+                due[count++] = pending.task;
+                it.remove();
+            }
+        }
+        // Executa fora da iteração, pois as tarefas podem agendar novas mensagens
+        for (int i = 0; i < count; i++) {
+            due[i].run();
+        }
+        restartTimer();
+    }
+
+    /**
+     * Programa o timer para a tarefa pendente mais próxima, ou o interrompe se não houver nenhuma.
+     */
+    private static void restartTimer() {
+        if (PENDING.isEmpty() || WAnimator.manual()) {
+            TIMER.stop();
+            return;
+        }
+        long next = Long.MAX_VALUE;
+        for (Pending pending : PENDING.values()) {
+            next = Math.min(next, pending.due);
+        }
+        TIMER.setInitialDelay((int) Math.max(0, next - now()));
+        TIMER.restart();
+    }
+
+    /**
+     * Instante atual do relógio de animação, em milissegundos.
+     */
+    private static long now() {
+        return WAnimator.now() / 1_000_000L;
+    }
+
+    // ============================================ TIPOS INTERNOS ============================================
+
+    /**
+     * Tarefa pendente de um componente.
+     */
+    private static final class Pending {
+
+        /** Tarefa a executar */
+        private Runnable task;
+
+        /** Instante de execução em milissegundos */
+        private long due;
+    }
+}
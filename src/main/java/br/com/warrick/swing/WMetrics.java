@@ -0,0 +1,465 @@
+package br.com.warrick.swing;
+
+import java.awt.EventQueue;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Instrumentação opcional dos componentes W, para medir travamentos da Event Dispatch Thread em produção.
+ *
+ * <p>
+ * Quando ligada, registra:</p>
+ * <ul>
+ * <li>O tempo de pintura de cada componente, por classe ({@link #paintTimes()})</li>
+ * <li>O tempo dos listeners de foco, mouse e teclado, por classe ({@link #listenerTimes()})</li>
+ * <li>Os quadros de animação gerados e perdidos ({@link #getFramesProduced()}, {@link #getFramesDropped()})</li>
+ * <li>A latência da fila de eventos da EDT, medida por uma sonda a cada {@value #PROBE_INTERVAL} ms
+ * ({@link #edtLatency()})</li>
+ * </ul>
+ *
+ * <p>
+ * Cada medida também é emitida como evento JFR da categoria {@code Projeto W}, visível no JDK Mission Control quando há
+ * uma gravação ativa ({@code -XX:StartFlightRecording}).</p>
+ *
+ * <p>
+ * A instrumentação começa desligada, a menos que a propriedade de sistema {@value #PROPERTY} seja {@code true}.
+ * Desligada, o custo em cada ponto medido é a leitura de um único campo: {@link #start()} devolve 0 e os métodos de
+ * registro ignoram medidas iniciadas em 0.</p>
+ *
+ * <pre>
+ * long inicio = WMetrics.start();
+ * // ... trabalho medido
+ * WMetrics.paint(this, inicio);
+ * </pre>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public final class WMetrics {
+    // ============================================ CONSTANTES ============================================
+
+    /** Propriedade de sistema que liga a instrumentação na inicialização */
+    public static final String PROPERTY = "wswing.metrics";
+
+    /** Intervalo em milissegundos entre duas sondas de latência da EDT */
+    public static final int PROBE_INTERVAL = 100;
+
+    // ============================================ ATRIBUTOS ============================================
+
+    /** Indica se a instrumentação está ligada */
+    private static volatile boolean enabled;
+
+    /** Tempo de pintura por classe de componente */
+    private static final Map<Class<?>, Histogram> PAINT = new ConcurrentHashMap<>();
+
+    /** Tempo dos listeners por classe de componente */
+    private static final Map<Class<?>, Histogram> LISTENER = new ConcurrentHashMap<>();
+
+    /** Latência da fila de eventos da EDT */
+    private static final Histogram EDT_LATENCY = new Histogram();
+
+    /** Quadros de animação gerados */
+    private static volatile long framesProduced;
+
+    /** Quadros de animação perdidos (atraso do timer ou janela acima do orçamento) */
+    private static volatile long framesDropped;
+
+    /** Thread da sonda de latência, criada na primeira vez que a instrumentação é ligada */
+    private static ScheduledExecutorService prober;
+
+    /** Execução periódica da sonda, enquanto a instrumentação estiver ligada */
+    private static ScheduledFuture<?> probe;
+
+    static {
+        if (Boolean.getBoolean(PROPERTY)) {
+            setEnabled(true);
+        }
+    }
+
+    // ============================================ CONSTRUTORES ============================================
+
+    private WMetrics() {
+    }
+
+    // ============================================ MÉTODOS PÚBLICOS ============================================
+
+    /**
+     * Indica se a instrumentação está ligada.
+     *
+     * @return true se as medidas estiverem sendo registradas
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Liga ou desliga a instrumentação. As medidas já registradas são mantidas; use {@link #reset()} para descartá-las.
+     *
+     * @param on true para ligar
+     */
+    public static synchronized void setEnabled(boolean on) {
+        if (on == enabled) {
+            return;
+        }
+        enabled = on;
+        if (on) {
+            if (prober == null) {
+                prober = Executors.newSingleThreadScheduledExecutor(r -> {
+                    Thread thread = new Thread(r, "WMetrics-EDT");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            probe = prober.scheduleAtFixedRate(WMetrics::probe, PROBE_INTERVAL, PROBE_INTERVAL, TimeUnit.MILLISECONDS);
+        } else if (probe != null) {
+            probe.cancel(false);
+            probe = null;
+        }
+    }
+
+    /**
+     * Inicia uma medida.
+     *
+     * @return Instante atual em nanossegundos, ou 0 com a instrumentação desligada
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Registra a pintura de um componente iniciada em {@code start}.
+     *
+     * @param component Componente pintado
+     * @param start Valor devolvido por {@link #start()}
+     */
+    public static void paint(Object component, long start) {
+        if (start == 0L) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        histogram(PAINT, component.getClass()).record(elapsed);
+        PaintEvent event = new PaintEvent();
+        if (event.isEnabled()) {
+            event.component = component.getClass();
+            event.time = elapsed;
+            event.commit();
+        }
+    }
+
+    /**
+     * Registra a execução de um listener de um componente iniciada em {@code start}.
+     *
+     * @param component Componente de origem do evento
+     * @param start Valor devolvido por {@link #start()}
+     */
+    public static void listener(Object component, long start) {
+        if (start == 0L) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        histogram(LISTENER, component.getClass()).record(elapsed);
+        ListenerEvent event = new ListenerEvent();
+        if (event.isEnabled()) {
+            event.component = component.getClass();
+            event.time = elapsed;
+            event.commit();
+        }
+    }
+
+    /**
+     * Retorna o tempo de pintura por classe de componente.
+     *
+     * @return Mapa somente leitura, atualizado enquanto a instrumentação estiver ligada
+     */
+    public static Map<Class<?>, Histogram> paintTimes() {
+        return Collections.unmodifiableMap(PAINT);
+    }
+
+    /**
+     * Retorna o tempo dos listeners por classe de componente.
+     *
+     * @return Mapa somente leitura, atualizado enquanto a instrumentação estiver ligada
+     */
+    public static Map<Class<?>, Histogram> listenerTimes() {
+        return Collections.unmodifiableMap(LISTENER);
+    }
+
+    /**
+     * Retorna a latência da fila de eventos da EDT: o tempo entre postar a sonda e a EDT executá-la.
+     *
+     * @return Histograma da latência
+     */
+    public static Histogram edtLatency() {
+        return EDT_LATENCY;
+    }
+
+    /**
+     * Retorna a quantidade de quadros de animação gerados.
+     *
+     * @return Quadros gerados
+     */
+    public static long getFramesProduced() {
+        return framesProduced;
+    }
+
+    /**
+     * Retorna a quantidade de quadros de animação perdidos, por atraso do timer ou por uma janela acima do orçamento.
+     *
+     * @return Quadros perdidos
+     */
+    public static long getFramesDropped() {
+        return framesDropped;
+    }
+
+    /**
+     * Descarta todas as medidas registradas.
+     */
+    public static void reset() {
+        PAINT.clear();
+        LISTENER.clear();
+        EDT_LATENCY.clear();
+        framesProduced = 0;
+        framesDropped = 0;
+    }
+
+    // ============================================ MÉTODOS DO PACOTE ============================================
+
+    /**
+     * Registra um quadro de animação gerado pelo {@link WAnimator}. Chamado apenas na EDT.
+     *
+     * @param slots Slots avançados no quadro
+     * @param dropped Quadros perdidos desde o quadro anterior
+     */
+    static void frame(int slots, int dropped) {
+        if (!enabled) {
+            return;
+        }
+        framesProduced++;
+        framesDropped += dropped;
+        FrameEvent event = new FrameEvent();
+        if (event.isEnabled()) {
+            event.slots = slots;
+            event.dropped = dropped;
+            event.commit();
+        }
+    }
+
+    /**
+     * Registra quadros que uma janela acima do orçamento deixou de pintar. Chamado apenas na EDT.
+     *
+     * @param dropped Quadros perdidos
+     */
+    static void dropped(int dropped) {
+        if (enabled) {
+            framesDropped += dropped;
+        }
+    }
+
+    // ============================================ MÉTODOS PRIVADOS ============================================
+
+    private static Histogram histogram(Map<Class<?>, Histogram> map, Class<?> type) {
+        Histogram histogram = map.get(type);
+        return histogram != null ? histogram : map.computeIfAbsent(type, t -> new Histogram());
+    }
+
+    /**
+     * Posta na fila de eventos uma tarefa que mede quanto tempo esperou para ser executada.
+     */
+    private static void probe() {
+        long posted = System.nanoTime();
+        EventQueue.invokeLater(() -> {
+            long latency = System.nanoTime() - posted;
+            EDT_LATENCY.record(latency);
+            EdtLatencyEvent event = new EdtLatencyEvent();
+            if (event.isEnabled()) {
+                event.time = latency;
+                event.commit();
+            }
+        });
+    }
+
+    // ============================================ TIPOS INTERNOS ============================================
+
+    /**
+     * Histograma de tempos com faixas em potências de dois de microssegundos (menos de 1 µs, 1 µs, 2 µs, 4 µs, ...).
+     *
+     * <p>
+     * Os valores são registrados na EDT e podem ser lidos de qualquer thread.</p>
+     */
+    public static final class Histogram {
+
+        /** Quantidade de faixas; a última acumula tudo acima de 2<sup>30</sup> µs */
+        private static final int BUCKETS = 32;
+
+        /** Contagem de cada faixa */
+        private final long[] buckets = new long[BUCKETS];
+
+        /** Quantidade de medidas */
+        private long count;
+
+        /** Soma das medidas em nanossegundos */
+        private long total;
+
+        /** Maior medida em nanossegundos */
+        private long max;
+
+        private Histogram() {
+        }
+
+        /**
+         * Retorna a quantidade de medidas.
+         *
+         * @return Número de medidas
+         */
+        public synchronized long getCount() {
+            return count;
+        }
+
+        /**
+         * Retorna a soma das medidas.
+         *
+         * @return Soma em nanossegundos
+         */
+        public synchronized long getTotalNanos() {
+            return total;
+        }
+
+        /**
+         * Retorna a maior medida.
+         *
+         * @return Maior medida em nanossegundos
+         */
+        public synchronized long getMaxNanos() {
+            return max;
+        }
+
+        /**
+         * Retorna a média das medidas.
+         *
+         * @return Média em nanossegundos, ou 0 sem medidas
+         */
+        public synchronized long getMeanNanos() {
+            return count == 0 ? 0 : total / count;
+        }
+
+        /**
+         * Retorna um limite superior do percentil informado, com a precisão da faixa em que ele cai.
+         *
+         * @param percentile Percentil entre 0 e 100 (ex: 50, 99)
+         * @return Limite superior em nanossegundos, ou 0 sem medidas
+         */
+        public synchronized long percentileNanos(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(count * Math.max(0, Math.min(100, percentile)) / 100.0);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS - 1; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return Math.min(max, (1L << i) * 1000L);
+                }
+            }
+            return max;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return String.format("n=%d média=%.3fms p99=%.3fms máx=%.3fms", count, getMeanNanos() / 1e6,
+                    percentileNanos(99) / 1e6, max / 1e6);
+        }
+
+        private synchronized void record(long nanos) {
+            long micros = nanos / 1000L;
+            int bucket = micros == 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+            buckets[bucket]++;
+            count++;
+            total += nanos;
+            if (nanos > max) {
+                max = nanos;
+            }
+        }
+
+        private synchronized void clear() {
+            Arrays.fill(buckets, 0L);
+            count = 0;
+            total = 0;
+            max = 0;
+        }
+    }
+
+    /**
+     * Evento JFR de pintura de um componente.
+     */
+    @Name("br.com.warrick.swing.Paint")
+    @Label("Pintura de componente W")
+    @Category({"Projeto W", "Swing"})
+    private static final class PaintEvent extends Event {
+
+        @Label("Componente")
+        Class<?> component;
+
+        @Label("Tempo")
+        @Timespan(Timespan.NANOSECONDS)
+        long time;
+    }
+
+    /**
+     * Evento JFR de execução de um listener de um componente.
+     */
+    @Name("br.com.warrick.swing.Listener")
+    @Label("Listener de componente W")
+    @Category({"Projeto W", "Swing"})
+    private static final class ListenerEvent extends Event {
+
+        @Label("Componente")
+        Class<?> component;
+
+        @Label("Tempo")
+        @Timespan(Timespan.NANOSECONDS)
+        long time;
+    }
+
+    /**
+     * Evento JFR de um quadro de animação.
+     */
+    @Name("br.com.warrick.swing.AnimationFrame")
+    @Label("Quadro de animação W")
+    @Category({"Projeto W", "Swing"})
+    private static final class FrameEvent extends Event {
+
+        @Label("Slots")
+        @Description("Slots de animação avançados no quadro")
+        int slots;
+
+        @Label("Quadros perdidos")
+        @Description("Quadros perdidos desde o quadro anterior")
+        int dropped;
+    }
+
+    /**
+     * Evento JFR da latência da fila de eventos da EDT.
+     */
+    @Name("br.com.warrick.swing.EdtLatency")
+    @Label("Latência da EDT")
+    @Category({"Projeto W", "Swing"})
+    private static final class EdtLatencyEvent extends Event {
+
+        @Label("Latência")
+        @Timespan(Timespan.NANOSECONDS)
+        long time;
+    }
+}
@@ -0,0 +1,203 @@
+package br.com.warrick.swing;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tabelas pré-calculadas de cores e fontes usadas durante a pintura dos componentes W.
+ *
+ * <p>
+ * Os valores que mudam a cada quadro de animação (transparência das mensagens, cores escurecidas do estado
+ * pressionado, fontes derivadas) são criados uma única vez e reaproveitados, de modo que a pintura em regime
+ * permanente não aloca objetos {@link Color} ou {@link Font}. As tabelas são descartadas quando o tema muda
+ * (ver {@link WPalette#getGeneration()}).</p>
+ *
+ * <p>
+ * Deve ser usada apenas na Event Dispatch Thread.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public final class WPaintCache {
+    // ============================================ CONSTANTES ============================================
+
+    /** Tamanho da fonte das mensagens de erro e sucesso */
+    public static final float MESSAGE_FONT_SIZE = 11f;
+
+    /** Fator aplicado às cores do estado pressionado (escurece 20%) */
+    public static final float PRESSED_FACTOR = 0.8f;
+
+    /** Quantidade de passos da tabela de fontes escaladas */
+    public static final int SCALE_STEPS = 32;
+
+    // ============================================ ATRIBUTOS ============================================
+
+    /** Rampas de transparência (256 níveis) por cor base */
+    private static final Map<Color, Color[]> ALPHA_RAMPS = new HashMap<>();
+
+    /** Cores escurecidas do estado pressionado por cor base */
+    private static final Map<Color, Color> PRESSED_COLORS = new HashMap<>();
+
+    /** Fontes das mensagens por fonte base */
+    private static final Map<Font, Font> MESSAGE_FONTS = new HashMap<>();
+
+    /** Tabelas de fontes escaladas por fonte base, uma por escala máxima */
+    private static final Map<Font, ScaleTable> SCALED_FONTS = new HashMap<>();
+
+    /** Versão do tema para a qual as tabelas foram calculadas */
+    private static int generation = WPalette.getGeneration();
+
+    // ============================================ CONSTRUTORES ============================================
+
+    private WPaintCache() {
+    }
+
+    // ============================================ MÉTODOS PÚBLICOS ============================================
+
+    /**
+     * Retorna a cor base com a transparência correspondente ao progresso da animação.
+     *
+     * @param base Cor base
+     * @param progress Progresso da animação (0.0 = transparente, 1.0 = opaca)
+     * @return Cor com transparência, reaproveitada entre quadros
+     */
+    public static Color alpha(Color base, float progress) {
+        checkGeneration();
+        Color[] ramp = ALPHA_RAMPS.get(base);
+        if (ramp == null) {
+            ramp = new Color[256];
+            ALPHA_RAMPS.put(base, ramp);
+        }
+        int alpha = Math.max(0, Math.min(255, (int) (255 * progress)));
+        Color color = ramp[alpha];
+        if (color == null) {
+            color = new Color(base.getRed(), base.getGreen(), base.getBlue(), alpha);
+            ramp[alpha] = color;
+        }
+        return color;
+    }
+
+    /**
+     * Retorna a cor base escurecida em 20%, usada no estado pressionado.
+     *
+     * @param base Cor base
+     * @return Cor escurecida, reaproveitada entre quadros
+     */
+    public static Color pressed(Color base) {
+        checkGeneration();
+        Color color = PRESSED_COLORS.get(base);
+        if (color == null) {
+            color = new Color(
+                    Math.max((int) (base.getRed() * PRESSED_FACTOR), 0),
+                    Math.max((int) (base.getGreen() * PRESSED_FACTOR), 0),
+                    Math.max((int) (base.getBlue() * PRESSED_FACTOR), 0));
+            PRESSED_COLORS.put(base, color);
+        }
+        return color;
+    }
+
+    /**
+     * Retorna a fonte das mensagens de erro e sucesso derivada da fonte base.
+     *
+     * @param base Fonte base
+     * @return Fonte simples de {@link #MESSAGE_FONT_SIZE} pontos
+     */
+    public static Font messageFont(Font base) {
+        checkGeneration();
+        Font font = MESSAGE_FONTS.get(base);
+        if (font == null) {
+            font = base.deriveFont(Font.PLAIN, MESSAGE_FONT_SIZE);
+            MESSAGE_FONTS.put(base, font);
+        }
+        return font;
+    }
+
+    /**
+     * Arredonda o progresso de uma animação de escala para o passo mais próximo da tabela de fontes.
+     *
+     * @param progress Progresso da animação (0.0 a 1.0)
+     * @return Índice do passo (0 a {@link #SCALE_STEPS})
+     */
+    public static int scaleStep(float progress) {
+        return Math.max(0, Math.min(SCALE_STEPS, Math.round(progress * SCALE_STEPS)));
+    }
+
+    /**
+     * Retorna a fonte base escalada para o passo informado.
+     *
+     * @param base Fonte base
+     * @param step Passo da tabela (ver {@link #scaleStep(float)})
+     * @param maxScale Escala correspondente ao último passo
+     * @return Fonte escalada, reaproveitada entre quadros
+     */
+    public static Font scaledFont(Font base, int step, float maxScale) {
+        checkGeneration();
+        ScaleTable first = SCALED_FONTS.get(base);
+        ScaleTable table = first;
+        while (table != null && table.maxScale != maxScale) {
+            table = table.next;
+        }
+        if (table == null) {
+            table = new ScaleTable(maxScale, first);
+            SCALED_FONTS.put(base, table);
+        }
+        Font font = table.fonts[step];
+        if (font == null) {
+            font = base.deriveFont(base.getSize() * scaleOf(step, maxScale));
+            table.fonts[step] = font;
+        }
+        return font;
+    }
+
+    /**
+     * Retorna a escala correspondente a um passo da tabela de fontes.
+     *
+     * @param step Passo da tabela
+     * @param maxScale Escala correspondente ao último passo
+     * @return Escala entre 1.0 e {@code maxScale}
+     */
+    public static float scaleOf(int step, float maxScale) {
+        return 1.0f + (maxScale - 1.0f) * step / SCALE_STEPS;
+    }
+
+    // ============================================ MÉTODOS PRIVADOS ============================================
+
+    /**
+     * Descarta as tabelas se o tema mudou desde o último cálculo.
+     */
+    private static void checkGeneration() {
+        int current = WPalette.getGeneration();
+        if (current != generation) {
+            generation = current;
+            ALPHA_RAMPS.clear();
+            PRESSED_COLORS.clear();
+            MESSAGE_FONTS.clear();
+            SCALED_FONTS.clear();
+        }
+    }
+
+    // ============================================ TIPOS INTERNOS ============================================
+
+    /**
+     * Fontes escaladas de uma fonte base para uma escala máxima. As tabelas da mesma fonte base formam uma lista,
+     * curta na prática, para que a busca não aloque uma chave composta a cada quadro.
+     */
+    private static final class ScaleTable {
+        /** Escala correspondente ao último passo */
+        final float maxScale;
+
+        /** Fonte de cada passo, criada no primeiro uso */
+        final Font[] fonts = new Font[SCALE_STEPS + 1];
+
+        /** Tabela da mesma fonte base para outra escala máxima */
+        final ScaleTable next;
+
+        ScaleTable(float maxScale, ScaleTable next) {
+            this.maxScale = maxScale;
+            this.next = next;
+        }
+    }
+}
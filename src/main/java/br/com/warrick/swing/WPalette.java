@@ -0,0 +1,106 @@
+package br.com.warrick.swing;
+
+import java.awt.Color;
+import java.beans.PropertyChangeListener;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.swing.UIManager;
+
+/**
+ * Paleta de cores do tema, resolvida uma única vez por classe de componente.
+ *
+ * <p>
+ * Cada classe de componente W possui uma paleta que guarda o resultado das consultas ao {@link UIManager}. As cores
+ * são resolvidas na primeira pintura e reaproveitadas nas seguintes, de modo que pintar uma tela inteira durante uma
+ * animação não consulta o {@code UIManager}. Todas as paletas são invalidadas quando o LookAndFeel muda ou quando os
+ * defaults do {@code UIManager} são alterados.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public final class WPalette {
+    // ============================================ CONSTANTES ============================================
+
+    /** Marcador para chaves que não existem no tema */
+    private static final Color MISSING = new Color(0, 0, 0, 0);
+
+    /** Paletas já criadas, uma por classe de componente */
+    private static final Map<Class<?>, WPalette> PALETTES = new ConcurrentHashMap<>();
+
+    /** Invalida todas as paletas quando o tema muda */
+    private static final PropertyChangeListener INVALIDATOR = e -> {
+        if (e.getSource() != UIManager.class || "lookAndFeel".equals(e.getPropertyName())) {
+            invalidateAll();
+        }
+    };
+
+    /** Versão atual do tema, incrementada a cada invalidação */
+    private static volatile int generation;
+
+    static {
+        UIManager.addPropertyChangeListener(INVALIDATOR);
+        UIManager.getDefaults().addPropertyChangeListener(INVALIDATOR);
+    }
+
+    // ============================================ ATRIBUTOS ============================================
+
+    /** Cores resolvidas do tema, indexadas pela chave completa */
+    private final Map<String, Color> colors = new ConcurrentHashMap<>();
+
+    // ============================================ CONSTRUTORES ============================================
+
+    private WPalette() {
+    }
+
+    // ============================================ MÉTODOS PÚBLICOS ============================================
+
+    /**
+     * Retorna a paleta compartilhada da classe de componente informada.
+     *
+     * @param componentClass Classe do componente
+     * @return Paleta da classe
+     */
+    public static WPalette of(Class<?> componentClass) {
+        return PALETTES.computeIfAbsent(componentClass, c -> new WPalette());
+    }
+
+    /**
+     * Retorna a versão atual do tema. O valor muda sempre que as paletas são invalidadas e pode ser usado como
+     * chave de caches derivados das cores do tema.
+     *
+     * @return Versão atual do tema
+     */
+    public static int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Descarta as cores resolvidas de todas as paletas.
+     */
+    public static void invalidateAll() {
+        generation++;
+        for (WPalette palette : PALETTES.values()) {
+            palette.colors.clear();
+        }
+    }
+
+    /**
+     * Obtém uma cor do tema, consultando o {@code UIManager} apenas na primeira vez.
+     *
+     * @param key Chave da propriedade no tema
+     * @param defaultColor Cor padrão se a propriedade não existir
+     * @return Cor do tema ou cor padrão
+     */
+    public Color get(String key, Color defaultColor) {
+        Color color = colors.get(key);
+        if (color == null) {
+            color = UIManager.getColor(key);
+            if (color == null) {
+                color = MISSING;
+            }
+            colors.put(key, color);
+        }
+        return color != MISSING ? color : defaultColor;
+    }
+}
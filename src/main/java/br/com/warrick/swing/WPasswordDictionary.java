@@ -0,0 +1,224 @@
+package br.com.warrick.swing;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Dicionário de senhas comuns em uma árvore de prefixos (trie) compacta, usado por {@link WPasswordDocument} para
+ * encontrar palavras conhecidas dentro de uma senha sem montar uma {@code String} com ela.
+ *
+ * <p>
+ * Os nós ficam em vetores paralelos (caractere, primeiro filho, próximo irmão, fim de palavra) em vez de um objeto por
+ * nó, e a busca é feita caractere a caractere, sem diferenciar maiúsculas de minúsculas.</p>
+ *
+ * <p>
+ * O dicionário padrão ({@link #common()}) é lido do recurso {@value #COMMON_RESOURCE}, com uma senha por linha; linhas
+ * vazias e iniciadas por {@code #} são ignoradas.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public final class WPasswordDictionary {
+    // ============================================ CONSTANTES ============================================
+
+    /** Recurso com as senhas comuns do dicionário padrão */
+    public static final String COMMON_RESOURCE = "/br/com/warrick/swing/senhas-comuns.txt";
+
+    /** Marca de ausência de filho ou irmão */
+    private static final int NONE = -1;
+
+    // ============================================ ATRIBUTOS ============================================
+
+    /** Caractere de cada nó; o nó 0 é a raiz */
+    private char[] label;
+
+    /** Primeiro filho de cada nó */
+    private int[] child;
+
+    /** Próximo irmão de cada nó */
+    private int[] sibling;
+
+    /** Indica se o nó encerra uma palavra */
+    private boolean[] terminal;
+
+    /** Quantidade de nós */
+    private int nodes;
+
+    /** Quantidade de palavras */
+    private int words;
+
+    // ============================================ CONSTRUTORES ============================================
+
+    /**
+     * Cria um dicionário com as palavras informadas.
+     *
+     * @param entries Palavras do dicionário
+     */
+    public WPasswordDictionary(Iterable<String> entries) {
+        int capacity = 256;
+        label = new char[capacity];
+        child = new int[capacity];
+        sibling = new int[capacity];
+        terminal = new boolean[capacity];
+        nodes = 1;
+        child[0] = NONE;
+        sibling[0] = NONE;
+        for (String entry : entries) {
+            add(entry.toLowerCase(Locale.ROOT));
+        }
+        // Descarta a folga dos vetores
+        label = Arrays.copyOf(label, nodes);
+        child = Arrays.copyOf(child, nodes);
+        sibling = Arrays.copyOf(sibling, nodes);
+        terminal = Arrays.copyOf(terminal, nodes);
+    }
+
+    // ============================================ MÉTODOS PÚBLICOS ============================================
+
+    /**
+     * Retorna o dicionário padrão de senhas comuns, carregado no primeiro uso.
+     *
+     * @return Dicionário compartilhado
+     */
+    public static WPasswordDictionary common() {
+        return Common.INSTANCE;
+    }
+
+    /**
+     * Retorna a quantidade de palavras do dicionário.
+     *
+     * @return Número de palavras
+     */
+    public int size() {
+        return words;
+    }
+
+    /**
+     * Procura a palavra mais longa do dicionário que começa na posição informada.
+     *
+     * @param chars Acesso aos caracteres por posição (o caractere é o valor devolvido)
+     * @param from Posição inicial
+     * @param to Posição final, exclusiva
+     * @return Tamanho da palavra encontrada, ou 0 se nenhuma começar na posição
+     */
+    public int longestMatch(IntUnaryOperator chars, int from, int to) {
+        int node = 0;
+        int longest = 0;
+        for (int i = from; i < to; i++) {
+            node = find(node, Character.toLowerCase((char) chars.applyAsInt(i)));
+            if (node == NONE) {
+                break;
+            }
+            if (terminal[node]) {
+                longest = i - from + 1;
+            }
+        }
+        return longest;
+    }
+
+    /**
+     * Indica se a palavra está no dicionário.
+     *
+     * @param word Palavra procurada
+     * @return true se a palavra estiver no dicionário
+     */
+    public boolean contains(CharSequence word) {
+        return longestMatch(word::charAt, 0, word.length()) == word.length() && word.length() > 0;
+    }
+
+    // ============================================ MÉTODOS PRIVADOS ============================================
+
+    /**
+     * Acrescenta uma palavra já em minúsculas.
+     */
+    private void add(String word) {
+        if (word.isEmpty()) {
+            return;
+        }
+        int node = 0;
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            int next = find(node, c);
+            if (next == NONE) {
+                next = newNode(c);
+                sibling[next] = child[node];
+                child[node] = next;
+            }
+            node = next;
+        }
+        if (!terminal[node]) {
+            terminal[node] = true;
+            words++;
+        }
+    }
+
+    /**
+     * Procura entre os filhos do nó o que tem o caractere informado.
+     */
+    private int find(int node, char c) {
+        for (int n = child[node]; n != NONE; n = sibling[n]) {
+            if (label[n] == c) {
+                return n;
+            }
+        }
+        return NONE;
+    }
+
+    private int newNode(char c) {
+        if (nodes == label.length) {
+            int capacity = nodes * 2;
+            label = Arrays.copyOf(label, capacity);
+            child = Arrays.copyOf(child, capacity);
+            sibling = Arrays.copyOf(sibling, capacity);
+            terminal = Arrays.copyOf(terminal, capacity);
+        }
+        int node = nodes++;
+        label[node] = c;
+        child[node] = NONE;
+        sibling[node] = NONE;
+        return node;
+    }
+
+    /**
+     * Lê as palavras do recurso, uma por linha.
+     */
+    private static List<String> load(String resource) {
+        List<String> entries = new ArrayList<>();
+        InputStream in = WPasswordDictionary.class.getResourceAsStream(resource);
+        if (in == null) {
+            return entries;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    entries.add(line);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return entries;
+    }
+
+    // ============================================ TIPOS INTERNOS ============================================
+
+    /**
+     * Carrega o dicionário padrão apenas no primeiro uso.
+     */
+    private static final class Common {
+
+        private static final WPasswordDictionary INSTANCE = new WPasswordDictionary(load(COMMON_RESOURCE));
+    }
+}
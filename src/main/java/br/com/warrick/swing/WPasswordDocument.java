@@ -0,0 +1,356 @@
+package br.com.warrick.swing;
+
+import java.util.function.IntUnaryOperator;
+import javax.swing.event.DocumentEvent;
+import javax.swing.text.AttributeSet;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.PlainDocument;
+import javax.swing.text.Segment;
+import javax.swing.undo.AbstractUndoableEdit;
+
+/**
+ * Documento do {@link WPasswordField} que estima incrementalmente a força da senha, sem montar uma {@code String} ou
+ * uma cópia da senha.
+ *
+ * <p>
+ * A cada edição são atualizados, lendo apenas o trecho editado e seus vizinhos:</p>
+ * <ul>
+ * <li>a quantidade de minúsculas, maiúsculas, dígitos e símbolos, que define o alfabeto da senha;</li>
+ * <li>os pares de caracteres repetidos ({@code aa}) e em sequência ({@code ab}, {@code 21}), que pouco acrescentam
+ * a quem tenta adivinhar a senha.</li>
+ * </ul>
+ *
+ * <p>
+ * As palavras do {@link WPasswordDictionary dicionário} contidas na senha são procuradas a cada edição, caractere a
+ * caractere diretamente no conteúdo do documento; o custo é proporcional ao tamanho da senha, que é curta. Cada
+ * palavra encontrada vale apenas a entropia de escolher uma palavra do dicionário.</p>
+ *
+ * <p>
+ * A entropia resultante ({@link #getBits()}) define o {@link WPasswordStrength nível} da senha.</p>
+ *
+ * <p>
+ * A variação das contagens de cada edição é registrada no evento do documento, de modo que desfazer e refazer a
+ * edição (com um {@code UndoManager}) mantém a estimativa correta.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public class WPasswordDocument extends PlainDocument {
+    // ============================================ CONSTANTES ============================================
+
+    /** Tamanho do alfabeto de cada classe de caractere: minúsculas, maiúsculas, dígitos e símbolos */
+    private static final int[] POOL = {26, 26, 10, 33};
+
+    // ============================================ ATRIBUTOS ============================================
+
+    /** Quantidade de caracteres de cada classe, na ordem de {@link #POOL} */
+    private final int[] classes = new int[4];
+
+    /** Pares de caracteres vizinhos iguais */
+    private int repeats;
+
+    /** Pares de caracteres vizinhos em sequência */
+    private int sequences;
+
+    /** Caracteres cobertos por palavras do dicionário */
+    private int dictionaryChars;
+
+    /** Palavras do dicionário encontradas */
+    private int dictionaryWords;
+
+    /** Indica que uma edição foi desfeita ou refeita e as palavras do dicionário devem ser procuradas novamente */
+    private boolean dictionaryStale;
+
+    /** Entropia estimada em bits */
+    private double bits;
+
+    /** Dicionário de senhas comuns */
+    private WPasswordDictionary dictionary = WPasswordDictionary.common();
+
+    /** Segmento reutilizado para ler o conteúdo sem copiar o documento */
+    private final Segment segment = new Segment();
+
+    /** Acesso aos caracteres por posição, entregue ao dicionário */
+    private final IntUnaryOperator charAt = this::charAt;
+
+    // ============================================ CONSTRUTORES ============================================
+
+    /**
+     * Cria um novo documento vazio.
+     */
+    public WPasswordDocument() {
+        segment.setPartialReturn(true);
+    }
+
+    // ============================================ MÉTODOS PÚBLICOS ============================================
+
+    /**
+     * Retorna a entropia estimada da senha.
+     *
+     * @return Entropia em bits
+     */
+    public double getBits() {
+        return bits;
+    }
+
+    /**
+     * Retorna o nível de força da senha.
+     *
+     * @return Nível de força
+     */
+    public WPasswordStrength getStrength() {
+        return WPasswordStrength.of(bits);
+    }
+
+    /**
+     * Retorna a força da senha como fração da barra de força.
+     *
+     * @return Valor entre 0 e 1
+     */
+    public float getStrengthFraction() {
+        return (float) Math.min(1.0, bits / WPasswordStrength.MAX_BITS);
+    }
+
+    /**
+     * Retorna o dicionário de senhas comuns.
+     *
+     * @return Dicionário em uso
+     */
+    public WPasswordDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Define o dicionário de senhas comuns e recalcula a força.
+     *
+     * @param dictionary Novo dicionário, ou {@code null} para o dicionário padrão
+     */
+    public void setDictionary(WPasswordDictionary dictionary) {
+        writeLock();
+        try {
+            this.dictionary = dictionary != null ? dictionary : WPasswordDictionary.common();
+            updateDictionary();
+        } finally {
+            writeUnlock();
+        }
+    }
+
+    // ============================================ MÉTODOS PROTEGIDOS ============================================
+
+    @Override
+    protected void insertUpdate(DefaultDocumentEvent chng, AttributeSet attr) {
+        // Chamado após a inserção: o trecho já está no conteúdo
+        int offset = chng.getOffset();
+        int length = chng.getLength();
+        int total = getLength();
+        CountersEdit edit = new CountersEdit();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            classes[classOf(charAt(i))]++;
+        }
+        // O par que unia os vizinhos do trecho foi separado pela inserção
+        if (offset > 0 && offset + length < total) {
+            pair(offset - 1, offset + length, -1);
+        }
+        for (int i = Math.max(1, offset), end = Math.min(total - 1, offset + length); i <= end; i++) {
+            pair(i - 1, i, 1);
+        }
+        edit.finish(chng);
+        updateDictionary();
+        super.insertUpdate(chng, attr);
+    }
+
+    @Override
+    protected void removeUpdate(DefaultDocumentEvent chng) {
+        // Chamado antes da remoção: o trecho ainda está no conteúdo
+        int offset = chng.getOffset();
+        int length = chng.getLength();
+        int total = getLength();
+        CountersEdit edit = new CountersEdit();
+        for (int i = offset, end = offset + length; i < end; i++) {
+            classes[classOf(charAt(i))]--;
+        }
+        for (int i = Math.max(1, offset), end = Math.min(total - 1, offset + length); i <= end; i++) {
+            pair(i - 1, i, -1);
+        }
+        // Os vizinhos do trecho passam a formar um par
+        if (offset > 0 && offset + length < total) {
+            pair(offset - 1, offset + length, 1);
+        }
+        edit.finish(chng);
+        super.removeUpdate(chng);
+    }
+
+    @Override
+    protected void postRemoveUpdate(DefaultDocumentEvent chng) {
+        super.postRemoveUpdate(chng);
+        updateDictionary();
+    }
+
+    @Override
+    protected void fireInsertUpdate(DocumentEvent e) {
+        refreshIfUndone();
+        super.fireInsertUpdate(e);
+    }
+
+    @Override
+    protected void fireRemoveUpdate(DocumentEvent e) {
+        refreshIfUndone();
+        super.fireRemoveUpdate(e);
+    }
+
+    // ============================================ MÉTODOS PRIVADOS ============================================
+
+    /**
+     * Procura novamente as palavras do dicionário depois de uma edição desfeita ou refeita. O evento avisa os
+     * ouvintes só depois de restaurar todo o conteúdo, então a procura é feita aqui e não na própria
+     * {@link CountersEdit}.
+     */
+    private void refreshIfUndone() {
+        if (dictionaryStale) {
+            dictionaryStale = false;
+            updateDictionary();
+        }
+    }
+
+    /**
+     * Lê um caractere do conteúdo sem copiar o documento.
+     */
+    private int charAt(int index) {
+        try {
+            getContent().getChars(index, 1, segment);
+        } catch (BadLocationException e) {
+            throw new IllegalStateException(e);
+        }
+        char c = segment.array[segment.offset];
+        // Não mantém referência ao conteúdo interno
+        segment.array = null;
+        return c;
+    }
+
+    /**
+     * Classe do caractere: 0 minúscula, 1 maiúscula, 2 dígito, 3 símbolo.
+     */
+    private static int classOf(int c) {
+        if (Character.isLowerCase(c)) {
+            return 0;
+        }
+        if (Character.isUpperCase(c)) {
+            return 1;
+        }
+        return Character.isDigit(c) ? 2 : 3;
+    }
+
+    /**
+     * Soma {@code delta} às contagens de repetição ou sequência do par de caracteres nas posições informadas.
+     */
+    private void pair(int first, int second, int delta) {
+        int a = Character.toLowerCase(charAt(first));
+        int b = Character.toLowerCase(charAt(second));
+        if (a == b) {
+            repeats += delta;
+        } else if (Math.abs(a - b) == 1
+                && (Character.isLetter(a) && Character.isLetter(b) || Character.isDigit(a) && Character.isDigit(b))) {
+            sequences += delta;
+        }
+    }
+
+    /**
+     * Procura as palavras do dicionário na senha, da esquerda para a direita, e recalcula a entropia.
+     */
+    private void updateDictionary() {
+        int total = getLength();
+        dictionaryChars = 0;
+        dictionaryWords = 0;
+        int i = 0;
+        while (i < total) {
+            int match = dictionary.longestMatch(charAt, i, total);
+            if (match > 0) {
+                dictionaryChars += match;
+                dictionaryWords++;
+                i += match;
+            } else {
+                i++;
+            }
+        }
+        updateBits();
+    }
+
+    /**
+     * Estima a entropia: cada caractere livre vale log2 do alfabeto, e cada palavra do dicionário vale log2 do
+     * tamanho do dicionário.
+     */
+    private void updateBits() {
+        int pool = 0;
+        for (int i = 0; i < classes.length; i++) {
+            if (classes[i] > 0) {
+                pool += POOL[i];
+            }
+        }
+        int free = Math.max(0, getLength() - dictionaryChars - repeats - sequences);
+        double value = pool > 0 ? free * log2(pool) : 0;
+        if (dictionaryWords > 0) {
+            value += dictionaryWords * log2(Math.max(2, dictionary.size()));
+        }
+        bits = value;
+    }
+
+    private static double log2(int value) {
+        return Math.log(value) / Math.log(2);
+    }
+
+    // ============================================ TIPOS INTERNOS ============================================
+
+    /**
+     * Variação das contagens de classes, repetições e sequências de uma edição. O conteúdo é desfeito e refeito pelo
+     * próprio evento, sem passar por {@code insertUpdate} e {@code removeUpdate}; esta parte acompanha as
+     * contagens.
+     */
+    private final class CountersEdit extends AbstractUndoableEdit {
+
+        /** Contagens de cada classe: antes da edição e, depois de {@link #finish}, a variação */
+        private final int[] classDelta = classes.clone();
+
+        /** Repetições e sequências: antes da edição e, depois de {@link #finish}, a variação */
+        private int repeatDelta = repeats;
+        private int sequenceDelta = sequences;
+
+        /**
+         * Calcula a variação em relação às contagens atuais e registra a edição no evento.
+         */
+        private void finish(DefaultDocumentEvent chng) {
+            for (int i = 0; i < classes.length; i++) {
+                classDelta[i] = classes[i] - classDelta[i];
+            }
+            repeatDelta = repeats - repeatDelta;
+            sequenceDelta = sequences - sequenceDelta;
+            chng.addEdit(this);
+        }
+
+        @Override
+        public void undo() {
+            super.undo();
+            apply(-1);
+        }
+
+        @Override
+        public void redo() {
+            super.redo();
+            apply(1);
+        }
+
+        @Override
+        public boolean isSignificant() {
+            return false;
+        }
+
+        private void apply(int sign) {
+            for (int i = 0; i < classes.length; i++) {
+                classes[i] += sign * classDelta[i];
+            }
+            repeats += sign * repeatDelta;
+            sequences += sign * sequenceDelta;
+            dictionaryStale = true;
+        }
+    }
+}
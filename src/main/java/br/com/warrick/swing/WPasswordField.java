@@ -3,11 +3,14 @@ package br.com.warrick.swing;
 import java.awt.*;
 import java.awt.geom.*;
 import java.awt.event.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.Arrays;
 import javax.swing.*;
 import javax.swing.event.*;
 import javax.swing.border.EmptyBorder;
-import org.pushingpixels.trident.Timeline;
-import org.pushingpixels.trident.ease.Spline;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Segment;
 
 /**
  * Componente de campo de senha personalizado com suporte a animações, rótulo flutuante e validação.
@@ -53,12 +56,21 @@ public class WPasswordField extends JPasswordField {
     /** Cor da linha inferior quando o campo não está em foco */
     protected static final Color DEFAULT_LINE_BG_COLOR = new Color(200, 200, 200);
 
+    /** Cor padrão do ícone vetorial de mostrar/esconder */
+    protected static final Color DEFAULT_ICON_COLOR = new Color(134, 134, 134);
+
+    /** Cor padrão do ícone vetorial de mostrar/esconder com o mouse sobre o botão */
+    protected static final Color DEFAULT_ICON_HOVER_COLOR = new Color(73, 80, 87);
+
     /** Cor de erro para mensagens de validação */
     protected static final Color ERROR_COLOR = new Color(220, 53, 69);
 
     /** Cor de sucesso para mensagens de validação */
     protected static final Color SUCCESS_COLOR = new Color(40, 167, 69);
 
+    /** Cor do medidor de força para senhas de força média */
+    protected static final Color DEFAULT_STRENGTH_MEDIUM_COLOR = new Color(255, 193, 7);
+
 
     // ============================================ CONSTANTES DE LAYOUT ============================================
 
@@ -68,6 +80,9 @@ public class WPasswordField extends JPasswordField {
     /** Deslocamento vertical da linha inferior em relação à base do componente */
     protected static final int LINE_Y_OFFSET = 14;
 
+    /** Altura da barra do medidor de força, desenhada sobre a linha inferior */
+    protected static final int STRENGTH_HEIGHT = 2;
+
     /** Espaçamento interno superior do campo */
     protected static final int PADDING_TOP = 20;
 
@@ -86,6 +101,18 @@ public class WPasswordField extends JPasswordField {
     /** Margem ao redor do ícone de olho */
     protected static final int EYE_ICON_MARGIN = 5;
 
+    /** Caminho do ícone para mostrar a senha */
+    protected static final String EYE_ICON_PATH = "/br/com/warrick/icon/eye.png";
+
+    /** Caminho do ícone para esconder a senha */
+    protected static final String EYE_HIDE_ICON_PATH = "/br/com/warrick/icon/eye_hide.png";
+
+    /** Ícone vetorial para mostrar a senha */
+    private static final WVectorIcon EYE_VECTOR = new WVectorIcon(criarOlho(false), EYE_ICON_SIZE, 1.6f);
+
+    /** Ícone vetorial para esconder a senha */
+    private static final WVectorIcon EYE_HIDE_VECTOR = new WVectorIcon(criarOlho(true), EYE_ICON_SIZE, 1.6f);
+
     /** Posição vertical do rótulo quando na posição superior */
     protected static final int LABEL_TOP_POSITION = 13;
 
@@ -95,11 +122,30 @@ public class WPasswordField extends JPasswordField {
     /** Posição vertical da mensagem de erro */
     protected static final int ERROR_MESSAGE_Y_OFFSET = -2;
 
+    /** Paleta de cores do tema compartilhada por todas as instâncias */
+    private static final WPalette PALETTE = WPalette.of(WPasswordField.class);
+
+    /** Borda com os espaçamentos internos e a área do ícone, compartilhada por todas as instâncias */
+    private static final EmptyBorder DEFAULT_BORDER =
+            new EmptyBorder(PADDING_TOP, PADDING_LEFT, PADDING_BOTTOM, EYE_RIGHT_PADDING);
+
+    /** Cursor sobre o botão mostrar/esconder */
+    private static final Cursor HAND_CURSOR = Cursor.getPredefinedCursor(Cursor.HAND_CURSOR);
+
+    /** Cursor sobre a área de texto */
+    private static final Cursor TEXT_CURSOR = Cursor.getPredefinedCursor(Cursor.TEXT_CURSOR);
+
+    /** Listener de foco e mouse compartilhado por todas as instâncias */
+    private static final Handler HANDLER = new Handler();
+
     // ============================================ ATRIBUTOS ============================================
 
     /** Localização atual da animação da linha (0.0 a 1.0) */
     protected float lineAnimationProgress = 0f;
 
+    /** Largura atual da barra do medidor de força (0.0 a 1.0) */
+    protected float strengthProgress = 0f;
+
     /** Localização atual da animação do rótulo (0.0 a 1.0) */
     protected float animationLocation = 0f;
 
@@ -127,6 +173,9 @@ public class WPasswordField extends JPasswordField {
     /** Habilita/desabilita o botão de mostrar/esconder senha */
     protected boolean showAndHide = true;
 
+    /** Desenha o botão de mostrar/esconder a partir do contorno vetorial, em vez dos ícones PNG */
+    protected boolean vectorIcon = false;
+
     /** Texto do rótulo flutuante */
     protected String labelText = "";
 
@@ -139,11 +188,63 @@ public class WPasswordField extends JPasswordField {
     /** Cor de destaque quando o mouse está sobre o componente */
     protected Color hoverColor = DEFAULT_HOVER_COLOR;
 
-    /** Controlador de animação para transições suaves do rótulo */
-    protected Timeline timeline;
+    /** Slot de animação para transições suaves do rótulo */
+    protected final WAnimator.Slot labelAnimation =
+            WAnimator.slot(this, v -> animationLocation = v, ANIMATION_DURATION, WAnimator.SPLINE, this::labelBand);
 
-    /** Controlador de animação para mensagens de erro */
-    protected Timeline errorTimeline;
+    /** Slot de animação para mensagens de erro */
+    protected final WAnimator.Slot errorAnimation =
+            WAnimator.slot(this, this::setErrorAnimationLocation, ANIMATION_DURATION, WAnimator.SPLINE,
+                    WAnimator.NO_REPAINT);
+
+    /** Slot de animação da linha de foco */
+    protected final WAnimator.Slot lineAnimation =
+            WAnimator.slot(this, v -> lineAnimationProgress = v, ANIMATION_DURATION, null, this::lineBand);
+
+    /** Slot de animação do medidor de força, criado ao ligar o medidor */
+    private WAnimator.Slot strengthAnimation;
+
+    /** Indica se o medidor de força é desenhado na linha inferior */
+    private boolean strengthMeter;
+
+    /** Tarefa de limpeza da mensagem, agendada no {@link WMessageScheduler} */
+    private final Runnable limpezaMensagem = this::concluirLimpezaMensagem;
+
+    /**
+     * Camada de mensagens da janela, ou null enquanto o campo não estiver em uma janela.
+     */
+    private WMessageOverlay messageOverlay;
+
+    /** Layout de glifos do rótulo flutuante, reaproveitado entre os quadros da animação */
+    protected final WGlyphCache labelGlyphs = new WGlyphCache();
+
+    /** Margens reaproveitadas pela pintura do rótulo */
+    private final Insets labelInsets = new Insets(0, 0, 0, 0);
+
+    /** Validação assíncrona pelos validadores de {@link #addValidador(WValidator)}, criada no primeiro uso */
+    private WValidationPipeline<char[]> validacaoAsync;
+
+    /** Buffer emprestado por {@link #withPassword(PasswordConsumer)}, zerado após cada uso */
+    private char[] senhaBuffer;
+
+    /** Trecho de leitura do documento, sem cópia intermediária */
+    private Segment senhaSegmento;
+
+    /** Indica se o buffer está emprestado (chamada aninhada de {@link #withPassword(PasswordConsumer)}) */
+    private boolean senhaEmprestada;
+
+    /** Área do botão mostrar/esconder, recalculada apenas quando o tamanho do campo muda */
+    private final Rectangle eyeHitArea = new Rectangle();
+
+    /** Largura e altura do campo para as quais {@link #eyeHitArea} foi calculada */
+    private int eyeHitWidth = -1;
+    private int eyeHitHeight = -1;
+
+    /** Indica se o mouse está sobre o botão mostrar/esconder */
+    private boolean eyeHover;
+
+    /** Indica se o botão mostrar/esconder está pressionado */
+    private boolean eyePressed;
 
     /** Ícone para mostrar a senha */
     protected Image eyeIcon;
@@ -181,16 +282,15 @@ public class WPasswordField extends JPasswordField {
      * @return Cor do tema ou cor padrão
      */
     protected Color getThemeColor(String key, Color defaultColor) {
-        Color themeColor = UIManager.getColor(key);
-        return themeColor != null ? themeColor : defaultColor;
+        return PALETTE.get(key, defaultColor);
     }
 
     /**
      * Inicializa as animações do componente.
      */
     private void initAnimation() {
-        animationLocation = getPassword().length == 0 ? 0f : 1f;
-        showLabel = getPassword().length > 0;
+        animationLocation = isPasswordEmpty() ? 0f : 1f;
+        showLabel = !isPasswordEmpty();
         errorAnimationLocation = 0f;
     }
 
@@ -199,7 +299,7 @@ public class WPasswordField extends JPasswordField {
      */
     private void setupField() {
         // Configuração de borda e cores (usando tema se disponível)
-        setBorder(new EmptyBorder(PADDING_TOP, PADDING_LEFT, PADDING_BOTTOM, EYE_RIGHT_PADDING));
+        setBorder(DEFAULT_BORDER);
         setBackground(getThemeColor("WPasswordField.bgColor", DEFAULT_BG_COLOR));
         setForeground(getThemeColor("WPasswordField.textColor", DEFAULT_TEXT_COLOR));
         setCaretColor(getThemeColor("WPasswordField.textColor", DEFAULT_TEXT_COLOR));
@@ -213,73 +313,25 @@ public class WPasswordField extends JPasswordField {
         // Inicializa a animação
         initAnimation();
 
-        // Listener de mouse
-        addMouseListener(new MouseAdapter() {
-            @Override
-            public void mouseEntered(MouseEvent me) {
-                mouseOver = true;
-                repaint();
-            }
-
-            @Override
-            public void mouseExited(MouseEvent me) {
-                mouseOver = false;
-                repaint();
-            }
-
-            @Override
-            public void mousePressed(MouseEvent me) {
-                if (showAndHide) {
-                    int buttonSize = EYE_RIGHT_PADDING - EYE_ICON_MARGIN;
-                    int x = getWidth() - EYE_RIGHT_PADDING;
-                    if (new Rectangle(x, 0, buttonSize, getHeight()).contains(me.getPoint())) {
-                        togglePasswordVisibility();
-                    }
-                }
-            }
-        });
-
-        // Listener para cursor no botão mostrar/esconder
-        addMouseMotionListener(new MouseMotionAdapter() {
-            @Override
-            public void mouseMoved(MouseEvent me) {
-                if (showAndHide) {
-                    int buttonSize = EYE_RIGHT_PADDING - EYE_ICON_MARGIN;
-                    int x = getWidth() - EYE_RIGHT_PADDING;
-                    if (new Rectangle(x, 0, buttonSize, getHeight()).contains(me.getPoint())) {
-                        setCursor(new Cursor(Cursor.HAND_CURSOR));
-                    } else {
-                        setCursor(new Cursor(Cursor.TEXT_CURSOR));
-                    }
-                }
-            }
-        });
-
-        // Listener de foco
-        addFocusListener(new FocusAdapter() {
-            @Override
-            public void focusGained(FocusEvent fe) {
-                updateLabelState(true);
-                animateLine(true);
-            }
-
-            @Override
-            public void focusLost(FocusEvent fe) {
-                updateLabelState(false);
-                animateLine(false);
-            }
-        });
+        // Listeners de foco e mouse compartilhados
+        addMouseListener(HANDLER);
+        addMouseMotionListener(HANDLER);
+        addFocusListener(HANDLER);
 
         // Listener para limpar erros durante a digitação
         getDocument().addDocumentListener(new DocumentListener() {
             @Override
             public void insertUpdate(DocumentEvent e) {
                 limparErroSeNecessario();
+                agendarValidacao();
+                animateStrength();
             }
 
             @Override
             public void removeUpdate(DocumentEvent e) {
                 limparErroSeNecessario();
+                agendarValidacao();
+                animateStrength();
             }
 
             @Override
@@ -288,14 +340,130 @@ public class WPasswordField extends JPasswordField {
             }
 
             private void limparErroSeNecessario() {
-                if (hasError && getPassword().length > 0) {
+                if (hasError && !isPasswordEmpty()) {
                     limparErro();
                 }
             }
         });
 
-        // Carrega os ícones
-        loadIcons();
+        // Carrega os ícones (o ícone vetorial dispensa a leitura dos PNGs)
+        vectorIcon = UIManager.getBoolean("WPasswordField.vectorIcon");
+        if (!vectorIcon) {
+            loadIcons();
+        }
+    }
+
+    /**
+     * Cria o contorno do olho no quadro de {@link #EYE_ICON_SIZE} unidades: pálpebras, pupila e, no ícone de
+     * esconder, o traço diagonal.
+     */
+    private static Shape criarOlho(boolean riscado) {
+        Path2D olho = new Path2D.Float();
+        olho.moveTo(1.5f, 10f);
+        olho.curveTo(4.5f, 3f, 15.5f, 3f, 18.5f, 10f);
+        olho.curveTo(15.5f, 17f, 4.5f, 17f, 1.5f, 10f);
+        olho.closePath();
+        olho.append(new Ellipse2D.Float(7.25f, 7.25f, 5.5f, 5.5f), false);
+        if (riscado) {
+            olho.append(new Line2D.Float(3f, 3f, 17f, 17f), false);
+        }
+        return olho;
+    }
+
+    /**
+     * Retorna o pipeline de validação assíncrona, criando-o no primeiro uso.
+     */
+    private WValidationPipeline<char[]> validacaoAsync() {
+        if (validacaoAsync == null) {
+            validacaoAsync = new WValidationPipeline<>(this::getPassword, this::aplicarValidacao,
+                    senha -> Arrays.fill(senha, '\0'));
+        }
+        return validacaoAsync;
+    }
+
+    /**
+     * Agenda a validação assíncrona após uma alteração, se houver validadores.
+     */
+    private void agendarValidacao() {
+        if (validacaoAsync != null) {
+            validacaoAsync.schedule();
+        }
+    }
+
+    /**
+     * Atualiza o rótulo e a linha de foco quando o campo ganha ou perde o foco.
+     */
+    private void focoAlterado(boolean ganhou) {
+        updateLabelState(ganhou);
+        animateLine(ganhou);
+    }
+
+    /**
+     * Atualiza o estado de hover quando o mouse entra ou sai do campo.
+     */
+    private void mouseAlterado(boolean sobre) {
+        mouseOver = sobre;
+        if (!sobre) {
+            eyePressed = false;
+            botaoOlhoAlterado(false);
+        }
+        repaint();
+    }
+
+    /**
+     * Indica se o ponto está sobre o botão mostrar/esconder.
+     */
+    private boolean sobreBotaoOlho(int x, int y) {
+        if (!showAndHide) {
+            return false;
+        }
+        int width = getWidth();
+        int height = getHeight();
+        if (width != eyeHitWidth || height != eyeHitHeight) {
+            eyeHitWidth = width;
+            eyeHitHeight = height;
+            eyeHitArea.setBounds(width - EYE_RIGHT_PADDING, 0, EYE_RIGHT_PADDING - EYE_ICON_MARGIN, height);
+        }
+        return eyeHitArea.contains(x, y);
+    }
+
+    /**
+     * Alterna a visibilidade da senha se o clique foi sobre o botão mostrar/esconder.
+     */
+    private void mousePressionado(MouseEvent me) {
+        if (sobreBotaoOlho(me.getX(), me.getY())) {
+            eyePressed = true;
+            togglePasswordVisibility();
+        }
+    }
+
+    /**
+     * Encerra o estado pressionado do botão mostrar/esconder.
+     */
+    private void mouseSolto() {
+        if (eyePressed) {
+            eyePressed = false;
+            repaint(eyeHitArea);
+        }
+    }
+
+    /**
+     * Atualiza o estado do botão mostrar/esconder conforme a posição do mouse.
+     */
+    private void mouseMovido(MouseEvent me) {
+        botaoOlhoAlterado(sobreBotaoOlho(me.getX(), me.getY()));
+    }
+
+    /**
+     * Troca o cursor e repinta o botão apenas quando o mouse entra ou sai da área do botão mostrar/esconder.
+     */
+    private void botaoOlhoAlterado(boolean sobre) {
+        if (sobre == eyeHover) {
+            return;
+        }
+        eyeHover = sobre;
+        setCursor(sobre ? HAND_CURSOR : TEXT_CURSOR);
+        repaint(eyeHitArea);
     }
 
     /**
@@ -308,14 +476,14 @@ public class WPasswordField extends JPasswordField {
     }
 
     /**
-     * Carrega os ícones de mostrar/esconder senha.
+     * Obtém os ícones de mostrar/esconder senha do {@link WIconCache}, decodificados uma única vez para todos os
+     * campos.
      */
     private void loadIcons() {
-        try {
-            eyeIcon = new ImageIcon(getClass().getResource("/br/com/warrick/icon/eye.png")).getImage();
-            eyeHideIcon = new ImageIcon(getClass().getResource("/br/com/warrick/icon/eye_hide.png")).getImage();
-        } catch (Exception e) {
-            System.err.println("Aviso: Não foi possível carregar os ícones do classpath: " + e.getMessage());
+        eyeIcon = WIconCache.get(EYE_ICON_PATH);
+        eyeHideIcon = WIconCache.get(EYE_HIDE_ICON_PATH);
+        if (eyeIcon == null || eyeHideIcon == null) {
+            System.err.println("Aviso: Não foi possível carregar os ícones do classpath.");
             showAndHide = false;
             System.err.println("O botão de mostrar/esconder senha foi desabilitado.");
         }
@@ -327,8 +495,9 @@ public class WPasswordField extends JPasswordField {
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        Graphics2D g2 = (Graphics2D) g.create();
+        WGraphicsState state = WGraphicsState.save(g);
         try {
+            Graphics2D g2 = state.graphics();
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             paintComponents(g2);
 
@@ -337,7 +506,7 @@ public class WPasswordField extends JPasswordField {
                 paintToggleButton(g2);
             }
         } finally {
-            g2.dispose();
+            state.restore();
         }
     }
 
@@ -346,18 +515,58 @@ public class WPasswordField extends JPasswordField {
      */
     @Override
     public void paint(Graphics g) {
+        long start = WMetrics.start();
         super.paint(g);
 
-        // Desenha a mensagem de erro/sucesso fora dos limites do componente
-        if (hasError && errorMessage != null && !errorMessage.isEmpty() && errorAnimationLocation > 0) {
-            Graphics2D g2 = (Graphics2D) g.create();
+        // Sem camada de mensagens (fora de uma janela), o próprio campo desenha a mensagem
+        if (messageOverlay == null && hasError && errorMessage != null && !errorMessage.isEmpty() && errorAnimationLocation > 0) {
+            WGraphicsState state = WGraphicsState.save(g);
             try {
+                Graphics2D g2 = state.graphics();
                 g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
                 paintExternalMessage(g2);
             } finally {
-                g2.dispose();
+                state.restore();
             }
         }
+        WMetrics.paint(this, start);
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        messageOverlay = WMessageOverlay.attach(this, this::paintOverlayMessage, this::messageBounds);
+        repaintMessage();
+    }
+
+    @Override
+    public void removeNotify() {
+        if (messageOverlay != null) {
+            messageOverlay.detach(this);
+            messageOverlay = null;
+        }
+        super.removeNotify();
+    }
+
+    /**
+     * Desenha a mensagem de erro/sucesso para a camada de mensagens, nas coordenadas do campo.
+     */
+    private void paintOverlayMessage(Graphics2D g2) {
+        if (hasError && errorMessage != null && !errorMessage.isEmpty() && errorAnimationLocation > 0) {
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            paintExternalMessage(g2);
+        }
+    }
+
+    /**
+     * Repinta a mensagem de erro/sucesso pela camada de mensagens, ou a faixa inferior do campo sem camada.
+     */
+    private void repaintMessage() {
+        if (messageOverlay != null) {
+            messageOverlay.repaintMessage(this);
+        } else {
+            WAnimator.repaint(this, this::messageBand);
+        }
     }
 
     /**
@@ -374,12 +583,10 @@ public class WPasswordField extends JPasswordField {
                 getThemeColor("WPasswordField.errorColor", ERROR_COLOR);
 
         // Aplica transparência baseada na animação
-        int alpha = (int)(255 * errorAnimationLocation);
-        g2.setColor(new Color(messageColor.getRed(), messageColor.getGreen(),
-                messageColor.getBlue(), alpha));
+        g2.setColor(WPaintCache.alpha(messageColor, errorAnimationLocation));
 
         Font originalFont = g2.getFont();
-        g2.setFont(originalFont.deriveFont(Font.PLAIN, 11f));
+        g2.setFont(WPaintCache.messageFont(originalFont));
 
         int erroY = getHeight() + ERROR_MESSAGE_Y_OFFSET + (int)(3 * (1 - errorAnimationLocation));
         g2.drawString(errorMessage, PADDING_LEFT, erroY);
@@ -388,17 +595,77 @@ public class WPasswordField extends JPasswordField {
     }
 
     /**
-     * Atualiza o estado do rótulo com base no foco e conteúdo.
+     * Calcula a faixa ocupada pelo rótulo em todo o seu percurso, do repouso à posição flutuante.
      */
-    private void updateLabelState(boolean hasFocus) {
-        boolean shouldShow = hasFocus || getPassword().length > 0;
+    private void labelBand(Rectangle r) {
+        if (labelGlyphs.getHeight() == 0) {
+            r.setBounds(0, 0, getWidth(), getHeight());
+            return;
+        }
+        double centerY = (getHeight() - labelGlyphs.getHeight()) / 2 + labelGlyphs.getAscent();
+        double baseline = Math.max(centerY, LABEL_TOP_POSITION);
+        r.setBounds(0, 0, getWidth(), (int) Math.ceil(baseline + labelGlyphs.getDescent() * 1.04) + 2);
+    }
+
+    /**
+     * Fração da barra do medidor de força correspondente à senha atual.
+     */
+    private float strengthFraction() {
+        Document doc = getDocument();
+        return doc instanceof WPasswordDocument ? ((WPasswordDocument) doc).getStrengthFraction() : 0f;
+    }
+
+    /**
+     * Cor do medidor de força para o nível informado.
+     */
+    private Color strengthColor(WPasswordStrength strength) {
+        switch (strength) {
+            case VERY_WEAK:
+            case WEAK:
+                return getThemeColor("WPasswordField.strengthWeakColor", ERROR_COLOR);
+            case MEDIUM:
+                return getThemeColor("WPasswordField.strengthMediumColor", DEFAULT_STRENGTH_MEDIUM_COLOR);
+            default:
+                return getThemeColor("WPasswordField.strengthStrongColor", SUCCESS_COLOR);
+        }
+    }
 
-        if (showLabel == shouldShow && (timeline == null || timeline.isDone())) {
+    /**
+     * Calcula a faixa ocupada pela linha inferior.
+     */
+    private void lineBand(Rectangle r) {
+        r.setBounds(0, getHeight() - LINE_Y_OFFSET - LINE_HEIGHT / 2 - 1, getWidth(), LINE_HEIGHT + 2);
+    }
+
+    /**
+     * Calcula a faixa ocupada pela mensagem de erro/sucesso, incluindo o deslize de entrada.
+     */
+    private void messageBand(Rectangle r) {
+        int top = getHeight() + ERROR_MESSAGE_Y_OFFSET - getFontMetrics(WPaintCache.messageFont(getFont())).getAscent();
+        r.setBounds(0, top - 1, getWidth(), getHeight() - top + 1);
+    }
+
+    /**
+     * Calcula a área exata da mensagem, incluindo o deslize de entrada; pode ultrapassar os limites do campo.
+     */
+    private void messageBounds(Rectangle r) {
+        if (errorMessage == null || errorMessage.isEmpty()) {
+            r.setBounds(0, 0, 0, 0);
             return;
         }
+        FontMetrics fm = getFontMetrics(WPaintCache.messageFont(getFont()));
+        int top = getHeight() + ERROR_MESSAGE_Y_OFFSET - fm.getAscent();
+        r.setBounds(PADDING_LEFT - 2, top - 1, fm.stringWidth(errorMessage) + 4, fm.getAscent() + fm.getDescent() + 5);
+    }
+
+    /**
+     * Atualiza o estado do rótulo com base no foco e conteúdo.
+     */
+    private void updateLabelState(boolean hasFocus) {
+        boolean shouldShow = hasFocus || !isPasswordEmpty();
 
-        if (timeline != null && !timeline.isDone()) {
-            timeline.abort();
+        if (showLabel == shouldShow) {
+            return;
         }
 
         showLabel = shouldShow;
@@ -407,46 +674,34 @@ public class WPasswordField extends JPasswordField {
 
     // ============================================ MÉTODOS DE ANIMAÇÃO ============================================
 
+    /**
+     * Anima a barra do medidor de força até a força atual da senha.
+     */
+    private void animateStrength() {
+        if (strengthAnimation != null) {
+            strengthAnimation.animate(strengthProgress, strengthMeter ? strengthFraction() : 0f);
+        }
+    }
+
     /**
      * Anima a transição do rótulo.
      */
     private void animateLabel(boolean show) {
-        timeline = new Timeline(this);
-        timeline.addPropertyToInterpolate("animationLocation",
-                animationLocation,
-                show ? 1f : 0f);
-        timeline.setEase(new Spline(0.5f));
-        timeline.setDuration(ANIMATION_DURATION);
-        timeline.play();
+        labelAnimation.animate(animationLocation, show ? 1f : 0f);
     }
 
     /**
      * Anima a mensagem de erro.
      */
     private void animateError(boolean show) {
-        if (errorTimeline != null && !errorTimeline.isDone()) {
-            errorTimeline.abort();
-        }
-
-        errorTimeline = new Timeline(this);
-        errorTimeline.addPropertyToInterpolate("errorAnimationLocation",
-                errorAnimationLocation,
-                show ? 1f : 0f);
-        errorTimeline.setEase(new Spline(0.5f));
-        errorTimeline.setDuration(ANIMATION_DURATION);
-        errorTimeline.play();
+        errorAnimation.animate(errorAnimationLocation, show ? 1f : 0f);
     }
 
     /**
      * Anima a linha de foco.
      */
     private void animateLine(boolean show) {
-        Timeline lineTimeline = new Timeline(this);
-        lineTimeline.addPropertyToInterpolate("lineAnimationProgress",
-                lineAnimationProgress,
-                show ? 1f : 0f);
-        lineTimeline.setDuration(ANIMATION_DURATION);
-        lineTimeline.play();
+        lineAnimation.animate(lineAnimationProgress, show ? 1f : 0f);
     }
 
     // ============================================ MÉTODOS DE PINTURA ============================================
@@ -480,6 +735,12 @@ public class WPasswordField extends JPasswordField {
             g2.fillRect(2, lineY - (LINE_HEIGHT / 2), lineWidth, LINE_HEIGHT);
         }
 
+        // Medidor de força sobre a linha (a mensagem de erro tem prioridade)
+        if (strengthMeter && !hasError && strengthProgress > 0f) {
+            g2.setColor(strengthColor(getStrength()));
+            g2.fillRect(2, lineY - STRENGTH_HEIGHT / 2, (int) ((width - 4) * strengthProgress), STRENGTH_HEIGHT);
+        }
+
         // Desenha o rótulo
         paintLabel(g2);
     }
@@ -492,7 +753,7 @@ public class WPasswordField extends JPasswordField {
             return;
         }
 
-        Insets in = getInsets();
+        Insets in = getInsets(labelInsets);
 
         // Define cor do rótulo baseada no estado
         Color labelColor;
@@ -502,18 +763,17 @@ public class WPasswordField extends JPasswordField {
                     getThemeColor("WPasswordField.errorColor", ERROR_COLOR);
         } else if (isFocusOwner()) {
             labelColor = lineColor;
-        } else if (getPassword().length > 0) {
+        } else if (!isPasswordEmpty()) {
             labelColor = getThemeColor("WPasswordField.textColor", DEFAULT_TEXT_COLOR);
         } else {
             labelColor = getThemeColor("WPasswordField.hintColor", DEFAULT_HINT_COLOR);
         }
         g2.setColor(labelColor);
 
-        FontMetrics fm = g2.getFontMetrics();
-        Rectangle2D textBounds = fm.getStringBounds(labelText, g2);
+        labelGlyphs.update(g2, labelText);
 
         // Calcula posições com animação
-        double centerY = (getHeight() - textBounds.getHeight()) / 2 + fm.getAscent();
+        double centerY = (getHeight() - labelGlyphs.getHeight()) / 2 + labelGlyphs.getAscent();
         double topY = LABEL_TOP_POSITION;
         double currentY = centerY - ((centerY - topY) * animationLocation);
 
@@ -523,14 +783,7 @@ public class WPasswordField extends JPasswordField {
 
         float scale = 1.0f + (0.04f * animationLocation);
 
-        Graphics2D g2d = (Graphics2D) g2.create();
-        try {
-            g2d.translate(currentX, 0);
-            g2d.scale(scale, scale);
-            g2d.drawString(labelText, 0, (float) (currentY / scale));
-        } finally {
-            g2d.dispose();
-        }
+        labelGlyphs.draw(g2, currentX, currentY, scale);
     }
 
     /**
@@ -539,9 +792,30 @@ public class WPasswordField extends JPasswordField {
     protected void paintToggleButton(Graphics2D g2) {
         int buttonX = getWidth() - EYE_RIGHT_PADDING + EYE_ICON_MARGIN;
         int buttonY = (getHeight() - EYE_ICON_SIZE) / 2;
+        Color color = getThemeColor("WPasswordField.showButton.iconColor", DEFAULT_ICON_COLOR);
+
+        // Fundo circular nos estados hover e pressionado
+        if (eyeHover || eyePressed) {
+            g2.setColor(WPaintCache.alpha(color, eyePressed ? 0.24f : 0.12f));
+            g2.fillOval(buttonX - 3, buttonY - 3, EYE_ICON_SIZE + 6, EYE_ICON_SIZE + 6);
+        }
+
+        if (vectorIcon) {
+            WVectorIcon vector = hidePassword ? EYE_VECTOR : EYE_HIDE_VECTOR;
+            if (eyeHover || eyePressed) {
+                Color hover = getThemeColor("WPasswordField.showButton.hoverIconColor", DEFAULT_ICON_HOVER_COLOR);
+                color = eyePressed ? WPaintCache.pressed(hover) : hover;
+            }
+            vector.draw(g2, buttonX, buttonY, EYE_ICON_SIZE, color);
+            return;
+        }
 
         Image icon = hidePassword ? eyeIcon : eyeHideIcon;
-        if (icon != null) {
+        String path = hidePassword ? EYE_ICON_PATH : EYE_HIDE_ICON_PATH;
+        if (icon != null && icon == WIconCache.get(path)) {
+            // Ícone padrão: versão já redimensionada para a escala da tela
+            WIconCache.draw(g2, path, buttonX, buttonY, EYE_ICON_SIZE);
+        } else if (icon != null) {
             g2.drawImage(icon, buttonX, buttonY, EYE_ICON_SIZE, EYE_ICON_SIZE, null);
         } else {
             // Fallback: desenha um retângulo simples se o ícone não estiver disponível
@@ -559,7 +833,7 @@ public class WPasswordField extends JPasswordField {
      * @return true se o campo for válido, false caso contrário
      */
     private boolean validarObrigatorio() {
-        if (obrigatorio && getPassword().length == 0) {
+        if (obrigatorio && isPasswordEmpty()) {
             // Se tiver um rótulo definido, usa no texto de erro
             if (labelText != null && !labelText.trim().isEmpty()) {
                 // Remove os dois pontos do final, se existirem
@@ -588,6 +862,7 @@ public class WPasswordField extends JPasswordField {
      * @param sucesso true para mensagem de sucesso, false para erro
      */
     public void setMensagem(String mensagem, boolean sucesso) {
+        WMessageScheduler.cancel(this);
         this.errorMessage = mensagem;
         this.isSuccessMessage = sucesso;
         this.hasError = !sucesso;
@@ -595,6 +870,7 @@ public class WPasswordField extends JPasswordField {
         updateLabelState(isFocusOwner());
         animateError(true);
         repaint();
+        repaintMessage();
     }
 
     /**
@@ -627,6 +903,62 @@ public class WPasswordField extends JPasswordField {
         return false;
     }
 
+    /**
+     * Registra um validador assíncrono, executado fora da EDT a cada alteração do campo.
+     * O resultado é exibido na EDT apenas se o campo não tiver mudado desde o início da validação.
+     */
+    public void addValidador(WValidator<? super char[]> validador) {
+        validacaoAsync().add(validador);
+    }
+
+    /**
+     * Remove um validador assíncrono.
+     */
+    public void removeValidador(WValidator<? super char[]> validador) {
+        if (validacaoAsync != null) {
+            validacaoAsync.remove(validador);
+        }
+    }
+
+    /**
+     * Define o atraso, em milissegundos, entre a última alteração e o início da validação assíncrona.
+     */
+    public void setAtrasoValidacao(int atraso) {
+        validacaoAsync().setDebounce(atraso);
+    }
+
+    public int getAtrasoValidacao() {
+        return validacaoAsync != null ? validacaoAsync.getDebounce() : WValidationPipeline.DEFAULT_DEBOUNCE;
+    }
+
+    /**
+     * Valida o campo obrigatório e executa imediatamente os validadores assíncronos.
+     *
+     * @return Futuro concluído na EDT com true se o campo for válido
+     */
+    public CompletableFuture<Boolean> validarAsync() {
+        if (!validar()) {
+            return CompletableFuture.completedFuture(false);
+        }
+        if (validacaoAsync == null) {
+            return CompletableFuture.completedFuture(true);
+        }
+        return validacaoAsync.validateNow().thenApply(WValidationResult::isValid);
+    }
+
+    /**
+     * Aplica no campo o resultado de uma validação assíncrona.
+     */
+    private void aplicarValidacao(WValidationResult resultado) {
+        if (!resultado.isValid()) {
+            mostrarErro(resultado.getMensagem());
+        } else if (resultado.getMensagem() != null) {
+            mostrarSucesso(resultado.getMensagem());
+        } else {
+            limparMensagem();
+        }
+    }
+
     /**
      * Exibe uma mensagem de erro personalizada.
      * Esta mensagem sobrepõe a mensagem de campo obrigatório, se houver.
@@ -645,24 +977,21 @@ public class WPasswordField extends JPasswordField {
             return;
         }
 
-        if (errorTimeline != null && !errorTimeline.isDone()) {
-            errorTimeline.abort();
-        }
-
         animateError(false);
 
-        new Thread(() -> {
-            try {
-                Thread.sleep(ANIMATION_DURATION);
-                this.hasError = false;
-                this.errorMessage = "";
-                this.isSuccessMessage = false;
-                updateLabelState(isFocusOwner());
-                repaint();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
+        WMessageScheduler.schedule(this, limpezaMensagem, WAnimator.duration(ANIMATION_DURATION));
+    }
+
+    /**
+     * Conclui a limpeza da mensagem após a animação de saída.
+     */
+    private void concluirLimpezaMensagem() {
+        this.hasError = false;
+        this.errorMessage = "";
+        this.isSuccessMessage = false;
+        updateLabelState(isFocusOwner());
+        repaint();
+        repaintMessage();
     }
 
     /**
@@ -675,6 +1004,36 @@ public class WPasswordField extends JPasswordField {
 
     // ============================================ MÉTODOS DE CONFIGURAÇÃO ============================================
 
+    /**
+     * Cria o documento padrão do campo.
+     * <p>
+     * Usa um {@link WPasswordDocument}, que estima a força da senha a cada edição sem copiar a senha.
+     * </p>
+     *
+     * @return Novo documento vazio
+     * @see WPasswordDocument
+     */
+    @Override
+    protected Document createDefaultModel() {
+        return new WPasswordDocument();
+    }
+
+    /**
+     * Liga ou desliga o medidor de força, desenhado como uma barra sobre a linha inferior. A largura da barra segue a
+     * força da senha e a cor segue o nível ({@code WPasswordField.strengthWeakColor},
+     * {@code WPasswordField.strengthMediumColor} e {@code WPasswordField.strengthStrongColor} no tema).
+     *
+     * @param strengthMeter true para exibir o medidor
+     */
+    public void setStrengthMeter(boolean strengthMeter) {
+        this.strengthMeter = strengthMeter;
+        if (strengthMeter && strengthAnimation == null) {
+            strengthAnimation = WAnimator.slot(this, v -> strengthProgress = v, ANIMATION_DURATION, WAnimator.SPLINE,
+                    this::lineBand);
+        }
+        animateStrength();
+    }
+
     @Override
     public void setText(String text) {
         super.setText(text);
@@ -686,11 +1045,29 @@ public class WPasswordField extends JPasswordField {
 
     public void setLabelText(String labelText) {
         this.labelText = labelText;
+        labelGlyphs.invalidate();
         repaint();
     }
 
     public void setShowAndHide(boolean showAndHide) {
         this.showAndHide = showAndHide;
+        if (!showAndHide) {
+            eyePressed = false;
+            botaoOlhoAlterado(false);
+        }
+        repaint();
+    }
+
+    /**
+     * Define se o botão de mostrar/esconder é desenhado a partir do contorno vetorial, nítido em qualquer escala e na
+     * cor do tema ({@code WPasswordField.showButton.iconColor}). O padrão vem de {@code WPasswordField.vectorIcon}
+     * no UIManager.
+     */
+    public void setVectorIcon(boolean vectorIcon) {
+        this.vectorIcon = vectorIcon;
+        if (!vectorIcon && eyeIcon == null) {
+            loadIcons();
+        }
         repaint();
     }
 
@@ -712,17 +1089,17 @@ public class WPasswordField extends JPasswordField {
 
     public void setAnimationLocation(float animationLocation) {
         this.animationLocation = animationLocation;
-        repaint();
+        WAnimator.repaint(this, this::labelBand);
     }
 
     public void setErrorAnimationLocation(float errorAnimationLocation) {
         this.errorAnimationLocation = errorAnimationLocation;
-        repaint();
+        repaintMessage();
     }
 
     public void setLineAnimationProgress(float lineAnimationProgress) {
         this.lineAnimationProgress = lineAnimationProgress;
-        repaint();
+        WAnimator.repaint(this, this::lineBand);
     }
 
     // ============================================ MÉTODOS DE ACESSO ============================================
@@ -735,6 +1112,10 @@ public class WPasswordField extends JPasswordField {
         return showAndHide;
     }
 
+    public boolean isVectorIcon() {
+        return vectorIcon;
+    }
+
     public Color getLineColor() {
         return lineColor;
     }
@@ -770,4 +1151,175 @@ public class WPasswordField extends JPasswordField {
     public boolean isPasswordVisible() {
         return !hidePassword;
     }
-}
\ No newline at end of file
+
+    public boolean isStrengthMeter() {
+        return strengthMeter;
+    }
+
+    /**
+     * Retorna o nível de força da senha, mantido pelo {@link WPasswordDocument} a cada edição.
+     *
+     * @return Nível de força, ou {@link WPasswordStrength#VERY_WEAK} com um documento de outro tipo
+     */
+    public WPasswordStrength getStrength() {
+        Document doc = getDocument();
+        return doc instanceof WPasswordDocument ? ((WPasswordDocument) doc).getStrength() : WPasswordStrength.VERY_WEAK;
+    }
+
+    /**
+     * Retorna a quantidade de caracteres da senha, lida do documento sem copiar o conteúdo como faz
+     * {@link #getPassword()}.
+     *
+     * @return Tamanho da senha
+     */
+    public int getPasswordLength() {
+        return getDocument().getLength();
+    }
+
+    /**
+     * Indica se a senha está vazia, sem copiar o conteúdo.
+     *
+     * @return true se não houver senha digitada
+     */
+    public boolean isPasswordEmpty() {
+        return getDocument().getLength() == 0;
+    }
+
+    /**
+     * Empresta a senha ao consumidor em um buffer reaproveitado entre as chamadas, zerado assim que o consumidor
+     * retorna. Ao contrário de {@link #getPassword()}, não cria uma cópia da senha a cada chamada nem deixa cópias no
+     * heap. O consumidor não deve guardar referência ao buffer, que pode ser maior que a senha.
+     *
+     * <p>
+     * Deve ser chamado na Event Dispatch Thread.</p>
+     *
+     * @param consumer Consumidor da senha
+     */
+    public void withPassword(PasswordConsumer consumer) {
+        int length = getDocument().getLength();
+        char[] buffer;
+        if (senhaEmprestada) {
+            // Chamada aninhada: o buffer compartilhado já está em uso
+            buffer = new char[length];
+        } else {
+            if (senhaBuffer == null || senhaBuffer.length < length) {
+                if (senhaBuffer != null) {
+                    Arrays.fill(senhaBuffer, '\0');
+                }
+                senhaBuffer = new char[Math.max(length, 16)];
+            }
+            buffer = senhaBuffer;
+            senhaEmprestada = true;
+        }
+        try {
+            copiarSenha(buffer, length);
+            consumer.accept(buffer, length);
+        } finally {
+            Arrays.fill(buffer, 0, length, '\0');
+            if (buffer == senhaBuffer) {
+                senhaEmprestada = false;
+            }
+        }
+    }
+
+    /**
+     * Copia a senha do documento para o buffer, trecho a trecho, sem a cópia intermediária de
+     * {@link Document#getText(int, int)}.
+     */
+    private void copiarSenha(char[] buffer, int length) {
+        if (senhaSegmento == null) {
+            senhaSegmento = new Segment();
+            senhaSegmento.setPartialReturn(true);
+        }
+        Segment segmento = senhaSegmento;
+        Document doc = getDocument();
+        try {
+            int offset = 0;
+            while (offset < length) {
+                doc.getText(offset, length - offset, segmento);
+                System.arraycopy(segmento.array, segmento.offset, buffer, offset, segmento.count);
+                offset += segmento.count;
+            }
+        } catch (BadLocationException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            // Não mantém referência ao conteúdo interno do documento
+            segmento.array = null;
+        }
+    }
+
+    // ============================================ INTERFACE - CONSUMIDOR DE SENHA ============================================
+
+    /**
+     * Consumidor da senha emprestada por {@link #withPassword(PasswordConsumer)}.
+     */
+    @FunctionalInterface
+    public interface PasswordConsumer {
+
+        /**
+         * Recebe a senha. Os caracteres válidos são {@code password[0..length)}; o buffer é zerado após o retorno.
+         *
+         * @param password Buffer com a senha
+         * @param length Quantidade de caracteres da senha
+         */
+        void accept(char[] password, int length);
+    }
+
+    // ============================================ CLASSE INTERNA - LISTENER COMPARTILHADO ============================================
+
+    /**
+     * Listener de foco e mouse sem estado: o campo vem da origem do evento, então uma única instância atende a todos
+     * os componentes.
+     */
+    private static final class Handler extends MouseAdapter implements FocusListener {
+
+        @Override
+        public void focusGained(FocusEvent e) {
+            long start = WMetrics.start();
+            ((WPasswordField) e.getComponent()).focoAlterado(true);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void focusLost(FocusEvent e) {
+            long start = WMetrics.start();
+            ((WPasswordField) e.getComponent()).focoAlterado(false);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void mouseEntered(MouseEvent e) {
+            long start = WMetrics.start();
+            ((WPasswordField) e.getComponent()).mouseAlterado(true);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void mouseExited(MouseEvent e) {
+            long start = WMetrics.start();
+            ((WPasswordField) e.getComponent()).mouseAlterado(false);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void mousePressed(MouseEvent e) {
+            long start = WMetrics.start();
+            ((WPasswordField) e.getComponent()).mousePressionado(e);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void mouseReleased(MouseEvent e) {
+            long start = WMetrics.start();
+            ((WPasswordField) e.getComponent()).mouseSolto();
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void mouseMoved(MouseEvent e) {
+            long start = WMetrics.start();
+            ((WPasswordField) e.getComponent()).mouseMovido(e);
+            WMetrics.listener(e.getComponent(), start);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.warrick.swing;
+
+/**
+ * Nível de força de uma senha, estimado por {@link WPasswordDocument} a partir da entropia em bits.
+ *
+ * <p>
+ * Os limites seguem a escala usual de entropia: abaixo de 28 bits a senha cai em ataques de dicionário e força bruta
+ * online; acima de 80 bits resiste a força bruta offline.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public enum WPasswordStrength {
+
+    /** Menos de 28 bits, ou senha vazia */
+    VERY_WEAK(0),
+
+    /** De 28 a 36 bits */
+    WEAK(28),
+
+    /** De 36 a 60 bits */
+    MEDIUM(36),
+
+    /** De 60 a 80 bits */
+    STRONG(60),
+
+    /** 80 bits ou mais */
+    VERY_STRONG(80);
+
+    /** Entropia em bits que preenche toda a barra de força */
+    public static final double MAX_BITS = 80;
+
+    /** Níveis em ordem crescente; {@link #values()} cria uma cópia a cada chamada */
+    private static final WPasswordStrength[] LEVELS = values();
+
+    /** Entropia mínima do nível em bits */
+    private final double minBits;
+
+    WPasswordStrength(double minBits) {
+        this.minBits = minBits;
+    }
+
+    /**
+     * Retorna a entropia mínima do nível.
+     *
+     * @return Entropia em bits
+     */
+    public double getMinBits() {
+        return minBits;
+    }
+
+    /**
+     * Retorna o nível correspondente à entropia informada.
+     *
+     * @param bits Entropia em bits
+     * @return Nível de força
+     */
+    public static WPasswordStrength of(double bits) {
+        for (int i = LEVELS.length - 1; i > 0; i--) {
+            if (bits >= LEVELS[i].minBits) {
+                return LEVELS[i];
+            }
+        }
+        return VERY_WEAK;
+    }
+}
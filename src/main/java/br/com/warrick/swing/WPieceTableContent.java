@@ -0,0 +1,758 @@
+package br.com.warrick.swing;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import javax.swing.text.AbstractDocument;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Position;
+import javax.swing.text.Segment;
+import javax.swing.undo.AbstractUndoableEdit;
+import javax.swing.undo.CannotRedoException;
+import javax.swing.undo.CannotUndoException;
+import javax.swing.undo.UndoableEdit;
+
+/**
+ * Conteúdo de documento em tabela de peças (piece table), usado por {@link WLargeDocument} para textos de vários
+ * megabytes.
+ *
+ * <p>
+ * O texto é uma sequência de peças, cada uma apontando para um trecho de um buffer que nunca é alterado: o texto
+ * carregado ({@link #load(int, char[], int)} adota o vetor sem copiá-lo) ou o buffer de acréscimos, onde tudo o que é
+ * digitado é anexado ao final. Inserir ou remover apenas divide e descarta peças; ao contrário do
+ * {@link javax.swing.text.GapContent}, nenhuma edição move o texto existente, e caracteres digitados em sequência
+ * estendem a mesma peça.</p>
+ *
+ * <p>
+ * A busca da peça que contém uma posição parte da última peça consultada, então leituras e edições próximas umas das
+ * outras (digitação, pintura das linhas visíveis) percorrem poucas peças.</p>
+ *
+ * <p>
+ * As {@link Position posições} seguem as regras do {@code GapContent}: uma inserção desloca as posições a partir do
+ * ponto de inserção (exceto a posição 0) e uma remoção recolhe as posições do trecho removido para o seu início. Elas
+ * são guardadas ordenadas em relação a uma lacuna virtual no ponto da última edição, de modo que cada edição ajusta
+ * apenas as posições entre a edição anterior e a atual.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public class WPieceTableContent implements AbstractDocument.Content {
+    // ============================================ CONSTANTES ============================================
+
+    /** Índice do buffer de acréscimos em {@link #buffers} */
+    private static final int ADD = 0;
+
+    /** Tamanho inicial da lacuna virtual das posições */
+    private static final int GAP = 1 << 30;
+
+    // ============================================ ATRIBUTOS ============================================
+
+    /** Buffers de texto: o de acréscimos e os textos adotados */
+    private char[][] buffers;
+
+    /** Quantidade de buffers */
+    private int bufferCount;
+
+    /** Caracteres usados do buffer de acréscimos */
+    private int addLength;
+
+    /** Buffer de cada peça */
+    private int[] pieceBuffer;
+
+    /** Início de cada peça no seu buffer */
+    private int[] pieceStart;
+
+    /** Tamanho de cada peça */
+    private int[] pieceLength;
+
+    /** Quantidade de peças */
+    private int pieceCount;
+
+    /** Tamanho do conteúdo, incluindo a quebra de linha final */
+    private int length;
+
+    /** Última peça consultada e a posição em que ela começa */
+    private int cursorPiece;
+    private int cursorStart;
+
+    /** Posições ordenadas pelo índice relativo à lacuna virtual */
+    private Mark[] marks = new Mark[16];
+
+    /** Quantidade de posições */
+    private int markCount;
+
+    /** Início e fim da lacuna virtual das posições */
+    private int gapStart;
+    private int gapEnd = GAP;
+
+    /** Posições liberadas pelo coletor de lixo */
+    private final ReferenceQueue<StickyPosition> queue = new ReferenceQueue<>();
+
+    /** Posições liberadas ainda não removidas de {@link #marks} */
+    private int unusedMarks;
+
+    // ============================================ CONSTRUTORES ============================================
+
+    /**
+     * Cria um conteúdo vazio, contendo apenas a quebra de linha final exigida pelo {@code AbstractDocument}.
+     */
+    public WPieceTableContent() {
+        reset();
+    }
+
+    // ============================================ MÉTODOS PÚBLICOS ============================================
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public Position createPosition(int offset) throws BadLocationException {
+        if (offset < 0 || offset > length) {
+            throw new BadLocationException("Posição inválida", offset);
+        }
+        while (queue.poll() != null) {
+            unusedMarks++;
+        }
+        if (unusedMarks > Math.max(5, markCount / 10)) {
+            removeUnusedMarks();
+        }
+        int index = offset < gapStart ? offset : offset + (gapEnd - gapStart);
+        int sortIndex = findSortIndex(index);
+        if (sortIndex < markCount && marks[sortIndex].index == index) {
+            StickyPosition position = marks[sortIndex].get();
+            if (position != null) {
+                return position;
+            }
+        }
+        StickyPosition position = new StickyPosition();
+        Mark mark = new Mark(index, position, queue);
+        position.mark = mark;
+        if (markCount == marks.length) {
+            marks = Arrays.copyOf(marks, markCount * 2);
+        }
+        System.arraycopy(marks, sortIndex, marks, sortIndex + 1, markCount - sortIndex);
+        marks[sortIndex] = mark;
+        markCount++;
+        return position;
+    }
+
+    @Override
+    public UndoableEdit insertString(int where, String str) throws BadLocationException {
+        checkInsert(where);
+        int n = str.length();
+        if (n == 0) {
+            return null;
+        }
+        ensureAddCapacity(n);
+        int start = addLength;
+        str.getChars(0, n, buffers[ADD], start);
+        addLength += n;
+        insertPiece(where, ADD, start, n);
+        return new InsertUndo(where, n);
+    }
+
+    @Override
+    public UndoableEdit remove(int where, int nitems) throws BadLocationException {
+        if (where < 0 || nitems < 0 || where + nitems >= length) {
+            throw new BadLocationException("Trecho inválido para remoção", where + nitems);
+        }
+        if (nitems == 0) {
+            return null;
+        }
+        RemoveUndo undo = new RemoveUndo(where, getString(where, nitems));
+        int first = split(where);
+        int last = split(where + nitems);
+        deletePieces(first, last);
+        length -= nitems;
+        cursorPiece = first;
+        cursorStart = where;
+        if (first > 0) {
+            merge(first - 1);
+        }
+        removeMarks(where, nitems);
+        if (length == 1) {
+            // Só resta a quebra de linha final: os buffers deixam de ser referenciados por alguma peça
+            reset();
+        }
+        return undo;
+    }
+
+    @Override
+    public String getString(int where, int len) throws BadLocationException {
+        checkRange(where, len);
+        char[] chars = new char[len];
+        copy(where, len, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Lê um trecho do conteúdo. O segmento aponta diretamente para o buffer quando o trecho está em uma única peça;
+     * caso contrário os caracteres são copiados, ou, com {@link Segment#setPartialReturn(boolean) retorno parcial},
+     * apenas o início do trecho até o fim da peça é devolvido.
+     */
+    @Override
+    public void getChars(int where, int len, Segment txt) throws BadLocationException {
+        checkRange(where, len);
+        if (len == 0) {
+            txt.array = buffers[ADD];
+            txt.offset = 0;
+            txt.count = 0;
+            return;
+        }
+        int piece = find(where);
+        int inPiece = where - cursorStart;
+        int available = pieceLength[piece] - inPiece;
+        if (len <= available || txt.isPartialReturn()) {
+            txt.array = buffers[pieceBuffer[piece]];
+            txt.offset = pieceStart[piece] + inPiece;
+            txt.count = Math.min(len, available);
+        } else {
+            char[] chars = new char[len];
+            copy(where, len, chars, 0);
+            txt.array = chars;
+            txt.offset = 0;
+            txt.count = len;
+        }
+    }
+
+    /**
+     * Insere um texto adotando o vetor informado, sem copiá-lo. O vetor não deve ser alterado depois da chamada.
+     *
+     * @param where Posição da inserção
+     * @param chars Vetor com o texto
+     * @param count Quantidade de caracteres usados do vetor
+     * @throws BadLocationException Se a posição for inválida
+     */
+    public void load(int where, char[] chars, int count) throws BadLocationException {
+        checkInsert(where);
+        if (count < 0 || count > chars.length) {
+            throw new IllegalArgumentException("Quantidade inválida: " + count);
+        }
+        if (count == 0) {
+            return;
+        }
+        if (bufferCount == buffers.length) {
+            buffers = Arrays.copyOf(buffers, bufferCount * 2);
+        }
+        buffers[bufferCount] = chars;
+        insertPiece(where, bufferCount++, 0, count);
+    }
+
+    /**
+     * Remove todo o texto, mantendo apenas a quebra de linha final, sem registrar a remoção para desfazer: o
+     * {@link #remove(int, int)} guardaria uma cópia de todo o texto removido. Usado na carga de um novo texto no
+     * {@link WLargeDocument}, que não pode ser desfeita.
+     */
+    void clear() {
+        int count = length - 1;
+        if (count > 0) {
+            removeMarks(0, count);
+            reset();
+        }
+    }
+
+    /**
+     * Retorna a quantidade de peças do conteúdo.
+     *
+     * @return Número de peças
+     */
+    public int getPieceCount() {
+        return pieceCount;
+    }
+
+    // ============================================ MÉTODOS PRIVADOS - PEÇAS ============================================
+
+    /**
+     * Volta ao conteúdo vazio, descartando os buffers.
+     */
+    private void reset() {
+        buffers = new char[4][];
+        buffers[ADD] = new char[64];
+        buffers[ADD][0] = '\n';
+        bufferCount = 1;
+        addLength = 1;
+        pieceBuffer = new int[16];
+        pieceStart = new int[16];
+        pieceLength = new int[16];
+        pieceLength[0] = 1;
+        pieceCount = 1;
+        length = 1;
+        cursorPiece = 0;
+        cursorStart = 0;
+    }
+
+    /**
+     * Insere uma peça na posição informada, estendendo a peça anterior quando ela termina exatamente onde a nova
+     * começa no mesmo buffer (caracteres digitados em sequência).
+     */
+    private void insertPiece(int where, int buffer, int start, int count) {
+        int index = split(where);
+        if (index > 0 && pieceBuffer[index - 1] == buffer
+                && pieceStart[index - 1] + pieceLength[index - 1] == start) {
+            pieceLength[index - 1] += count;
+            cursorPiece = index;
+            cursorStart = where + count;
+        } else {
+            ensurePieceCapacity(1);
+            int move = pieceCount - index;
+            System.arraycopy(pieceBuffer, index, pieceBuffer, index + 1, move);
+            System.arraycopy(pieceStart, index, pieceStart, index + 1, move);
+            System.arraycopy(pieceLength, index, pieceLength, index + 1, move);
+            pieceBuffer[index] = buffer;
+            pieceStart[index] = start;
+            pieceLength[index] = count;
+            pieceCount++;
+            cursorPiece = index;
+            cursorStart = where;
+        }
+        length += count;
+        insertMarks(where, count);
+    }
+
+    /**
+     * Garante que uma peça comece na posição informada, dividindo a peça que a contém.
+     *
+     * @return Índice da peça que começa na posição
+     */
+    private int split(int offset) {
+        if (offset == length) {
+            return pieceCount;
+        }
+        int piece = find(offset);
+        int inPiece = offset - cursorStart;
+        if (inPiece == 0) {
+            return piece;
+        }
+        ensurePieceCapacity(1);
+        int move = pieceCount - piece - 1;
+        System.arraycopy(pieceBuffer, piece + 1, pieceBuffer, piece + 2, move);
+        System.arraycopy(pieceStart, piece + 1, pieceStart, piece + 2, move);
+        System.arraycopy(pieceLength, piece + 1, pieceLength, piece + 2, move);
+        pieceBuffer[piece + 1] = pieceBuffer[piece];
+        pieceStart[piece + 1] = pieceStart[piece] + inPiece;
+        pieceLength[piece + 1] = pieceLength[piece] - inPiece;
+        pieceLength[piece] = inPiece;
+        pieceCount++;
+        cursorPiece = piece + 1;
+        cursorStart = offset;
+        return piece + 1;
+    }
+
+    /**
+     * Remove as peças do intervalo {@code [first, last)}.
+     */
+    private void deletePieces(int first, int last) {
+        int move = pieceCount - last;
+        System.arraycopy(pieceBuffer, last, pieceBuffer, first, move);
+        System.arraycopy(pieceStart, last, pieceStart, first, move);
+        System.arraycopy(pieceLength, last, pieceLength, first, move);
+        pieceCount -= last - first;
+    }
+
+    /**
+     * Junta a peça com a seguinte quando ambas são trechos vizinhos do mesmo buffer.
+     */
+    private void merge(int piece) {
+        int next = piece + 1;
+        if (next < pieceCount && pieceBuffer[piece] == pieceBuffer[next]
+                && pieceStart[piece] + pieceLength[piece] == pieceStart[next]) {
+            if (cursorPiece == next) {
+                cursorPiece = piece;
+                cursorStart -= pieceLength[piece];
+            }
+            pieceLength[piece] += pieceLength[next];
+            deletePieces(next, next + 1);
+        }
+    }
+
+    /**
+     * Localiza a peça que contém a posição, partindo da última peça consultada. Atualiza {@link #cursorPiece} e
+     * {@link #cursorStart}.
+     */
+    private int find(int offset) {
+        int piece = cursorPiece;
+        int start = cursorStart;
+        if (piece >= pieceCount) {
+            piece = 0;
+            start = 0;
+        }
+        while (offset < start) {
+            piece--;
+            start -= pieceLength[piece];
+        }
+        while (offset >= start + pieceLength[piece]) {
+            start += pieceLength[piece];
+            piece++;
+        }
+        cursorPiece = piece;
+        cursorStart = start;
+        return piece;
+    }
+
+    /**
+     * Copia um trecho do conteúdo para o vetor informado.
+     */
+    private void copy(int where, int len, char[] dest, int destOffset) {
+        while (len > 0) {
+            int piece = find(where);
+            int inPiece = where - cursorStart;
+            int count = Math.min(len, pieceLength[piece] - inPiece);
+            System.arraycopy(buffers[pieceBuffer[piece]], pieceStart[piece] + inPiece, dest, destOffset, count);
+            where += count;
+            destOffset += count;
+            len -= count;
+        }
+    }
+
+    private void ensureAddCapacity(int count) {
+        char[] add = buffers[ADD];
+        if (addLength + count > add.length) {
+            buffers[ADD] = Arrays.copyOf(add, Math.max(add.length * 2, addLength + count));
+        }
+    }
+
+    private void ensurePieceCapacity(int count) {
+        if (pieceCount + count > pieceLength.length) {
+            int capacity = Math.max(pieceLength.length * 2, pieceCount + count);
+            pieceBuffer = Arrays.copyOf(pieceBuffer, capacity);
+            pieceStart = Arrays.copyOf(pieceStart, capacity);
+            pieceLength = Arrays.copyOf(pieceLength, capacity);
+        }
+    }
+
+    private void checkInsert(int where) throws BadLocationException {
+        if (where < 0 || where >= length) {
+            throw new BadLocationException("Posição inválida para inserção", where);
+        }
+    }
+
+    private void checkRange(int where, int len) throws BadLocationException {
+        if (where < 0 || len < 0 || where + len > length) {
+            throw new BadLocationException("Trecho inválido", where + len);
+        }
+    }
+
+    // ============================================ MÉTODOS PRIVADOS - POSIÇÕES ============================================
+
+    /**
+     * Ajusta as posições a uma inserção: as posições a partir do ponto de inserção são deslocadas, exceto a posição
+     * 0.
+     */
+    private void insertMarks(int where, int count) {
+        moveGap(where);
+        if (gapEnd - gapStart < count) {
+            growGap(count);
+        }
+        gapStart += count;
+    }
+
+    /**
+     * Ajusta as posições a uma remoção: as posições do trecho removido passam a apontar para o seu início.
+     */
+    private void removeMarks(int where, int count) {
+        moveGap(where);
+        int newGapEnd = gapEnd + count;
+        for (int i = findAdjustIndex(gapEnd); i < markCount; i++) {
+            Mark mark = marks[i];
+            if (mark.index >= newGapEnd) {
+                break;
+            }
+            mark.index = newGapEnd;
+        }
+        gapEnd = newGapEnd;
+        resetMarksAtZero();
+    }
+
+    /**
+     * Move a lacuna virtual para a posição informada, ajustando apenas as posições entre a lacuna antiga e a nova.
+     */
+    private void moveGap(int newGapStart) {
+        int dg = newGapStart - gapStart;
+        int gapSize = gapEnd - gapStart;
+        if (dg > 0) {
+            int newGapEnd = gapEnd + dg;
+            for (int i = findAdjustIndex(gapStart); i < markCount; i++) {
+                Mark mark = marks[i];
+                if (mark.index >= newGapEnd) {
+                    break;
+                }
+                mark.index -= gapSize;
+            }
+        } else if (dg < 0) {
+            for (int i = findAdjustIndex(newGapStart); i < markCount; i++) {
+                Mark mark = marks[i];
+                if (mark.index >= gapEnd) {
+                    break;
+                }
+                mark.index += gapSize;
+            }
+        }
+        gapStart = newGapStart;
+        gapEnd = newGapStart + gapSize;
+        resetMarksAtZero();
+    }
+
+    /**
+     * Aumenta a lacuna virtual, deslocando as posições posteriores a ela.
+     */
+    private void growGap(int count) {
+        int grow = Math.max(count, GAP);
+        for (int i = findAdjustIndex(gapEnd); i < markCount; i++) {
+            marks[i].index += grow;
+        }
+        gapEnd += grow;
+    }
+
+    /**
+     * Com a lacuna no início, as posições 0 continuam no início em vez de acompanhar as inserções.
+     */
+    private void resetMarksAtZero() {
+        if (gapStart == 0) {
+            for (int i = 0; i < markCount; i++) {
+                Mark mark = marks[i];
+                if (mark.index > gapEnd) {
+                    break;
+                }
+                mark.index = 0;
+            }
+        }
+    }
+
+    /**
+     * Primeira posição com índice maior ou igual ao informado.
+     */
+    private int findAdjustIndex(int index) {
+        int sortIndex = findSortIndex(Math.max(index, 1));
+        while (sortIndex > 0 && marks[sortIndex - 1].index >= Math.max(index, 1)) {
+            sortIndex--;
+        }
+        return sortIndex;
+    }
+
+    /**
+     * Busca binária do índice em que uma posição com o índice informado deve ficar.
+     */
+    private int findSortIndex(int index) {
+        int lower = 0;
+        int upper = markCount - 1;
+        while (lower <= upper) {
+            int mid = (lower + upper) >>> 1;
+            int value = marks[mid].index;
+            if (value < index) {
+                lower = mid + 1;
+            } else if (value > index) {
+                upper = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return lower;
+    }
+
+    /**
+     * Guarda as posições do trecho informado, para que voltem ao lugar quando uma remoção for desfeita.
+     */
+    private UndoPosRef[] positionsInRange(int offset, int len) {
+        int end = offset + len;
+        int gapSize = gapEnd - gapStart;
+        int startIndex;
+        int endIndex;
+        if (offset < gapStart) {
+            startIndex = offset == 0 ? 0 : findAdjustIndex(offset);
+            endIndex = findAdjustIndex(end >= gapStart ? end + gapSize + 1 : end + 1);
+        } else {
+            startIndex = findAdjustIndex(offset + gapSize);
+            endIndex = findAdjustIndex(end + gapSize + 1);
+        }
+        UndoPosRef[] refs = new UndoPosRef[endIndex - startIndex];
+        for (int i = startIndex; i < endIndex; i++) {
+            refs[i - startIndex] = new UndoPosRef(marks[i]);
+        }
+        return refs;
+    }
+
+    /**
+     * Devolve ao lugar as posições guardadas por {@link #positionsInRange(int, int)}, logo após o trecho ser
+     * reinserido, e reordena as posições afetadas.
+     */
+    private void updateUndoPositions(UndoPosRef[] refs, int offset, int len) {
+        int end = offset + len;
+        int startIndex = offset != 0 ? findAdjustIndex(gapEnd) : 0;
+        int endIndex = findAdjustIndex(gapEnd + 1);
+        for (UndoPosRef ref : refs) {
+            ref.mark.index = ref.location != end ? ref.location : gapEnd;
+        }
+        if (startIndex >= endIndex) {
+            return;
+        }
+        // As posições recolhidas continuam na ordem original; basta separar as que voltaram ao trecho das demais
+        Mark[] sorted = new Mark[endIndex - startIndex];
+        int count = 0;
+        int pivot = offset == 0 ? 0 : gapEnd;
+        for (int i = startIndex; i < endIndex; i++) {
+            if ((marks[i].index == pivot) == (offset == 0)) {
+                sorted[count++] = marks[i];
+            }
+        }
+        for (int i = startIndex; i < endIndex; i++) {
+            if ((marks[i].index == pivot) != (offset == 0)) {
+                sorted[count++] = marks[i];
+            }
+        }
+        System.arraycopy(sorted, 0, marks, startIndex, sorted.length);
+    }
+
+    /**
+     * Remove as posições liberadas pelo coletor de lixo.
+     */
+    private void removeUnusedMarks() {
+        int count = 0;
+        for (int i = 0; i < markCount; i++) {
+            if (marks[i].get() != null) {
+                marks[count++] = marks[i];
+            }
+        }
+        Arrays.fill(marks, count, markCount, null);
+        markCount = count;
+        unusedMarks = 0;
+    }
+
+    // ============================================ TIPOS INTERNOS ============================================
+
+    /**
+     * Posição no índice relativo à lacuna virtual, mantida enquanto a {@link StickyPosition} estiver em uso.
+     */
+    private final class Mark extends WeakReference<StickyPosition> {
+
+        private int index;
+
+        Mark(int index, StickyPosition position, ReferenceQueue<StickyPosition> queue) {
+            super(position, queue);
+            this.index = index;
+        }
+
+        int getOffset() {
+            int offset = index < gapStart ? index : index - (gapEnd - gapStart);
+            return Math.max(offset, 0);
+        }
+    }
+
+    /**
+     * Posição entregue ao documento.
+     */
+    private static final class StickyPosition implements Position {
+
+        private Mark mark;
+
+        @Override
+        public int getOffset() {
+            return mark.getOffset();
+        }
+
+        @Override
+        public String toString() {
+            return Integer.toString(getOffset());
+        }
+    }
+
+    /**
+     * Posição guardada por uma edição desfeita, para voltar ao seu local quando o texto removido é reinserido.
+     */
+    private static final class UndoPosRef {
+
+        private final Mark mark;
+        private final int location;
+
+        UndoPosRef(Mark mark) {
+            this.mark = mark;
+            this.location = mark.getOffset();
+        }
+    }
+
+    /**
+     * Desfaz uma inserção removendo o trecho inserido.
+     */
+    private final class InsertUndo extends AbstractUndoableEdit {
+
+        private final int offset;
+        private final int length;
+        private String string;
+        private UndoPosRef[] posRefs;
+
+        InsertUndo(int offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public void undo() throws CannotUndoException {
+            super.undo();
+            try {
+                posRefs = positionsInRange(offset, length);
+                string = getString(offset, length);
+                remove(offset, length);
+            } catch (BadLocationException e) {
+                throw new CannotUndoException();
+            }
+        }
+
+        @Override
+        public void redo() throws CannotRedoException {
+            super.redo();
+            try {
+                insertString(offset, string);
+                string = null;
+                updateUndoPositions(posRefs, offset, length);
+                posRefs = null;
+            } catch (BadLocationException e) {
+                throw new CannotRedoException();
+            }
+        }
+    }
+
+    /**
+     * Desfaz uma remoção inserindo novamente o trecho removido.
+     */
+    private final class RemoveUndo extends AbstractUndoableEdit {
+
+        private final int offset;
+        private final int length;
+        private String string;
+        private UndoPosRef[] posRefs;
+
+        RemoveUndo(int offset, String string) {
+            this.offset = offset;
+            this.string = string;
+            this.length = string.length();
+            this.posRefs = positionsInRange(offset, length);
+        }
+
+        @Override
+        public void undo() throws CannotUndoException {
+            super.undo();
+            try {
+                insertString(offset, string);
+                updateUndoPositions(posRefs, offset, length);
+                posRefs = null;
+                string = null;
+            } catch (BadLocationException e) {
+                throw new CannotUndoException();
+            }
+        }
+
+        @Override
+        public void redo() throws CannotRedoException {
+            super.redo();
+            try {
+                string = getString(offset, length);
+                posRefs = positionsInRange(offset, length);
+                remove(offset, length);
+            } catch (BadLocationException e) {
+                throw new CannotRedoException();
+            }
+        }
+    }
+}
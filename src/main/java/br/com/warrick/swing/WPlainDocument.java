@@ -0,0 +1,163 @@
+package br.com.warrick.swing;
+
+import javax.swing.text.AttributeSet;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.PlainDocument;
+import javax.swing.text.Segment;
+import javax.swing.undo.AbstractUndoableEdit;
+
+/**
+ * Documento de texto simples que acompanha incrementalmente se há conteúdo além de espaços em branco.
+ *
+ * <p>
+ * A contagem de caracteres não brancos é atualizada a partir de cada edição, lendo apenas o trecho inserido ou
+ * removido. Assim, perguntar se o campo está vazio (o equivalente a {@code getText().trim().isEmpty()}) custa
+ * O(1) e cada edição custa O(tamanho da edição), independentemente do tamanho do documento.</p>
+ *
+ * <p>
+ * A variação de cada edição também é registrada no evento do documento, de modo que desfazer e refazer a edição
+ * (com um {@code UndoManager}) mantém a contagem correta.</p>
+ *
+ * <p>
+ * São considerados brancos os mesmos caracteres descartados por {@link String#trim()} (código menor ou igual a
+ * {@code ' '}).</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public class WPlainDocument extends PlainDocument {
+    // ============================================ ATRIBUTOS ============================================
+
+    /** Quantidade de caracteres não brancos no documento */
+    private int nonBlankCount;
+
+    /** Segmento reutilizado para ler os trechos editados sem copiar o documento */
+    private final Segment segment = new Segment();
+
+    // ============================================ CONSTRUTORES ============================================
+
+    /**
+     * Cria um novo documento vazio.
+     */
+    public WPlainDocument() {
+        segment.setPartialReturn(true);
+    }
+
+    /**
+     * Cria um novo documento vazio sobre o armazenamento de conteúdo informado.
+     *
+     * @param content Armazenamento do texto
+     */
+    protected WPlainDocument(Content content) {
+        super(content);
+        segment.setPartialReturn(true);
+    }
+
+    // ============================================ MÉTODOS PÚBLICOS ============================================
+
+    /**
+     * Indica se o documento contém algum caractere que não seja espaço em branco.
+     *
+     * @return true se houver conteúdo além de espaços em branco
+     */
+    public boolean hasContent() {
+        return nonBlankCount > 0;
+    }
+
+    /**
+     * Retorna a quantidade de caracteres não brancos do documento.
+     *
+     * @return Quantidade de caracteres não brancos
+     */
+    public int getNonBlankCount() {
+        return nonBlankCount;
+    }
+
+    // ============================================ MÉTODOS PROTEGIDOS ============================================
+
+    @Override
+    protected void insertUpdate(DefaultDocumentEvent chng, AttributeSet attr) {
+        addNonBlankCount(chng, countNonBlank(chng.getOffset(), chng.getLength()));
+        super.insertUpdate(chng, attr);
+    }
+
+    @Override
+    protected void removeUpdate(DefaultDocumentEvent chng) {
+        // Chamado antes da remoção: o trecho ainda está no conteúdo
+        addNonBlankCount(chng, -countNonBlank(chng.getOffset(), chng.getLength()));
+        super.removeUpdate(chng);
+    }
+
+    /**
+     * Soma à contagem a variação de caracteres não brancos de uma edição e a registra no evento, para ser revertida
+     * ao desfazer. Usado também por subclasses que atualizam a estrutura do documento sem passar por
+     * {@link #insertUpdate(DefaultDocumentEvent, AttributeSet)}.
+     *
+     * @param chng Evento da edição
+     * @param delta Caracteres não brancos inseridos (positivo) ou removidos (negativo)
+     */
+    protected void addNonBlankCount(DefaultDocumentEvent chng, int delta) {
+        if (delta != 0) {
+            nonBlankCount += delta;
+            chng.addEdit(new NonBlankEdit(delta));
+        }
+    }
+
+    // ============================================ MÉTODOS PRIVADOS ============================================
+
+    /**
+     * Conta os caracteres não brancos de um trecho do documento.
+     */
+    private int countNonBlank(int offset, int length) {
+        int count = 0;
+        try {
+            while (length > 0) {
+                getContent().getChars(offset, length, segment);
+                for (int i = segment.offset, end = segment.offset + segment.count; i < end; i++) {
+                    if (segment.array[i] > ' ') {
+                        count++;
+                    }
+                }
+                offset += segment.count;
+                length -= segment.count;
+            }
+        } catch (BadLocationException e) {
+            throw new IllegalStateException(e);
+        }
+        return count;
+    }
+
+    // ============================================ TIPOS INTERNOS ============================================
+
+    /**
+     * Variação da contagem de caracteres não brancos de uma edição. O conteúdo é desfeito e refeito pelo próprio
+     * evento, sem passar por {@code insertUpdate} e {@code removeUpdate}; esta parte acompanha a contagem.
+     */
+    private final class NonBlankEdit extends AbstractUndoableEdit {
+
+        /** Variação aplicada pela edição */
+        private final int delta;
+
+        private NonBlankEdit(int delta) {
+            this.delta = delta;
+        }
+
+        @Override
+        public void undo() {
+            super.undo();
+            nonBlankCount -= delta;
+        }
+
+        @Override
+        public void redo() {
+            super.redo();
+            nonBlankCount += delta;
+        }
+
+        @Override
+        public boolean isSignificant() {
+            return false;
+        }
+    }
+}
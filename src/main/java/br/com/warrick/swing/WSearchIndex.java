@@ -0,0 +1,696 @@
+package br.com.warrick.swing;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Locale;
+import javax.swing.ListModel;
+import javax.swing.Timer;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+/**
+ * Índice de busca textual sobre os itens de um {@link ListModel}, usado pelo filtro por digitação do
+ * {@link WComboBox}.
+ *
+ * <p>
+ * A forma textual de cada item ({@code String.valueOf(item)}) é normalizada para minúsculas e sem acentos, de modo que
+ * "sao" encontra "São Paulo". O índice guarda listas de posições para:</p>
+ * <ul>
+ *   <li>o primeiro caractere e os dois primeiros caracteres de cada item, usados em buscas de 1 ou 2 caracteres,
+ *   que procuram por prefixo;</li>
+ *   <li>cada trigrama (sequência de 3 caracteres) do item, usados em buscas a partir de 3 caracteres, que procuram o
+ *   trecho em qualquer posição.</li>
+ * </ul>
+ *
+ * <p>
+ * Uma busca intersecta as listas dos trigramas da consulta, começando pela menor, e confirma apenas os candidatos
+ * restantes; o custo depende da quantidade de resultados e não do tamanho da lista. Como a digitação estende a
+ * consulta anterior, o resultado anterior é reaproveitado: a nova busca apenas confirma os itens já encontrados.</p>
+ *
+ * <p>
+ * A indexação inicial é feita em blocos por {@link #buildInBackground()}, em um timer compartilhado, ou por
+ * {@link #indexChunk(long)}. Os itens indexados formam sempre um trecho inicial do modelo; enquanto a indexação não
+ * termina, a busca responde pelo índice para esse trecho e percorre o restante da lista, de modo que o resultado é
+ * sempre completo.</p>
+ *
+ * <p>
+ * O índice acompanha o modelo sem reconstrução: inserções e remoções deslocam as posições registradas nas listas, e
+ * um item alterado sai das listas da forma antiga e entra nas da forma nova. Inserções e alterações de muitos itens
+ * de uma só vez voltam para a indexação em blocos a partir do primeiro item afetado. Deve ser usado apenas na Event
+ * Dispatch Thread.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public class WSearchIndex implements ListDataListener {
+    // ============================================ CONSTANTES ============================================
+
+    /** Resultado vazio compartilhado */
+    private static final int[] EMPTY = new int[0];
+
+    /** Marcador das chaves de prefixo de 1 caractere */
+    private static final long PREFIX1 = 1L << 48;
+
+    /** Marcador das chaves de prefixo de 2 caracteres */
+    private static final long PREFIX2 = 2L << 48;
+
+    /** Marcador das chaves de trigrama */
+    private static final long TRIGRAM = 3L << 48;
+
+    /** Chave que marca posições livres na tabela de listas */
+    private static final long FREE = 0L;
+
+    /** Razão de tamanhos a partir da qual a interseção usa busca binária em vez de percorrer as duas listas */
+    private static final int GALLOP_RATIO = 8;
+
+    /** Limite de itens inseridos ou alterados de uma só vez que são indexados imediatamente; acima dele, em blocos */
+    private static final int INCREMENTAL_LIMIT = 32;
+
+    /** Intervalo entre os blocos de indexação em segundo plano, em milissegundos */
+    private static final int BACKGROUND_DELAY = 15;
+
+    /** Duração máxima de um bloco de indexação em segundo plano, em nanossegundos */
+    private static final long BACKGROUND_BUDGET = 4_000_000L;
+
+    /** Índices com itens por indexar, atendidos em rodízio */
+    private static final ArrayDeque<WSearchIndex> PENDING = new ArrayDeque<>();
+
+    /** Timer único da indexação em segundo plano */
+    private static final Timer BACKGROUND = new Timer(BACKGROUND_DELAY, e -> indexInBackground());
+
+    // ============================================ ATRIBUTOS ============================================
+
+    /** Modelo indexado */
+    private final ListModel<?> model;
+
+    /** Chaves da tabela de listas (endereçamento aberto, sem objetos {@code Long}) */
+    private long[] tableKeys = new long[1024];
+
+    /** Listas de posições, na mesma posição da chave em {@link #tableKeys} */
+    private Postings[] tableValues = new Postings[1024];
+
+    /** Quantidade de chaves na tabela */
+    private int tableSize;
+
+    /** Forma textual normalizada de cada item do modelo, ou null se ainda não calculada */
+    private String[] keys;
+
+    /** Quantidade de itens do modelo acompanhados pelo índice */
+    private int count;
+
+    /** Quantidade de itens iniciais já registrados nas listas; os demais são percorridos na busca */
+    private int indexed;
+
+    /** Indica se a indexação dos itens pendentes é feita pelo timer compartilhado */
+    private boolean background;
+
+    /** Indica se o índice está na fila do timer */
+    private boolean pending;
+
+    /** Última consulta de trecho (3 ou mais caracteres) respondida */
+    private String lastQuery;
+
+    /** Resultado da última consulta de trecho */
+    private int[] lastResult;
+
+    static {
+        BACKGROUND.setRepeats(true);
+    }
+
+    // ============================================ CONSTRUTORES ============================================
+
+    /**
+     * Cria um índice que acompanha o modelo informado.
+     *
+     * <p>
+     * Nenhum item é indexado na criação: chame {@link #buildInBackground()} para indexar em segundo plano. Chame
+     * {@link #dispose()} quando o índice não for mais usado.</p>
+     *
+     * @param model Modelo a indexar
+     */
+    public WSearchIndex(ListModel<?> model) {
+        this.model = model;
+        this.count = model.getSize();
+        this.keys = new String[Math.max(16, count)];
+        model.addListDataListener(this);
+    }
+
+    // ============================================ MÉTODOS PÚBLICOS ============================================
+
+    /**
+     * Busca os itens que correspondem ao texto informado.
+     *
+     * @param query Texto digitado
+     * @return Posições dos itens encontrados, em ordem crescente, ou null se a consulta for vazia (sem filtro)
+     */
+    public int[] search(String query) {
+        String q = normalize(query);
+        if (q.isEmpty()) {
+            return null;
+        }
+
+        if (q.length() <= 2) {
+            long key = q.length() == 1
+                    ? PREFIX1 | q.charAt(0)
+                    : PREFIX2 | ((long) q.charAt(0) << 16) | q.charAt(1);
+            Postings p = get(key);
+            int[] result = p == null ? EMPTY : Arrays.copyOf(p.ids, p.size);
+            return matchPending(result, result.length, q, true);
+        }
+
+        if (lastQuery != null && q.startsWith(lastQuery)) {
+            // A consulta só cresceu: os resultados são um subconjunto dos anteriores, inclusive os não indexados
+            int[] candidates = lastResult.clone();
+            return remember(q, Arrays.copyOf(candidates, confirm(candidates, candidates.length, q)));
+        }
+
+        // Listas dos trigramas da consulta, da menor para a maior
+        int[] candidates = EMPTY;
+        int size = 0;
+        Postings[] lists = new Postings[q.length() - 2];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = get(trigram(q, i));
+            if (lists[i] == null) {
+                lists = null;
+                break;
+            }
+        }
+        if (lists != null) {
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+            candidates = Arrays.copyOf(lists[0].ids, lists[0].size);
+            size = candidates.length;
+            for (int i = 1; i < lists.length && size > 0; i++) {
+                if (lists[i] != lists[i - 1]) {
+                    size = intersect(candidates, size, lists[i]);
+                }
+            }
+        }
+        return remember(q, matchPending(candidates, confirm(candidates, size, q), q, false));
+    }
+
+    /**
+     * Retorna a quantidade de itens do modelo acompanhados pelo índice.
+     *
+     * @return Itens no índice
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Retorna a quantidade de itens ainda não indexados, que a busca percorre um a um.
+     *
+     * @return Itens por indexar
+     */
+    public int getPendingCount() {
+        return count - indexed;
+    }
+
+    /**
+     * Indexa os itens pendentes em blocos, no timer compartilhado, sem ocupar a Event Dispatch Thread por mais que
+     * alguns milissegundos a cada passo. Itens que voltarem a ficar pendentes depois de mudanças no modelo também
+     * são indexados em segundo plano.
+     */
+    public void buildInBackground() {
+        background = true;
+        scheduleBackground();
+    }
+
+    /**
+     * Indexa um bloco de itens pendentes, como a indexação em segundo plano faz a cada passo do timer.
+     *
+     * @param budget Tempo máximo em nanossegundos
+     * @return true se ainda restarem itens por indexar
+     */
+    public boolean indexChunk(long budget) {
+        return indexPending(System.nanoTime() + budget);
+    }
+
+    /**
+     * Desliga o índice do modelo e descarta os dados.
+     */
+    public void dispose() {
+        model.removeListDataListener(this);
+        if (pending) {
+            PENDING.remove(this);
+            pending = false;
+        }
+        background = false;
+        clear();
+        keys = new String[16];
+        count = 0;
+        indexed = 0;
+    }
+
+    /**
+     * Normaliza um texto para comparação: minúsculas e sem acentos.
+     *
+     * @param text Texto original
+     * @return Texto normalizado
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            if (lower.charAt(i) >= 0x80) {
+                // Só decompõe quando há caracteres fora do ASCII
+                return Normalizer.normalize(lower, Normalizer.Form.NFD).replaceAll("\\p{M}+", "");
+            }
+        }
+        return lower;
+    }
+
+    // ============================================ LISTDATALISTENER ============================================
+
+    @Override
+    public void intervalAdded(ListDataEvent e) {
+        lastQuery = null;
+        int index0 = e.getIndex0();
+        int n = e.getIndex1() - index0 + 1;
+        if (index0 < 0 || index0 > count || model.getSize() != count + n) {
+            restart();
+            return;
+        }
+
+        if (count + n > keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(count + n, keys.length * 2));
+        }
+        System.arraycopy(keys, index0, keys, index0 + n, count - index0);
+        Arrays.fill(keys, index0, index0 + n, null);
+        boolean complete = indexed == count;
+        count += n;
+
+        if (index0 < indexed || complete) {
+            if (n <= INCREMENTAL_LIMIT) {
+                // Abre espaço nas listas e indexa os novos itens imediatamente
+                if (index0 < indexed) {
+                    cutAll(index0, index0 - 1, n);
+                }
+                indexed += n;
+                for (int i = index0; i < index0 + n; i++) {
+                    postAll(i, true);
+                }
+            } else if (index0 < indexed) {
+                // Muitos itens: o trecho a partir da inserção volta para a indexação em blocos
+                cutAll(index0, Integer.MAX_VALUE, 0);
+                indexed = index0;
+            }
+        }
+        scheduleBackground();
+    }
+
+    @Override
+    public void intervalRemoved(ListDataEvent e) {
+        lastQuery = null;
+        int index0 = e.getIndex0();
+        int index1 = e.getIndex1();
+        int n = index1 - index0 + 1;
+        if (index0 < 0 || index1 >= count || model.getSize() != count - n) {
+            restart();
+            return;
+        }
+
+        if (n == count) {
+            clear();
+            indexed = 0;
+        } else if (index0 < indexed) {
+            // Retira as posições removidas e desloca as seguintes
+            cutAll(index0, index1, -n);
+            indexed -= Math.min(index1, indexed - 1) - index0 + 1;
+        }
+        System.arraycopy(keys, index1 + 1, keys, index0, count - index1 - 1);
+        Arrays.fill(keys, count - n, count, null);
+        count -= n;
+    }
+
+    @Override
+    public void contentsChanged(ListDataEvent e) {
+        // (-1, -1) indica apenas mudança de seleção no ComboBoxModel
+        int index0 = e.getIndex0();
+        int index1 = e.getIndex1();
+        if (index0 == -1 && index1 == -1) {
+            return;
+        }
+        lastQuery = null;
+        if (index0 < 0 || index1 >= count || model.getSize() != count) {
+            restart();
+            return;
+        }
+
+        if (index1 - index0 + 1 > INCREMENTAL_LIMIT) {
+            // Muitos itens: o trecho a partir da alteração volta para a indexação em blocos
+            if (index0 < indexed) {
+                cutAll(index0, Integer.MAX_VALUE, 0);
+                indexed = index0;
+            }
+            Arrays.fill(keys, index0, index1 + 1, null);
+            scheduleBackground();
+            return;
+        }
+        for (int i = index0; i <= index1; i++) {
+            if (i < indexed) {
+                // Sai das listas da forma antiga e entra nas da forma nova
+                postAll(i, false);
+                keys[i] = null;
+                postAll(i, true);
+            } else {
+                keys[i] = null;
+            }
+        }
+    }
+
+    // ============================================ MÉTODOS PRIVADOS ============================================
+
+    /**
+     * Descarta o índice e volta a indexar o modelo inteiro, quando o evento recebido não corresponde ao estado
+     * acompanhado.
+     */
+    private void restart() {
+        clear();
+        count = model.getSize();
+        keys = new String[Math.max(16, count)];
+        indexed = 0;
+        scheduleBackground();
+    }
+
+    /**
+     * Forma normalizada do item na posição informada, calculada no primeiro uso.
+     */
+    private String key(int pos) {
+        String key = keys[pos];
+        if (key == null) {
+            key = normalize(String.valueOf(model.getElementAt(pos)));
+            keys[pos] = key;
+        }
+        return key;
+    }
+
+    /**
+     * Registra a posição nas listas do prefixo e dos trigramas do item, ou a retira delas.
+     */
+    private void postAll(int pos, boolean add) {
+        String key = key(pos);
+        if (key.isEmpty()) {
+            return;
+        }
+        post(PREFIX1 | key.charAt(0), pos, add);
+        if (key.length() > 1) {
+            post(PREFIX2 | ((long) key.charAt(0) << 16) | key.charAt(1), pos, add);
+        }
+        for (int i = 0; i + 3 <= key.length(); i++) {
+            post(trigram(key, i), pos, add);
+        }
+    }
+
+    /**
+     * Mantém os candidatos que contêm a consulta inteira: os trigramas podem aparecer fora de ordem.
+     *
+     * @return Quantidade de candidatos confirmados, no início do array
+     */
+    private int confirm(int[] candidates, int size, String q) {
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            int pos = candidates[i];
+            if (key(pos).contains(q)) {
+                candidates[found++] = pos;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Acrescenta ao resultado os itens ainda não indexados que correspondem à consulta, percorrendo-os um a um.
+     *
+     * @param result Resultado das listas, com {@code size} posições válidas
+     * @param prefix true para comparar pelo início do item, false para procurar o trecho em qualquer posição
+     * @return Resultado completo, em ordem crescente
+     */
+    private int[] matchPending(int[] result, int size, String q, boolean prefix) {
+        for (int pos = indexed; pos < count; pos++) {
+            String key = key(pos);
+            if (prefix ? key.startsWith(q) : key.contains(q)) {
+                if (size == result.length) {
+                    result = Arrays.copyOf(result, Math.max(16, size * 2));
+                }
+                result[size++] = pos;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Guarda o resultado de uma consulta de trecho para reaproveitá-lo na próxima digitação.
+     */
+    private int[] remember(String q, int[] result) {
+        lastQuery = q;
+        lastResult = result;
+        return result.length == 0 ? result : result.clone();
+    }
+
+    /**
+     * Registra a posição na lista da chave, ou a retira dela.
+     */
+    private void post(long key, int pos, boolean add) {
+        int slot = slot(key);
+        Postings p = tableValues[slot];
+        if (!add) {
+            if (p != null) {
+                p.remove(pos);
+            }
+            return;
+        }
+        if (p == null) {
+            p = new Postings();
+            tableKeys[slot] = key;
+            tableValues[slot] = p;
+            if (++tableSize * 2 > tableKeys.length) {
+                grow();
+            }
+        }
+        p.add(pos);
+    }
+
+    /**
+     * Aplica {@link Postings#cut(int, int, int)} a todas as listas.
+     */
+    private void cutAll(int from, int to, int delta) {
+        for (Postings p : tableValues) {
+            if (p != null) {
+                p.cut(from, to, delta);
+            }
+        }
+    }
+
+    /**
+     * Retorna a lista da chave, ou null se a chave não ocorre em nenhum item.
+     */
+    private Postings get(long key) {
+        return tableValues[slot(key)];
+    }
+
+    /**
+     * Posição da chave na tabela, ou a posição livre onde ela seria inserida.
+     */
+    private int slot(long key) {
+        int mask = tableKeys.length - 1;
+        long h = key * 0x9E3779B97F4A7C15L;
+        int i = (int) (h ^ (h >>> 32)) & mask;
+        while (tableKeys[i] != FREE && tableKeys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    /**
+     * Dobra a capacidade da tabela, redistribuindo as chaves.
+     */
+    private void grow() {
+        long[] oldKeys = tableKeys;
+        Postings[] oldValues = tableValues;
+        tableKeys = new long[oldKeys.length * 2];
+        tableValues = new Postings[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = slot(oldKeys[i]);
+                tableKeys[slot] = oldKeys[i];
+                tableValues[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Esvazia a tabela de listas e a consulta memorizada.
+     */
+    private void clear() {
+        tableKeys = new long[1024];
+        tableValues = new Postings[1024];
+        tableSize = 0;
+        lastQuery = null;
+        lastResult = null;
+    }
+
+    /**
+     * Mantém em {@code candidates} apenas as posições presentes na lista informada.
+     *
+     * <p>
+     * Listas de tamanho parecido são percorridas em paralelo; contra uma lista muito maior, cada candidato é
+     * procurado por busca binária.</p>
+     *
+     * @return Nova quantidade de candidatos
+     */
+    private static int intersect(int[] candidates, int size, Postings list) {
+        int[] ids = list.ids;
+        int found = 0;
+        int from = 0;
+        if (list.size > size * GALLOP_RATIO) {
+            for (int i = 0; i < size && from < list.size; i++) {
+                int pos = Arrays.binarySearch(ids, from, list.size, candidates[i]);
+                if (pos >= 0) {
+                    candidates[found++] = candidates[i];
+                    from = pos + 1;
+                } else {
+                    from = -pos - 1;
+                }
+            }
+        } else {
+            for (int i = 0; i < size && from < list.size; i++) {
+                int c = candidates[i];
+                while (from < list.size && ids[from] < c) {
+                    from++;
+                }
+                if (from < list.size && ids[from] == c) {
+                    candidates[found++] = c;
+                    from++;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Chave do trigrama que começa na posição informada.
+     */
+    private static long trigram(String text, int i) {
+        return TRIGRAM | ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+    }
+
+    // ============================================ MÉTODOS PRIVADOS - SEGUNDO PLANO ============================================
+
+    /**
+     * Coloca o índice na fila da indexação em segundo plano, se houver itens por indexar.
+     */
+    private void scheduleBackground() {
+        if (background && !pending && indexed < count) {
+            pending = true;
+            PENDING.add(this);
+            if (!BACKGROUND.isRunning()) {
+                BACKGROUND.start();
+            }
+        }
+    }
+
+    /**
+     * Passo do timer: indexa um bloco de itens do primeiro índice da fila e o devolve ao fim da fila se ainda
+     * restarem itens por indexar.
+     */
+    private static void indexInBackground() {
+        WSearchIndex index = PENDING.poll();
+        if (index != null) {
+            if (index.indexPending(System.nanoTime() + BACKGROUND_BUDGET)) {
+                PENDING.add(index);
+            } else {
+                index.pending = false;
+            }
+        }
+        if (PENDING.isEmpty()) {
+            BACKGROUND.stop();
+        }
+    }
+
+    /**
+     * Indexa itens a partir de {@link #indexed} até o prazo. Cada item recebe a maior posição já registrada, então
+     * entra no fim das listas.
+     *
+     * @return true se ainda restarem itens por indexar
+     */
+    private boolean indexPending(long deadline) {
+        int done = 0;
+        while (indexed < count) {
+            postAll(indexed++, true);
+            if ((++done & 63) == 0 && System.nanoTime() - deadline > 0) {
+                break;
+            }
+        }
+        return indexed < count;
+    }
+
+    // ============================================ TIPOS INTERNOS ============================================
+
+    /**
+     * Lista crescente de posições de uma chave.
+     */
+    private static final class Postings {
+
+        /** Posições, em ordem crescente */
+        private int[] ids = new int[4];
+
+        /** Quantidade de posições */
+        private int size;
+
+        /**
+         * Registra a posição, ignorando repetições do mesmo item. Posições maiores que todas as registradas, o caso
+         * da indexação em blocos, entram no fim sem busca.
+         */
+        private void add(int pos) {
+            int i = size;
+            if (size > 0 && ids[size - 1] >= pos) {
+                i = Arrays.binarySearch(ids, 0, size, pos);
+                if (i >= 0) {
+                    return;
+                }
+                i = -i - 1;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, i, ids, i + 1, size - i);
+            ids[i] = pos;
+            size++;
+        }
+
+        /**
+         * Retira a posição, se registrada.
+         */
+        private void remove(int pos) {
+            int i = Arrays.binarySearch(ids, 0, size, pos);
+            if (i >= 0) {
+                System.arraycopy(ids, i + 1, ids, i, size - i - 1);
+                size--;
+            }
+        }
+
+        /**
+         * Retira as posições de {@code from} a {@code to} e soma {@code delta} às posições seguintes. Um intervalo
+         * vazio ({@code to < from}) apenas desloca as posições a partir de {@code from}.
+         */
+        private void cut(int from, int to, int delta) {
+            int start = Arrays.binarySearch(ids, 0, size, from);
+            if (start < 0) {
+                start = -start - 1;
+            }
+            int end = start;
+            while (end < size && ids[end] <= to) {
+                end++;
+            }
+            int kept = start;
+            for (int i = end; i < size; i++) {
+                ids[kept++] = ids[i] + delta;
+            }
+            size = kept;
+        }
+    }
+}
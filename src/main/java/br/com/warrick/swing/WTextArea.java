@@ -3,11 +3,16 @@ package br.com.warrick.swing;
 import java.awt.*;
 import java.awt.geom.*;
 import java.awt.event.*;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.concurrent.CompletableFuture;
 import javax.swing.*;
 import javax.swing.event.*;
 import javax.swing.border.EmptyBorder;
-import org.pushingpixels.trident.Timeline;
-import org.pushingpixels.trident.ease.Spline;
+import javax.swing.plaf.basic.BasicTextAreaUI;
+import javax.swing.text.Document;
+import javax.swing.text.Element;
+import javax.swing.text.View;
 
 /**
  * Componente de área de texto personalizado com suporte a animações, rótulo flutuante e validação.
@@ -111,6 +116,18 @@ public class WTextArea extends JTextArea {
      */
     protected static final int ERROR_MESSAGE_Y_OFFSET = -2;
 
+    /**
+     * Paleta de cores do tema compartilhada por todas as instâncias.
+     */
+    private static final WPalette PALETTE = WPalette.of(WTextArea.class);
+
+    /** Borda com os espaçamentos internos, compartilhada por todas as instâncias */
+    private static final EmptyBorder DEFAULT_BORDER =
+            new EmptyBorder(PADDING_TOP, PADDING_LEFT, PADDING_BOTTOM, PADDING_RIGHT);
+
+    /** Listener de foco e mouse compartilhado por todas as instâncias */
+    private static final Handler HANDLER = new Handler();
+
     // ============================================ ATRIBUTOS ============================================
 
     /**
@@ -174,20 +191,88 @@ public class WTextArea extends JTextArea {
     protected Color hoverColor = DEFAULT_HOVER_COLOR;
 
     /**
-     * Controlador de animação para transições suaves do rótulo.
+     * Slot de animação para transições suaves do rótulo.
+     */
+    protected final WAnimator.Slot labelAnimation =
+            WAnimator.slot(this, v -> animationLocation = v, ANIMATION_DURATION, WAnimator.SPLINE, this::labelBand);
+
+    /**
+     * Slot de animação para mensagens de erro e sucesso.
      */
-    protected Timeline timeline;
+    protected final WAnimator.Slot errorAnimation =
+            WAnimator.slot(this, this::setErrorAnimationLocation, ANIMATION_DURATION, WAnimator.SPLINE,
+                    WAnimator.NO_REPAINT);
 
     /**
-     * Controlador de animação para mensagens de erro e sucesso.
+     * Slot de animação da linha inferior de foco.
      */
-    protected Timeline errorTimeline;
+    protected final WAnimator.Slot lineAnimation =
+            WAnimator.slot(this, v -> lineAnimationProgress = v, ANIMATION_DURATION, null, this::lineBand);
+
+    /**
+     * Tarefa de limpeza da mensagem, agendada no {@link WMessageScheduler}.
+     */
+    private final Runnable limpezaMensagem = this::concluirLimpezaMensagem;
+
+    /**
+     * Camada de mensagens da janela, ou null enquanto o campo não estiver em uma janela.
+     */
+    private WMessageOverlay messageOverlay;
+
+    /**
+     * Layout de glifos do rótulo flutuante, reaproveitado entre os quadros da animação.
+     */
+    protected final WGlyphCache labelGlyphs = new WGlyphCache();
+
+    /**
+     * Margens reaproveitadas pela pintura do rótulo.
+     */
+    private final Insets labelInsets = new Insets(0, 0, 0, 0);
+
+    /** Validação assíncrona pelos validadores de {@link #addValidador(WValidator)}, criada no primeiro uso */
+    private WValidationPipeline<String> validacaoAsync;
 
     /**
      * JScrollPane que envolve o JTextArea.
      */
     protected JScrollPane scrollPane;
 
+    /**
+     * Indica se a área está no modo de documento grande ({@link #setLargeDocument(boolean)}).
+     */
+    private boolean largeDocument;
+
+    /**
+     * Listener de alteração de texto, transferido para o novo documento em {@link #setDocument(Document)}.
+     */
+    private final DocumentListener textoListener = new DocumentListener() {
+        @Override
+        public void insertUpdate(DocumentEvent e) {
+            updateLabelState(isFocusOwner());
+            limparErroSeNecessario();
+            agendarValidacao();
+        }
+
+        @Override
+        public void removeUpdate(DocumentEvent e) {
+            updateLabelState(isFocusOwner());
+            limparErroSeNecessario();
+            agendarValidacao();
+        }
+
+        @Override
+        public void changedUpdate(DocumentEvent e) {
+            updateLabelState(isFocusOwner());
+            limparErroSeNecessario();
+        }
+
+        private void limparErroSeNecessario() {
+            if (hasError && temConteudo()) {
+                limparErro();
+            }
+        }
+    };
+
     // ============================================ CONSTRUTORES ============================================
 
     /**
@@ -227,31 +312,53 @@ public class WTextArea extends JTextArea {
      * Obtém uma cor do tema FlatLaf ou retorna a cor padrão fornecida.
      */
     protected Color getThemeColor(String key, Color defaultColor) {
-        Color themeColor = UIManager.getColor(key);
-        return themeColor != null ? themeColor : defaultColor;
+        return PALETTE.get(key, defaultColor);
     }
 
     /**
      * Inicializa os estados iniciais das animações do campo.
      */
     private void initAnimation() {
-        animationLocation = getText().isEmpty() ? 0f : 1f;
-        showLabel = !getText().isEmpty();
+        animationLocation = getDocument().getLength() == 0 ? 0f : 1f;
+        showLabel = getDocument().getLength() > 0;
         errorAnimationLocation = 0f;
     }
 
+    /**
+     * Indica se a área contém algum caractere que não seja espaço em branco, sem copiar o texto quando o documento
+     * é um {@link WPlainDocument}.
+     */
+    private boolean temConteudo() {
+        Document doc = getDocument();
+        if (doc instanceof WPlainDocument) {
+            return ((WPlainDocument) doc).hasContent();
+        }
+        return !getText().trim().isEmpty();
+    }
+
+    /**
+     * Reinstala a UI se a UI atual não corresponder à quebra de linha e ao modo de documento grande.
+     */
+    private void updateWrappedUI() {
+        if ((getLineWrap() || largeDocument) != (getUI() instanceof WrappedTextAreaUI)) {
+            updateUI();
+        }
+    }
+
     /**
      * Configura as propriedades iniciais da área de texto.
      */
     private void setupField() {
+        // A quebra de linha troca a UI: vem antes das propriedades que a UI instalada poderia sobrescrever
+        setLineWrap(true);
+        setWrapStyleWord(true);
+
         // Configuração de borda e cores
-        setBorder(new EmptyBorder(PADDING_TOP, PADDING_LEFT, PADDING_BOTTOM, PADDING_RIGHT));
+        setBorder(DEFAULT_BORDER);
         setBackground(getThemeColor("WTextArea.bgColor", DEFAULT_BG_COLOR));
         setForeground(getThemeColor("WTextArea.textColor", DEFAULT_TEXT_COLOR));
         setCaretColor(getThemeColor("WTextArea.textColor", DEFAULT_TEXT_COLOR));
         setOpaque(false);
-        setLineWrap(true);
-        setWrapStyleWord(true);
 
         // Inicializa as cores customizáveis do tema
         lineColor = getThemeColor("WTextArea.lineColor", DEFAULT_LINE_COLOR);
@@ -261,64 +368,49 @@ public class WTextArea extends JTextArea {
         initAnimation();
         updateLabelState(isFocusOwner());
 
-        // Listener de foco
-        addFocusListener(new FocusListener() {
-            @Override
-            public void focusGained(FocusEvent e) {
-                updateLabelState(true);
-                animateLine(true);
-                repaint();
-            }
-
-            @Override
-            public void focusLost(FocusEvent e) {
-                updateLabelState(false);
-                animateLine(false);
-                repaint();
-            }
-        });
+        // Listeners de foco e mouse compartilhados
+        addFocusListener(HANDLER);
+        addMouseListener(HANDLER);
 
         // Listener de alteração de texto
-        getDocument().addDocumentListener(new DocumentListener() {
-            @Override
-            public void insertUpdate(DocumentEvent e) {
-                updateLabelState(isFocusOwner());
-                limparErroSeNecessario();
-            }
+        getDocument().addDocumentListener(textoListener);
 
-            @Override
-            public void removeUpdate(DocumentEvent e) {
-                updateLabelState(isFocusOwner());
-                limparErroSeNecessario();
-            }
+    }
 
-            @Override
-            public void changedUpdate(DocumentEvent e) {
-                updateLabelState(isFocusOwner());
-                limparErroSeNecessario();
-            }
+    /**
+     * Retorna o pipeline de validação assíncrona, criando-o no primeiro uso.
+     */
+    private WValidationPipeline<String> validacaoAsync() {
+        if (validacaoAsync == null) {
+            validacaoAsync = new WValidationPipeline<>(this::getText, this::aplicarValidacao);
+        }
+        return validacaoAsync;
+    }
 
-            private void limparErroSeNecessario() {
-                if (hasError && !getText().trim().isEmpty()) {
-                    limparErro();
-                }
-            }
-        });
-
-        // Listener de mouse
-        addMouseListener(new MouseAdapter() {
-            @Override
-            public void mouseEntered(MouseEvent me) {
-                mouseOver = true;
-                repaint();
-            }
+    /**
+     * Agenda a validação assíncrona após uma alteração, se houver validadores.
+     */
+    private void agendarValidacao() {
+        if (validacaoAsync != null) {
+            validacaoAsync.schedule();
+        }
+    }
 
-            @Override
-            public void mouseExited(MouseEvent me) {
-                mouseOver = false;
-                repaint();
-            }
-        });
+    /**
+     * Atualiza o rótulo e a linha de foco quando a área ganha ou perde o foco.
+     */
+    private void focoAlterado(boolean ganhou) {
+        updateLabelState(ganhou);
+        animateLine(ganhou);
+        repaint();
+    }
+
+    /**
+     * Atualiza o estado de hover quando o mouse entra ou sai da área.
+     */
+    private void mouseAlterado(boolean sobre) {
+        mouseOver = sobre;
+        repaint();
     }
 
     /**
@@ -327,12 +419,13 @@ public class WTextArea extends JTextArea {
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        Graphics2D g2 = (Graphics2D) g.create();
+        WGraphicsState state = WGraphicsState.save(g);
         try {
+            Graphics2D g2 = state.graphics();
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             paintComponents(g2);
         } finally {
-            g2.dispose();
+            state.restore();
         }
     }
 
@@ -341,18 +434,58 @@ public class WTextArea extends JTextArea {
      */
     @Override
     public void paint(Graphics g) {
+        long start = WMetrics.start();
         super.paint(g);
 
-        // Desenha a mensagem de erro/sucesso fora dos limites do componente
-        if (hasError && errorMessage != null && !errorMessage.isEmpty() && errorAnimationLocation > 0) {
-            Graphics2D g2 = (Graphics2D) g.create();
+        // Sem camada de mensagens (fora de uma janela), o próprio campo desenha a mensagem
+        if (messageOverlay == null && hasError && errorMessage != null && !errorMessage.isEmpty() && errorAnimationLocation > 0) {
+            WGraphicsState state = WGraphicsState.save(g);
             try {
+                Graphics2D g2 = state.graphics();
                 g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
                 paintExternalMessage(g2);
             } finally {
-                g2.dispose();
+                state.restore();
             }
         }
+        WMetrics.paint(this, start);
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        messageOverlay = WMessageOverlay.attach(this, this::paintOverlayMessage, this::messageBounds);
+        repaintMessage();
+    }
+
+    @Override
+    public void removeNotify() {
+        if (messageOverlay != null) {
+            messageOverlay.detach(this);
+            messageOverlay = null;
+        }
+        super.removeNotify();
+    }
+
+    /**
+     * Desenha a mensagem de erro/sucesso para a camada de mensagens, nas coordenadas do campo.
+     */
+    private void paintOverlayMessage(Graphics2D g2) {
+        if (hasError && errorMessage != null && !errorMessage.isEmpty() && errorAnimationLocation > 0) {
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            paintExternalMessage(g2);
+        }
+    }
+
+    /**
+     * Repinta a mensagem de erro/sucesso pela camada de mensagens, ou a faixa inferior do campo sem camada.
+     */
+    private void repaintMessage() {
+        if (messageOverlay != null) {
+            messageOverlay.repaintMessage(this);
+        } else {
+            WAnimator.repaint(this, this::messageBand);
+        }
     }
 
     /**
@@ -367,12 +500,10 @@ public class WTextArea extends JTextArea {
                 ? getThemeColor("WTextArea.successColor", SUCCESS_COLOR)
                 : getThemeColor("WTextArea.errorColor", ERROR_COLOR);
 
-        int alpha = (int) (255 * errorAnimationLocation);
-        g2.setColor(new Color(messageColor.getRed(), messageColor.getGreen(),
-                messageColor.getBlue(), alpha));
+        g2.setColor(WPaintCache.alpha(messageColor, errorAnimationLocation));
 
         Font originalFont = g2.getFont();
-        g2.setFont(originalFont.deriveFont(Font.PLAIN, 11f));
+        g2.setFont(WPaintCache.messageFont(originalFont));
 
         int erroY = getHeight() + ERROR_MESSAGE_Y_OFFSET + (int) (3 * (1 - errorAnimationLocation));
         g2.drawString(errorMessage, PADDING_LEFT, erroY);
@@ -381,17 +512,54 @@ public class WTextArea extends JTextArea {
     }
 
     /**
-     * Atualiza o estado do rótulo flutuante.
+     * Calcula a faixa ocupada pelo rótulo em todo o seu percurso, do repouso à posição flutuante.
      */
-    private void updateLabelState(boolean hasFocus) {
-        boolean shouldShow = hasFocus || !getText().trim().isEmpty();
+    private void labelBand(Rectangle r) {
+        if (labelGlyphs.getHeight() == 0) {
+            r.setBounds(0, 0, getWidth(), getHeight());
+            return;
+        }
+        double centerY = (PADDING_TOP - labelGlyphs.getHeight()) / 2 + labelGlyphs.getAscent() + 5;
+        double baseline = Math.max(centerY, LABEL_TOP_POSITION);
+        r.setBounds(0, 0, getWidth(), (int) Math.ceil(baseline + labelGlyphs.getDescent() * 1.04) + 2);
+    }
+
+    /**
+     * Calcula a faixa ocupada pela linha inferior.
+     */
+    private void lineBand(Rectangle r) {
+        r.setBounds(0, getHeight() - LINE_Y_OFFSET - LINE_HEIGHT / 2 - 1, getWidth(), LINE_HEIGHT + 2);
+    }
+
+    /**
+     * Calcula a faixa ocupada pela mensagem de erro/sucesso, incluindo o deslize de entrada.
+     */
+    private void messageBand(Rectangle r) {
+        int top = getHeight() + ERROR_MESSAGE_Y_OFFSET - getFontMetrics(WPaintCache.messageFont(getFont())).getAscent();
+        r.setBounds(0, top - 1, getWidth(), getHeight() - top + 1);
+    }
 
-        if (showLabel == shouldShow && (timeline == null || timeline.isDone())) {
+    /**
+     * Calcula a área exata da mensagem, incluindo o deslize de entrada; pode ultrapassar os limites do campo.
+     */
+    private void messageBounds(Rectangle r) {
+        if (errorMessage == null || errorMessage.isEmpty()) {
+            r.setBounds(0, 0, 0, 0);
             return;
         }
+        FontMetrics fm = getFontMetrics(WPaintCache.messageFont(getFont()));
+        int top = getHeight() + ERROR_MESSAGE_Y_OFFSET - fm.getAscent();
+        r.setBounds(PADDING_LEFT - 2, top - 1, fm.stringWidth(errorMessage) + 4, fm.getAscent() + fm.getDescent() + 5);
+    }
 
-        if (timeline != null && !timeline.isDone()) {
-            timeline.abort();
+    /**
+     * Atualiza o estado do rótulo flutuante.
+     */
+    private void updateLabelState(boolean hasFocus) {
+        boolean shouldShow = hasFocus || temConteudo();
+
+        if (showLabel == shouldShow) {
+            return;
         }
 
         showLabel = shouldShow;
@@ -404,42 +572,21 @@ public class WTextArea extends JTextArea {
      * Anima a transição do rótulo entre os estados de repouso e flutuante.
      */
     private void animateLabel(boolean show) {
-        timeline = new Timeline(this);
-        timeline.addPropertyToInterpolate("animationLocation",
-                animationLocation,
-                show ? 1f : 0f);
-        timeline.setEase(new Spline(0.5f));
-        timeline.setDuration(ANIMATION_DURATION);
-        timeline.play();
+        labelAnimation.animate(animationLocation, show ? 1f : 0f);
     }
 
     /**
      * Controla a animação de exibição/ocultação da mensagem de erro ou sucesso.
      */
     private void animateError(boolean show) {
-        if (errorTimeline != null && !errorTimeline.isDone()) {
-            errorTimeline.abort();
-        }
-
-        errorTimeline = new Timeline(this);
-        errorTimeline.addPropertyToInterpolate("errorAnimationLocation",
-                errorAnimationLocation,
-                show ? 1f : 0f);
-        errorTimeline.setEase(new Spline(0.5f));
-        errorTimeline.setDuration(ANIMATION_DURATION);
-        errorTimeline.play();
+        errorAnimation.animate(errorAnimationLocation, show ? 1f : 0f);
     }
 
     /**
      * Anima a linha inferior do campo para indicar o estado de foco ou hover.
      */
     private void animateLine(boolean show) {
-        Timeline lineTimeline = new Timeline(this);
-        lineTimeline.addPropertyToInterpolate("lineAnimationProgress",
-                lineAnimationProgress,
-                show ? 1f : 0f);
-        lineTimeline.setDuration(ANIMATION_DURATION);
-        lineTimeline.play();
+        lineAnimation.animate(lineAnimationProgress, show ? 1f : 0f);
     }
 
     // ============================================ MÉTODOS DE PINTURA ============================================
@@ -485,7 +632,7 @@ public class WTextArea extends JTextArea {
             return;
         }
 
-        Insets in = getInsets();
+        Insets in = getInsets(labelInsets);
 
         // Define cor do rótulo baseada no estado
         Color labelColor;
@@ -495,18 +642,17 @@ public class WTextArea extends JTextArea {
                     : getThemeColor("WTextArea.errorColor", ERROR_COLOR);
         } else if (isFocusOwner()) {
             labelColor = lineColor;
-        } else if (!getText().isEmpty()) {
+        } else if (getDocument().getLength() > 0) {
             labelColor = getThemeColor("WTextArea.textColor", DEFAULT_TEXT_COLOR);
         } else {
             labelColor = getThemeColor("WTextArea.hintColor", DEFAULT_HINT_COLOR);
         }
         g2.setColor(labelColor);
 
-        FontMetrics fm = g2.getFontMetrics();
-        Rectangle2D textBounds = fm.getStringBounds(labelText, g2);
+        labelGlyphs.update(g2, labelText);
 
         // Calcula posições com animação
-        double centerY = (PADDING_TOP - textBounds.getHeight()) / 2 + fm.getAscent() + 5;
+        double centerY = (PADDING_TOP - labelGlyphs.getHeight()) / 2 + labelGlyphs.getAscent() + 5;
         double topY = LABEL_TOP_POSITION;
         double currentY = centerY - ((centerY - topY) * animationLocation);
 
@@ -516,14 +662,7 @@ public class WTextArea extends JTextArea {
 
         float scale = 1.0f + (0.04f * animationLocation);
 
-        Graphics2D g2d = (Graphics2D) g2.create();
-        try {
-            g2d.translate(currentX, 0);
-            g2d.scale(scale, scale);
-            g2d.drawString(labelText, 0, (float) (currentY / scale));
-        } finally {
-            g2d.dispose();
-        }
+        labelGlyphs.draw(g2, currentX, currentY, scale);
     }
 
     // ========================================= MÉTODOS PRIVADOS DE VALIDAÇÃO =========================================
@@ -536,7 +675,7 @@ public class WTextArea extends JTextArea {
             return true;
         }
 
-        if (getText().trim().isEmpty()) {
+        if (!temConteudo()) {
             if (labelText != null && !labelText.trim().isEmpty()) {
                 String rotulo = labelText.trim();
                 if (rotulo.endsWith(":") || rotulo.endsWith(": ")) {
@@ -558,6 +697,7 @@ public class WTextArea extends JTextArea {
      * Define uma mensagem de feedback (erro ou sucesso).
      */
     public void setMensagem(String mensagem, boolean sucesso) {
+        WMessageScheduler.cancel(this);
         this.errorMessage = mensagem;
         this.isSuccessMessage = sucesso;
         this.hasError = !sucesso;
@@ -565,6 +705,7 @@ public class WTextArea extends JTextArea {
         updateLabelState(isFocusOwner());
         animateError(true);
         repaint();
+        repaintMessage();
     }
 
     /**
@@ -589,6 +730,62 @@ public class WTextArea extends JTextArea {
         return false;
     }
 
+    /**
+     * Registra um validador assíncrono, executado fora da EDT a cada alteração do campo.
+     * O resultado é exibido na EDT apenas se o campo não tiver mudado desde o início da validação.
+     */
+    public void addValidador(WValidator<? super String> validador) {
+        validacaoAsync().add(validador);
+    }
+
+    /**
+     * Remove um validador assíncrono.
+     */
+    public void removeValidador(WValidator<? super String> validador) {
+        if (validacaoAsync != null) {
+            validacaoAsync.remove(validador);
+        }
+    }
+
+    /**
+     * Define o atraso, em milissegundos, entre a última alteração e o início da validação assíncrona.
+     */
+    public void setAtrasoValidacao(int atraso) {
+        validacaoAsync().setDebounce(atraso);
+    }
+
+    public int getAtrasoValidacao() {
+        return validacaoAsync != null ? validacaoAsync.getDebounce() : WValidationPipeline.DEFAULT_DEBOUNCE;
+    }
+
+    /**
+     * Valida o campo obrigatório e executa imediatamente os validadores assíncronos.
+     *
+     * @return Futuro concluído na EDT com true se o campo for válido
+     */
+    public CompletableFuture<Boolean> validarAsync() {
+        if (!validar()) {
+            return CompletableFuture.completedFuture(false);
+        }
+        if (validacaoAsync == null) {
+            return CompletableFuture.completedFuture(true);
+        }
+        return validacaoAsync.validateNow().thenApply(WValidationResult::isValid);
+    }
+
+    /**
+     * Aplica no campo o resultado de uma validação assíncrona.
+     */
+    private void aplicarValidacao(WValidationResult resultado) {
+        if (!resultado.isValid()) {
+            mostrarErro(resultado.getMensagem());
+        } else if (resultado.getMensagem() != null) {
+            mostrarSucesso(resultado.getMensagem());
+        } else {
+            limparMensagem();
+        }
+    }
+
     /**
      * Exibe uma mensagem de erro estilizada.
      */
@@ -604,24 +801,21 @@ public class WTextArea extends JTextArea {
             return;
         }
 
-        if (errorTimeline != null && !errorTimeline.isDone()) {
-            errorTimeline.abort();
-        }
-
         animateError(false);
 
-        new Thread(() -> {
-            try {
-                Thread.sleep(ANIMATION_DURATION);
-                this.hasError = false;
-                this.errorMessage = "";
-                this.isSuccessMessage = false;
-                updateLabelState(isFocusOwner());
-                repaint();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
+        WMessageScheduler.schedule(this, limpezaMensagem, WAnimator.duration(ANIMATION_DURATION));
+    }
+
+    /**
+     * Conclui a limpeza da mensagem após a animação de saída.
+     */
+    private void concluirLimpezaMensagem() {
+        this.hasError = false;
+        this.errorMessage = "";
+        this.isSuccessMessage = false;
+        updateLabelState(isFocusOwner());
+        repaint();
+        repaintMessage();
     }
 
     /**
@@ -634,17 +828,103 @@ public class WTextArea extends JTextArea {
 
     // ============================================ MÉTODOS DE CONFIGURAÇÃO ============================================
 
+    /**
+     * Cria o documento padrão da área de texto, que acompanha incrementalmente se há conteúdo.
+     */
+    @Override
+    protected Document createDefaultModel() {
+        return new WPlainDocument();
+    }
+
+    /**
+     * Com quebra de linha ou no modo de documento grande, instala a UI com quebra de linha preguiçosa
+     * ({@link WWrappedView}); as cores e a fonte continuam vindo do LookAndFeel, e a borda e o fundo são pintados
+     * pelo próprio componente. Nos demais casos mantém a UI do LookAndFeel, com o cursor, o foco e o estado
+     * desabilitado dele.
+     */
+    @Override
+    public void updateUI() {
+        if (getLineWrap() || largeDocument) {
+            setUI(new WrappedTextAreaUI());
+        } else {
+            super.updateUI();
+        }
+    }
+
+    /**
+     * Liga ou desliga a quebra de linha, trocando a UI quando a troca muda a UI necessária (ver
+     * {@link #updateUI()}).
+     */
+    @Override
+    public void setLineWrap(boolean wrap) {
+        super.setLineWrap(wrap);
+        updateWrappedUI();
+    }
+
+    /**
+     * Troca o documento, transferindo para ele o listener de alteração de texto.
+     */
+    @Override
+    public void setDocument(Document doc) {
+        Document old = getDocument();
+        super.setDocument(doc);
+        // Chamado pelo construtor de JTextArea antes da criação do listener
+        if (textoListener != null && old != doc) {
+            if (old != null) {
+                old.removeDocumentListener(textoListener);
+            }
+            doc.addDocumentListener(textoListener);
+            updateLabelState(isFocusOwner());
+        }
+    }
+
+    /**
+     * Ativa ou desativa o modo de documento grande, para textos de vários megabytes.
+     *
+     * <p>
+     * No modo de documento grande o texto fica em um {@link WLargeDocument}, em tabela de peças, em vez de um
+     * {@link javax.swing.text.GapContent}. A quebra de linha é feita pelo {@link WWrappedView} nos dois modos. O
+     * texto atual é transferido para o novo documento.</p>
+     *
+     * @param largeDocument true para ativar o modo de documento grande
+     */
+    public void setLargeDocument(boolean largeDocument) {
+        if (this.largeDocument == largeDocument) {
+            return;
+        }
+        String text = getText();
+        this.largeDocument = largeDocument;
+        setDocument(largeDocument ? new WLargeDocument() : createDefaultModel());
+        setText(text);
+        updateWrappedUI();
+        firePropertyChange("largeDocument", !largeDocument, largeDocument);
+    }
+
+    /**
+     * Carrega o texto de um {@code Reader} no modo de documento grande, que é ativado se necessário. O texto é
+     * adotado pelo documento sem cópias intermediárias e o cursor volta ao início. O leitor não é fechado.
+     *
+     * @param reader Origem do texto
+     * @throws IOException Se a leitura falhar
+     */
+    public void carregar(Reader reader) throws IOException {
+        setLargeDocument(true);
+        ((WLargeDocument) getDocument()).load(reader);
+        setCaretPosition(0);
+    }
+
     @Override
     public void setText(String text) {
         super.setText(text);
         updateLabelState(isFocusOwner());
-        if (hasError && text != null && !text.trim().isEmpty()) {
+        if (hasError && temConteudo()) {
             limparErro();
         }
     }
 
     public void setLabelText(String labelText) {
         this.labelText = labelText;
+        labelGlyphs.invalidate();
         repaint();
     }
 
@@ -666,22 +946,22 @@ public class WTextArea extends JTextArea {
 
     public void setAnimationLocation(float animationLocation) {
         this.animationLocation = animationLocation;
-        repaint();
+        WAnimator.repaint(this, this::labelBand);
     }
 
     public void setErrorAnimationLocation(float errorAnimationLocation) {
         this.errorAnimationLocation = errorAnimationLocation;
-        repaint();
+        repaintMessage();
     }
 
     public void setBorderAnimationProgress(float lineAnimationProgress) {
         this.lineAnimationProgress = lineAnimationProgress;
-        repaint();
+        WAnimator.repaint(this, this::lineBand);
     }
 
     public void setLineAnimationProgress(float lineAnimationProgress) {
         this.lineAnimationProgress = lineAnimationProgress;
-        repaint();
+        WAnimator.repaint(this, this::lineBand);
     }
 
     // ============================================ MÉTODOS DE ACESSO ============================================
@@ -718,6 +998,10 @@ public class WTextArea extends JTextArea {
         return obrigatorio;
     }
 
+    public boolean isLargeDocument() {
+        return largeDocument;
+    }
+
     public boolean hasError() {
         return hasError;
     }
@@ -725,4 +1009,73 @@ public class WTextArea extends JTextArea {
     public String getErrorMessage() {
         return errorMessage;
     }
-}
\ No newline at end of file
+
+    // ============================================ CLASSE INTERNA - UI COM QUEBRA DE LINHA ============================================
+
+    /**
+     * UI da área de texto: com quebra de linha, o texto é exibido por um {@link WWrappedView} em vez do
+     * {@link javax.swing.text.WrappedPlainView}, que cria uma view por linha e quebra todas elas a cada mudança de
+     * largura.
+     *
+     * <p>
+     * As quebras já calculadas ficam no cache de layouts do documento, que sobrevive às views recriadas pelo Swing
+     * quando a fonte, a quebra por palavra ou o documento mudam.</p>
+     */
+    private static final class WrappedTextAreaUI extends BasicTextAreaUI {
+
+        /** Layouts do documento atual */
+        private WWrappedView.LayoutCache cache;
+
+        @Override
+        public View create(Element elem) {
+            JTextArea area = (JTextArea) getComponent();
+            // Texto bidirecional continua com as views do Swing
+            if (area.getLineWrap() && !Boolean.TRUE.equals(elem.getDocument().getProperty("i18n"))) {
+                if (cache == null || cache.getDocument() != elem.getDocument()) {
+                    cache = new WWrappedView.LayoutCache(elem.getDocument());
+                }
+                return new WWrappedView(elem, area.getWrapStyleWord(), cache);
+            }
+            // Sem uma view para acompanhar as edições, os layouts guardados deixariam de valer
+            cache = null;
+            return super.create(elem);
+        }
+    }
+
+    // ============================================ CLASSE INTERNA - LISTENER COMPARTILHADO ============================================
+
+    /**
+     * Listener de foco e mouse sem estado: a área de texto vem da origem do evento, então uma única instância atende
+     * a todos os componentes.
+     */
+    private static final class Handler extends MouseAdapter implements FocusListener {
+
+        @Override
+        public void focusGained(FocusEvent e) {
+            long start = WMetrics.start();
+            ((WTextArea) e.getComponent()).focoAlterado(true);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void focusLost(FocusEvent e) {
+            long start = WMetrics.start();
+            ((WTextArea) e.getComponent()).focoAlterado(false);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void mouseEntered(MouseEvent e) {
+            long start = WMetrics.start();
+            ((WTextArea) e.getComponent()).mouseAlterado(true);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void mouseExited(MouseEvent e) {
+            long start = WMetrics.start();
+            ((WTextArea) e.getComponent()).mouseAlterado(false);
+            WMetrics.listener(e.getComponent(), start);
+        }
+    }
+}
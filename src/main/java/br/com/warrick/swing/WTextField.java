@@ -3,11 +3,11 @@ package br.com.warrick.swing;
 import java.awt.*;
 import java.awt.geom.*;
 import java.awt.event.*;
+import java.util.concurrent.CompletableFuture;
 import javax.swing.*;
 import javax.swing.event.*;
 import javax.swing.border.EmptyBorder;
-import org.pushingpixels.trident.Timeline;
-import org.pushingpixels.trident.ease.Spline;
+import javax.swing.text.Document;
 
 /**
  * Componente de campo de texto personalizado com suporte a animações, rótulo flutuante e validação.
@@ -177,6 +177,33 @@ public class WTextField extends JTextField {
      */
     protected static final int ERROR_MESSAGE_Y_OFFSET = -2;
 
+    /**
+     * Paleta de cores do tema compartilhada por todas as instâncias. Evita consultas ao {@link UIManager} durante a
+     * pintura.
+     *
+     * @see #getThemeColor(String, Color)
+     * @since 3.3.0
+     */
+    private static final WPalette PALETTE = WPalette.of(WTextField.class);
+
+    /**
+     * Borda com os espaçamentos internos do campo, compartilhada por todas as instâncias.
+     *
+     * @see #PADDING_TOP
+     * @since 3.3.0
+     */
+    private static final EmptyBorder DEFAULT_BORDER =
+            new EmptyBorder(PADDING_TOP, PADDING_LEFT, PADDING_BOTTOM, PADDING_RIGHT);
+
+    /**
+     * Listener de foco e mouse compartilhado por todas as instâncias. O campo é obtido da origem de cada evento, então
+     * um único objeto atende a todas as telas, em vez de um listener anônimo por campo.
+     *
+     * @see Handler
+     * @since 3.3.0
+     */
+    private static final Handler HANDLER = new Handler();
+
     // ============================================ ATRIBUTOS ============================================
     /**
      * Progresso atual da animação da linha (0.0 a 1.0).
@@ -281,23 +308,76 @@ public class WTextField extends JTextField {
     protected Color hoverColor = DEFAULT_HOVER_COLOR;
 
     /**
-     * Controlador de animação para transições suaves do rótulo e outros elementos. Utiliza a biblioteca Trident para
-     * animações fluidas.
+     * Slot de animação do rótulo flutuante. Reaproveitado a cada transição e conduzido pelo pulso compartilhado do
+     * {@link WAnimator}; cada quadro repinta apenas a faixa do rótulo.
      *
-     * @see org.pushingpixels.trident.Timeline
-     * @since 1.0.0
+     * @see #animateLabel(boolean)
+     * @see #labelBand(Rectangle)
+     * @since 3.3.0
      */
-    protected Timeline timeline;
+    protected final WAnimator.Slot labelAnimation =
+            WAnimator.slot(this, v -> animationLocation = v, ANIMATION_DURATION, WAnimator.SPLINE, this::labelBand);
 
     /**
-     * Controlador de animação para mensagens de erro e sucesso. Gerencia as transições de exibição e ocultação das
-     * mensagens.
+     * Slot de animação das mensagens de erro e sucesso. Gerencia as transições de exibição e ocultação das
+     * mensagens; cada quadro repinta apenas a área da mensagem.
      *
-     * @see org.pushingpixels.trident.Timeline
      * @see #animateError(boolean)
-     * @since 1.0.0
+     * @see #repaintMessage()
+     * @since 3.3.0
      */
-    protected Timeline errorTimeline;
+    protected final WAnimator.Slot errorAnimation =
+            WAnimator.slot(this, this::setErrorAnimationLocation, ANIMATION_DURATION, WAnimator.SPLINE,
+                    WAnimator.NO_REPAINT);
+
+    /**
+     * Slot de animação da linha inferior de foco; cada quadro repinta apenas a faixa da linha.
+     *
+     * @see #animateLine(boolean)
+     * @see #lineBand(Rectangle)
+     * @since 3.3.0
+     */
+    protected final WAnimator.Slot lineAnimation =
+            WAnimator.slot(this, v -> lineAnimationProgress = v, ANIMATION_DURATION, null, this::lineBand);
+
+    /**
+     * Tarefa de limpeza da mensagem, reaproveitada a cada chamada de {@link #limparMensagem()}.
+     *
+     * @see WMessageScheduler
+     * @since 3.3.0
+     */
+    private final Runnable limpezaMensagem = this::concluirLimpezaMensagem;
+
+    /**
+     * Camada de mensagens da janela em que o campo está, ou null enquanto o campo não estiver em uma janela. Com a
+     * camada, a mensagem de erro/sucesso é desenhada por ela e não mais pelo próprio {@link #paint(Graphics)}.
+     *
+     * @see WMessageOverlay
+     * @since 3.3.0
+     */
+    private WMessageOverlay messageOverlay;
+
+    /**
+     * Layout de glifos do rótulo flutuante, reaproveitado entre os quadros da animação.
+     *
+     * @see #paintLabel(Graphics2D)
+     * @since 3.3.0
+     */
+    protected final WGlyphCache labelGlyphs = new WGlyphCache();
+
+    /**
+     * Margens reaproveitadas pela pintura do rótulo, evitando alocar um {@link Insets} a cada quadro.
+     */
+    private final Insets labelInsets = new Insets(0, 0, 0, 0);
+
+    /**
+     * Validação assíncrona do texto pelos validadores registrados em {@link #addValidador(WValidator)}. Criada apenas
+     * no primeiro uso, pois a maioria dos campos não tem validadores assíncronos.
+     *
+     * @see #validacaoAsync()
+     * @since 3.3.0
+     */
+    private WValidationPipeline<String> validacaoAsync;
 
     /**
      * Indica se a cor da linha foi definida manualmente (via IDE ou código).
@@ -359,18 +439,18 @@ public class WTextField extends JTextField {
      *
      * <p>
      * Este método é usado internamente para permitir a personalização das cores através do sistema de temas do FlatLaf,
-     * mantendo valores padrão quando o tema não define uma cor específica.</p>
+     * mantendo valores padrão quando o tema não define uma cor específica. A consulta é feita uma única vez por
+     * chave através da {@link WPalette} da classe, que é invalidada quando o LookAndFeel muda.</p>
      *
      * @param key Chave da propriedade no tema (ex: "WTextField.lineColor")
      * @param defaultColor Cor padrão que será retornada se a propriedade não existir
      * @return Cor definida no tema ou a cor padrão fornecida
      *
-     * @see UIManager#getColor(Object)
+     * @see WPalette#get(String, Color)
      * @since 1.0.0
      */
     protected Color getThemeColor(String key, Color defaultColor) {
-        Color themeColor = UIManager.getColor(key);
-        return themeColor != null ? themeColor : defaultColor;
+        return PALETTE.get(key, defaultColor);
     }
 
     /**
@@ -393,11 +473,80 @@ public class WTextField extends JTextField {
      * @since 1.0.0
      */
     private void initAnimation() {
-        animationLocation = getText().isEmpty() ? 0f : 1f;
-        showLabel = !getText().isEmpty();
+        animationLocation = getDocument().getLength() == 0 ? 0f : 1f;
+        showLabel = getDocument().getLength() > 0;
         errorAnimationLocation = 0f;
     }
 
+    /**
+     * Indica se o campo contém algum caractere que não seja espaço em branco.
+     * <p>
+     * Com o documento padrão ({@link WPlainDocument}) a resposta vem da contagem mantida incrementalmente a cada
+     * edição, sem copiar o texto. Para documentos definidos externamente, recorre a {@code getText().trim()}.
+     * </p>
+     *
+     * @return true se houver conteúdo além de espaços em branco
+     * @see WPlainDocument#hasContent()
+     * @since 3.3.0
+     */
+    private boolean temConteudo() {
+        Document doc = getDocument();
+        if (doc instanceof WPlainDocument) {
+            return ((WPlainDocument) doc).hasContent();
+        }
+        return !getText().trim().isEmpty();
+    }
+
+    /**
+     * Atualiza o rótulo e a linha de foco quando o campo ganha ou perde o foco.
+     *
+     * @param ganhou true se o campo ganhou o foco
+     * @see Handler#focusGained(FocusEvent)
+     * @since 3.3.0
+     */
+    private void focoAlterado(boolean ganhou) {
+        updateLabelState(ganhou);
+        animateLine(ganhou);
+        repaint();
+    }
+
+    /**
+     * Atualiza o estado de hover quando o mouse entra ou sai do campo.
+     *
+     * @param sobre true se o mouse está sobre o campo
+     * @see #mouseOver
+     * @see Handler#mouseEntered(MouseEvent)
+     * @since 3.3.0
+     */
+    private void mouseAlterado(boolean sobre) {
+        mouseOver = sobre;
+        repaint();
+    }
+
+    /**
+     * Retorna o pipeline de validação assíncrona, criando-o no primeiro uso.
+     *
+     * @return Pipeline de validação do campo
+     * @since 3.3.0
+     */
+    private WValidationPipeline<String> validacaoAsync() {
+        if (validacaoAsync == null) {
+            validacaoAsync = new WValidationPipeline<>(this::getText, this::aplicarValidacao);
+        }
+        return validacaoAsync;
+    }
+
+    /**
+     * Agenda a validação assíncrona após uma edição, se houver validadores.
+     *
+     * @since 3.3.0
+     */
+    private void agendarValidacao() {
+        if (validacaoAsync != null) {
+            validacaoAsync.schedule();
+        }
+    }
+
     /**
      * Configura as propriedades iniciais do campo de texto. Este método é chamado pelo construtor para configurar:
      * <ul>
@@ -414,7 +563,7 @@ public class WTextField extends JTextField {
      */
     private void setupField() {
         // Configuração de borda e cores (usando tema se disponível)
-        setBorder(new EmptyBorder(PADDING_TOP, PADDING_LEFT, PADDING_BOTTOM, PADDING_RIGHT));
+        setBorder(DEFAULT_BORDER);
         setBackground(getThemeColor("WTextField.bgColor", DEFAULT_BG_COLOR));
         setForeground(getThemeColor("WTextField.textColor", DEFAULT_TEXT_COLOR));
         setCaretColor(getThemeColor("WTextField.textColor", DEFAULT_TEXT_COLOR));
@@ -430,91 +579,14 @@ public class WTextField extends JTextField {
         // Garante que o estado inicial do rótulo esteja correto
         updateLabelState(isFocusOwner());
 
-        // Listener de foco
-        addFocusListener(new FocusListener() {
-            @Override
-            public void focusGained(FocusEvent e) {
-                updateLabelState(true);
-                animateLine(true);
-                repaint();
-            }
-
-            @Override
-            public void focusLost(FocusEvent e) {
-                updateLabelState(false);
-                animateLine(false);
-                repaint();
-            }
-        });
-
-        // Listener de alteração de texto
-        getDocument().addDocumentListener(new DocumentListener() {
-            @Override
-            public void insertUpdate(DocumentEvent e) {
-                updateLabelState(isFocusOwner());
-            }
-
-            @Override
-            public void removeUpdate(DocumentEvent e) {
-                updateLabelState(isFocusOwner());
-            }
-
-            @Override
-            public void changedUpdate(DocumentEvent e) {
-                updateLabelState(isFocusOwner());
-            }
-        });
-
-        // Listener de mouse
-        addMouseListener(new MouseAdapter() {
-            /**
-             * Chamado quando o mouse entra na área do componente. Atualiza o estado de hover e solicita repintura para
-             * feedback visual.
-             *
-             * @param me Evento de mouse que contém informações sobre a ação
-             * @see #mouseOver
-             * @since 1.0.0
-             */
-            @Override
-            public void mouseEntered(MouseEvent me) {
-                mouseOver = true;
-                repaint();
-            }
-
-            /**
-             * Chamado quando o mouse sai da área do componente. Atualiza o estado de hover e solicita repintura para
-             * remover o feedback visual.
-             *
-             * @param me Evento de mouse que contém informações sobre a ação
-             * @see #mouseOver
-             * @see #repaint()
-             * @since 1.0.0
-             */
-            @Override
-            public void mouseExited(MouseEvent me) {
-                mouseOver = false;
-                repaint();
-            }
+        // Listeners de foco e mouse compartilhados
+        addFocusListener(HANDLER);
+        addMouseListener(HANDLER);
 
-            /**
-             * Chamado quando o campo perde o foco. Ajusta as animações de acordo com o estado do campo.
-             *
-             * @param fe Evento de foco que contém informações sobre a mudança
-             * @since 1.0.0
-             */
-            public void focusLost(FocusEvent fe) {
-                if (getText().isEmpty()) {
-                    animateLabel(false);
-                }
-                animateLine(false);
-                repaint();
-            }
-        });
-
-        // Listener para limpar erros durante a digitação
+        // Listener de alteração de texto: atualiza o rótulo e limpa erros durante a digitação
         getDocument().addDocumentListener(new DocumentListener() {
             /**
-             * Chamado quando texto é inserido no campo. Limpa mensagens de erro ativas, se houver.
+             * Chamado quando texto é inserido no campo. Atualiza o rótulo e limpa mensagens de erro ativas, se houver.
              *
              * @param e Evento de documento contendo informações sobre a alteração
              * @see #limparErroSeNecessario()
@@ -522,11 +594,13 @@ public class WTextField extends JTextField {
              */
             @Override
             public void insertUpdate(DocumentEvent e) {
+                updateLabelState(isFocusOwner());
                 limparErroSeNecessario();
+                agendarValidacao();
             }
 
             /**
-             * Chamado quando texto é removido do campo. Limpa mensagens de erro ativas, se houver.
+             * Chamado quando texto é removido do campo. Atualiza o rótulo e limpa mensagens de erro ativas, se houver.
              *
              * @param e Evento de documento contendo informações sobre a alteração
              * @see #limparErroSeNecessario()
@@ -534,11 +608,14 @@ public class WTextField extends JTextField {
              */
             @Override
             public void removeUpdate(DocumentEvent e) {
+                updateLabelState(isFocusOwner());
                 limparErroSeNecessario();
+                agendarValidacao();
             }
 
             /**
-             * Chamado quando atributos do texto são alterados. Limpa mensagens de erro ativas, se houver.
+             * Chamado quando atributos do texto são alterados. Atualiza o rótulo e limpa mensagens de erro ativas, se
+             * houver.
              *
              * @param e Evento de documento contendo informações sobre a alteração
              * @see #limparErroSeNecessario()
@@ -546,6 +623,7 @@ public class WTextField extends JTextField {
              */
             @Override
             public void changedUpdate(DocumentEvent e) {
+                updateLabelState(isFocusOwner());
                 limparErroSeNecessario();
             }
 
@@ -556,7 +634,7 @@ public class WTextField extends JTextField {
              * @since 1.0.0
              */
             private void limparErroSeNecessario() {
-                if (hasError && !getText().trim().isEmpty()) {
+                if (hasError && temConteudo()) {
                     limparErro();
                 }
             }
@@ -591,12 +669,13 @@ public class WTextField extends JTextField {
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
-        Graphics2D g2 = (Graphics2D) g.create();
+        WGraphicsState state = WGraphicsState.save(g);
         try {
+            Graphics2D g2 = state.graphics();
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             paintComponents(g2);
         } finally {
-            g2.dispose();
+            state.restore();
         }
     }
 
@@ -613,27 +692,89 @@ public class WTextField extends JTextField {
      *
      * <p>
      * Nota: A mensagem de erro/sucesso é desenhada em uma posição calculada com base no tamanho do componente e no
-     * tamanho da fonte.</p>
+     * tamanho da fonte. Quando o campo está em uma janela, a mensagem é desenhada pela {@link WMessageOverlay} da
+     * janela e este método pinta apenas o campo.</p>
      *
      * @param g O contexto gráfico no qual pintar
      * @see #paintExternalMessage(Graphics2D)
+     * @see WMessageOverlay
      * @see #paintComponent(Graphics)
      * @since 1.0.0
      */
     @Override
     public void paint(Graphics g) {
+        long start = WMetrics.start();
         super.paint(g);
 
-        // Desenha a mensagem de erro/sucesso fora dos limites do componente
-        if (hasError && errorMessage != null && !errorMessage.isEmpty() && errorAnimationLocation > 0) {
-            Graphics2D g2 = (Graphics2D) g.create();
+        // Sem camada de mensagens (fora de uma janela), o próprio campo desenha a mensagem
+        if (messageOverlay == null && hasError && errorMessage != null && !errorMessage.isEmpty() && errorAnimationLocation > 0) {
+            WGraphicsState state = WGraphicsState.save(g);
             try {
+                Graphics2D g2 = state.graphics();
                 g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
                 paintExternalMessage(g2);
             } finally {
-                g2.dispose();
+                state.restore();
             }
         }
+        WMetrics.paint(this, start);
+    }
+
+    /**
+     * Registra o campo na camada de mensagens da janela ao ser adicionado à hierarquia.
+     *
+     * @see WMessageOverlay#attach(JComponent, WMessageOverlay.Painter, WAnimator.Region)
+     * @since 3.3.0
+     */
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        messageOverlay = WMessageOverlay.attach(this, this::paintOverlayMessage, this::messageBounds);
+        repaintMessage();
+    }
+
+    /**
+     * Remove o campo da camada de mensagens ao ser retirado da hierarquia.
+     *
+     * @see WMessageOverlay#detach(JComponent)
+     * @since 3.3.0
+     */
+    @Override
+    public void removeNotify() {
+        if (messageOverlay != null) {
+            messageOverlay.detach(this);
+            messageOverlay = null;
+        }
+        super.removeNotify();
+    }
+
+    /**
+     * Desenha a mensagem de erro/sucesso para a camada de mensagens, nas coordenadas do campo.
+     *
+     * @param g2 Contexto gráfico fornecido pela camada
+     * @see WMessageOverlay
+     * @since 3.3.0
+     */
+    private void paintOverlayMessage(Graphics2D g2) {
+        if (hasError && errorMessage != null && !errorMessage.isEmpty() && errorAnimationLocation > 0) {
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            paintExternalMessage(g2);
+        }
+    }
+
+    /**
+     * Repinta a mensagem de erro/sucesso: pela camada de mensagens, ou a faixa inferior do campo quando não há
+     * camada.
+     *
+     * @see WMessageOverlay#repaintMessage(JComponent)
+     * @since 3.3.0
+     */
+    private void repaintMessage() {
+        if (messageOverlay != null) {
+            messageOverlay.repaintMessage(this);
+        } else {
+            WAnimator.repaint(this, this::messageBand);
+        }
     }
 
     /**
@@ -675,12 +816,10 @@ public class WTextField extends JTextField {
                 : getThemeColor("WTextField.errorColor", ERROR_COLOR);
 
         // Aplica transparência baseada na animação
-        int alpha = (int) (255 * errorAnimationLocation);
-        g2.setColor(new Color(messageColor.getRed(), messageColor.getGreen(),
-                messageColor.getBlue(), alpha));
+        g2.setColor(WPaintCache.alpha(messageColor, errorAnimationLocation));
 
         Font originalFont = g2.getFont();
-        g2.setFont(originalFont.deriveFont(Font.PLAIN, 11f));
+        g2.setFont(WPaintCache.messageFont(originalFont));
 
         int erroY = getHeight() + ERROR_MESSAGE_Y_OFFSET + (int) (3 * (1 - errorAnimationLocation));
         g2.drawString(errorMessage, PADDING_LEFT, erroY);
@@ -699,26 +838,22 @@ public class WTextField extends JTextField {
      * </ul>
      * <p>
      * O método gerencia a animação do rótulo, garantindo transições suaves entre os estados.
-     * Se uma animação estiver em andamento, ela será interrompida antes de iniciar uma nova.
+     * Se uma animação estiver em andamento, ela é redirecionada para o novo estado a partir da posição atual.
      * </p>
      *
      * @param hasFocus Indica se o campo atualmente tem o foco
      * @see #animateLabel(boolean)
      * @see #showLabel
-     * @see #timeline
+     * @see #labelAnimation
      * @since 1.0.0
      */
     private void updateLabelState(boolean hasFocus) {
-        boolean shouldShow = hasFocus || !getText().trim().isEmpty();
+        boolean shouldShow = hasFocus || temConteudo();
 
-        if (showLabel == shouldShow && (timeline == null || timeline.isDone())) {
+        if (showLabel == shouldShow) {
             return;
         }
 
-        if (timeline != null && !timeline.isDone()) {
-            timeline.abort();
-        }
-
         showLabel = shouldShow;
         animateLabel(showLabel);
     }
@@ -727,7 +862,7 @@ public class WTextField extends JTextField {
     /**
      * Anima a transição do rótulo entre os estados de repouso e flutuante.
      * <p>
-     * Este método utiliza a biblioteca Trident para criar uma animação suave que move o rótulo
+     * Este método utiliza o {@link WAnimator} para criar uma animação suave que move o rótulo
      * entre as posições de repouso (quando o campo está vazio) e flutuante (quando o campo
      * tem foco ou conteúdo).
      * </p>
@@ -740,26 +875,20 @@ public class WTextField extends JTextField {
      * </ul>
      * </p>
      * <p>
-     * A animação é interrompida se já estiver em andamento quando este método for chamado.
+     * Se já houver uma animação em andamento, o slot é redirecionado em vez de criar uma nova animação.
      * </p>
      *
      * @param show Se {@code true}, anima para a posição flutuante (1.0);
      *             se {@code false}, anima para a posição de repouso (0.0)
      * @see #animationLocation
      * @see #showLabel
-     * @see #timeline
+     * @see #labelAnimation
      * @see #ANIMATION_DURATION
-     * @see org.pushingpixels.trident.Timeline
+     * @see WAnimator
      * @since 1.0.0
      */
     private void animateLabel(boolean show) {
-        timeline = new Timeline(this);
-        timeline.addPropertyToInterpolate("animationLocation",
-                animationLocation,
-                show ? 1f : 0f);
-        timeline.setEase(new Spline(0.5f));
-        timeline.setDuration(ANIMATION_DURATION);
-        timeline.play();
+        labelAnimation.animate(animationLocation, show ? 1f : 0f);
     }
 
     /**
@@ -785,17 +914,7 @@ public class WTextField extends JTextField {
      * @since 1.0.0
      */
     private void animateError(boolean show) {
-        if (errorTimeline != null && !errorTimeline.isDone()) {
-            errorTimeline.abort();
-        }
-
-        errorTimeline = new Timeline(this);
-        errorTimeline.addPropertyToInterpolate("errorAnimationLocation",
-                errorAnimationLocation,
-                show ? 1f : 0f);
-        errorTimeline.setEase(new Spline(0.5f));
-        errorTimeline.setDuration(ANIMATION_DURATION);
-        errorTimeline.play();
+        errorAnimation.animate(errorAnimationLocation, show ? 1f : 0f);
     }
 
     /**
@@ -821,12 +940,7 @@ public class WTextField extends JTextField {
      * @since 1.0.0
      */
     private void animateLine(boolean show) {
-        Timeline lineTimeline = new Timeline(this);
-        lineTimeline.addPropertyToInterpolate("lineAnimationProgress",
-                lineAnimationProgress,
-                show ? 1f : 0f);
-        lineTimeline.setDuration(ANIMATION_DURATION);
-        lineTimeline.play();
+        lineAnimation.animate(lineAnimationProgress, show ? 1f : 0f);
     }
 
     // ============================================ MÉTODOS DE PINTURA ============================================
@@ -922,7 +1036,7 @@ public class WTextField extends JTextField {
             return;
         }
 
-        Insets in = getInsets();
+        Insets in = getInsets(labelInsets);
 
         // Define cor do rótulo baseada no estado
         Color labelColor;
@@ -932,18 +1046,17 @@ public class WTextField extends JTextField {
                     : getThemeColor("WTextField.errorColor", ERROR_COLOR);
         } else if (isFocusOwner()) {
             labelColor = lineColor;
-        } else if (!getText().isEmpty()) {
+        } else if (getDocument().getLength() > 0) {
             labelColor = getThemeColor("WTextField.textColor", DEFAULT_TEXT_COLOR);
         } else {
             labelColor = getThemeColor("WTextField.hintColor", DEFAULT_HINT_COLOR);
         }
         g2.setColor(labelColor);
 
-        FontMetrics fm = g2.getFontMetrics();
-        Rectangle2D textBounds = fm.getStringBounds(labelText, g2);
+        labelGlyphs.update(g2, labelText);
 
         // Calcula posições com animação
-        double centerY = (getHeight() - textBounds.getHeight()) / 2 + fm.getAscent();
+        double centerY = (getHeight() - labelGlyphs.getHeight()) / 2 + labelGlyphs.getAscent();
         double topY = LABEL_TOP_POSITION;
         double currentY = centerY - ((centerY - topY) * animationLocation);
 
@@ -953,15 +1066,74 @@ public class WTextField extends JTextField {
 
         float scale = 1.0f + (0.04f * animationLocation);
 
-        Graphics2D g2d = (Graphics2D) g2.create();
-        try {
-            g2d.translate(currentX, 0);
-            g2d.scale(scale, scale);
-            g2d.drawString(labelText, 0, (float) (currentY / scale));
-        } finally {
-            g2d.dispose();
+        labelGlyphs.draw(g2, currentX, currentY, scale);
+    }
+
+    /**
+     * Calcula a faixa do componente ocupada pelo rótulo em todo o seu percurso, do repouso à posição flutuante.
+     *
+     * <p>
+     * A faixa vai do topo do componente até o limite inferior do rótulo em repouso, já na escala máxima. Enquanto o
+     * rótulo ainda não foi medido pela primeira pintura, a faixa é o componente inteiro.</p>
+     *
+     * @param r Retângulo que recebe a faixa
+     * @see #labelAnimation
+     * @see #paintLabel(Graphics2D)
+     * @since 3.3.0
+     */
+    private void labelBand(Rectangle r) {
+        if (labelGlyphs.getHeight() == 0) {
+            r.setBounds(0, 0, getWidth(), getHeight());
+            return;
         }
+        double centerY = (getHeight() - labelGlyphs.getHeight()) / 2 + labelGlyphs.getAscent();
+        double baseline = Math.max(centerY, LABEL_TOP_POSITION);
+        r.setBounds(0, 0, getWidth(), (int) Math.ceil(baseline + labelGlyphs.getDescent() * 1.04) + 2);
+    }
+
+    /**
+     * Calcula a faixa do componente ocupada pela linha inferior.
+     *
+     * @param r Retângulo que recebe a faixa
+     * @see #lineAnimation
+     * @see #paintComponents(Graphics2D)
+     * @since 3.3.0
+     */
+    private void lineBand(Rectangle r) {
+        r.setBounds(0, getHeight() - LINE_Y_OFFSET - LINE_HEIGHT / 2 - 1, getWidth(), LINE_HEIGHT + 2);
     }
+
+    /**
+     * Calcula a faixa do componente ocupada pela mensagem de erro/sucesso, incluindo o deslize de entrada.
+     *
+     * @param r Retângulo que recebe a faixa
+     * @see #errorAnimation
+     * @see #paintExternalMessage(Graphics2D)
+     * @since 3.3.0
+     */
+    private void messageBand(Rectangle r) {
+        int top = getHeight() + ERROR_MESSAGE_Y_OFFSET - getFontMetrics(WPaintCache.messageFont(getFont())).getAscent();
+        r.setBounds(0, top - 1, getWidth(), getHeight() - top + 1);
+    }
+
+    /**
+     * Calcula a área exata da mensagem de erro/sucesso, incluindo o deslize de entrada, que pode ultrapassar os
+     * limites do campo. Usada pela camada de mensagens.
+     *
+     * @param r Retângulo que recebe a área, vazio se não houver mensagem
+     * @see WMessageOverlay
+     * @since 3.3.0
+     */
+    private void messageBounds(Rectangle r) {
+        if (errorMessage == null || errorMessage.isEmpty()) {
+            r.setBounds(0, 0, 0, 0);
+            return;
+        }
+        FontMetrics fm = getFontMetrics(WPaintCache.messageFont(getFont()));
+        int top = getHeight() + ERROR_MESSAGE_Y_OFFSET - fm.getAscent();
+        r.setBounds(PADDING_LEFT - 2, top - 1, fm.stringWidth(errorMessage) + 4, fm.getAscent() + fm.getDescent() + 5);
+    }
+
     // ========================================= MÉTODOS PRIVADOS DE VALIDAÇÃO =========================================
 
     /**
@@ -982,22 +1154,24 @@ public class WTextField extends JTextField {
      * @since 1.0.0
      */
     private boolean validarObrigatorio() {
+        if (!obrigatorio || temConteudo()) {
+            return true;
+        }
+
         if (labelText != null && !labelText.trim().isEmpty()) {
             // Remove os dois pontos do final, se existirem
             String rotulo = labelText.trim();
             if (rotulo.endsWith(":") || rotulo.endsWith(": ")) {
                 rotulo = rotulo.substring(0, rotulo.length() - 1).trim();
-                // Capitaliza a primeira letra do rótulo
-                rotulo = rotulo.substring(0, 1).toUpperCase() + rotulo.substring(1).toLowerCase();
-                setMensagem(rotulo + " é obrigatório", false);
-            } else {
-                // Se não tiver rótulo definido, usa a mensagem genérica
-                setMensagem("Campo obrigatório", false);
             }
-            return false;
+            // Capitaliza a primeira letra do rótulo
+            rotulo = rotulo.substring(0, 1).toUpperCase() + rotulo.substring(1).toLowerCase();
+            setMensagem(rotulo + " é obrigatório", false);
+        } else {
+            // Se não tiver rótulo definido, usa a mensagem genérica
+            setMensagem("Campo obrigatório", false);
         }
-        // Não limpa a mensagem aqui para não apagar mensagens de erro personalizadas
-        return true;
+        return false;
     }
 
     // ========================================= MÉTODOS PÚBLICOS DE VALIDAÇÃO =========================================
@@ -1031,6 +1205,7 @@ public class WTextField extends JTextField {
      * @since 1.0.0
      */
     public void setMensagem(String mensagem, boolean sucesso) {
+        WMessageScheduler.cancel(this);
         this.errorMessage = mensagem;
         this.isSuccessMessage = sucesso;
         this.hasError = !sucesso; // Define hasError como true para erros, false para sucesso
@@ -1038,6 +1213,7 @@ public class WTextField extends JTextField {
         updateLabelState(isFocusOwner());
         animateError(true);
         repaint();
+        repaintMessage();
     }
 
     /**
@@ -1108,6 +1284,95 @@ public class WTextField extends JTextField {
         return false;
     }
 
+    /**
+     * Registra um validador assíncrono, executado fora da EDT a cada alteração do texto.
+     *
+     * <p>
+     * A validação começa {@link #getAtrasoValidacao()} milissegundos após a última tecla; digitar novamente cancela a
+     * execução anterior. O resultado é exibido com {@link #mostrarErro(String)}, {@link #mostrarSucesso(String)} ou
+     * {@link #limparMensagem()}, sempre na EDT e apenas para o texto atual do campo.</p>
+     *
+     * <pre>
+     * campoEmail.addValidador(email -&gt; dao.existeEmail(email)
+     *         ? WValidationResult.erro("E-mail já cadastrado")
+     *         : WValidationResult.ok());
+     * </pre>
+     *
+     * @param validador Validador a ser adicionado ao final da sequência
+     * @see WValidationPipeline
+     * @since 3.3.0
+     */
+    public void addValidador(WValidator<? super String> validador) {
+        validacaoAsync().add(validador);
+    }
+
+    /**
+     * Remove um validador assíncrono.
+     *
+     * @param validador Validador a ser removido
+     * @since 3.3.0
+     */
+    public void removeValidador(WValidator<? super String> validador) {
+        if (validacaoAsync != null) {
+            validacaoAsync.remove(validador);
+        }
+    }
+
+    /**
+     * Define o atraso entre a última alteração do texto e o início da validação assíncrona.
+     *
+     * @param atraso Atraso em milissegundos; {@code 0} valida a cada tecla e valores negativos são tratados como {@code 0}
+     * @since 3.3.0
+     */
+    public void setAtrasoValidacao(int atraso) {
+        validacaoAsync().setDebounce(atraso);
+    }
+
+    /**
+     * Obtém o atraso entre a última alteração do texto e o início da validação assíncrona.
+     *
+     * @return Atraso em milissegundos (padrão {@value WValidationPipeline#DEFAULT_DEBOUNCE})
+     * @since 3.3.0
+     */
+    public int getAtrasoValidacao() {
+        return validacaoAsync != null ? validacaoAsync.getDebounce() : WValidationPipeline.DEFAULT_DEBOUNCE;
+    }
+
+    /**
+     * Valida o campo obrigatório e, em seguida, executa imediatamente os validadores assíncronos.
+     *
+     * <p>
+     * Útil ao confirmar um formulário, quando não se quer esperar o atraso entre teclas.</p>
+     *
+     * @return Futuro concluído na EDT com {@code true} se o campo for válido; cancelado se o texto mudar antes
+     * @since 3.3.0
+     */
+    public CompletableFuture<Boolean> validarAsync() {
+        if (!validar()) {
+            return CompletableFuture.completedFuture(false);
+        }
+        if (validacaoAsync == null) {
+            return CompletableFuture.completedFuture(true);
+        }
+        return validacaoAsync.validateNow().thenApply(WValidationResult::isValid);
+    }
+
+    /**
+     * Aplica no campo o resultado de uma validação assíncrona.
+     *
+     * @param resultado Resultado publicado na EDT pelo {@link WValidationPipeline}
+     * @since 3.3.0
+     */
+    private void aplicarValidacao(WValidationResult resultado) {
+        if (!resultado.isValid()) {
+            mostrarErro(resultado.getMensagem());
+        } else if (resultado.getMensagem() != null) {
+            mostrarSucesso(resultado.getMensagem());
+        } else {
+            limparMensagem();
+        }
+    }
+
     /**
      * Exibe uma mensagem de erro estilizada abaixo do campo.
      *
@@ -1155,24 +1420,28 @@ public class WTextField extends JTextField {
             return;
         }
 
-        if (errorTimeline != null && !errorTimeline.isDone()) {
-            errorTimeline.abort();
-        }
-
         animateError(false);
 
-        new Thread(() -> {
-            try {
-                Thread.sleep(ANIMATION_DURATION);
-                this.hasError = false;
-                this.errorMessage = "";
-                this.isSuccessMessage = false;
-                updateLabelState(isFocusOwner());
-                repaint();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
+        WMessageScheduler.schedule(this, limpezaMensagem, WAnimator.duration(ANIMATION_DURATION));
+    }
+
+    /**
+     * Conclui a limpeza da mensagem após a animação de saída.
+     * <p>
+     * Executado na EDT pelo {@link WMessageScheduler} ao final de {@link #ANIMATION_DURATION} milissegundos. A tarefa
+     * é cancelada se uma nova mensagem for definida antes disso.
+     * </p>
+     *
+     * @see #limparMensagem()
+     * @since 3.3.0
+     */
+    private void concluirLimpezaMensagem() {
+        this.hasError = false;
+        this.errorMessage = "";
+        this.isSuccessMessage = false;
+        updateLabelState(isFocusOwner());
+        repaint();
+        repaintMessage();
     }
 
     /**
@@ -1189,6 +1458,22 @@ public class WTextField extends JTextField {
     }
 
     // ============================================ MÉTODOS DE CONFIGURAÇÃO ============================================
+    /**
+     * Cria o documento padrão do campo.
+     * <p>
+     * Usa um {@link WPlainDocument}, que acompanha incrementalmente se o campo possui conteúdo, evitando copiar o
+     * texto inteiro a cada tecla digitada.
+     * </p>
+     *
+     * @return Novo documento vazio
+     * @see WPlainDocument
+     * @since 3.3.0
+     */
+    @Override
+    protected Document createDefaultModel() {
+        return new WPlainDocument();
+    }
+
     /**
      * Define o texto do campo e atualiza o estado do rótulo flutuante.
      * <p>
@@ -1214,7 +1499,7 @@ public class WTextField extends JTextField {
     public void setText(String text) {
         super.setText(text);
         updateLabelState(isFocusOwner());
-        if (hasError && text != null && !text.trim().isEmpty()) {
+        if (hasError && temConteudo()) {
             limparErro();
         }
     }
@@ -1232,6 +1517,7 @@ public class WTextField extends JTextField {
      */
     public void setLabelText(String labelText) {
         this.labelText = labelText;
+        labelGlyphs.invalidate();
         repaint();
     }
 
@@ -1298,7 +1584,7 @@ public class WTextField extends JTextField {
      */
     public void setAnimationLocation(float animationLocation) {
         this.animationLocation = animationLocation;
-        repaint();
+        WAnimator.repaint(this, this::labelBand);
     }
 
     /**
@@ -1315,7 +1601,7 @@ public class WTextField extends JTextField {
      */
     public void setErrorAnimationLocation(float errorAnimationLocation) {
         this.errorAnimationLocation = errorAnimationLocation;
-        repaint();
+        repaintMessage();
     }
 
     /**
@@ -1332,7 +1618,7 @@ public class WTextField extends JTextField {
      */
     public void setLineAnimationProgress(float lineAnimationProgress) {
         this.lineAnimationProgress = lineAnimationProgress;
-        repaint();
+        WAnimator.repaint(this, this::lineBand);
     }
 
     // ============================================ MÉTODOS DE ACESSO ============================================
@@ -1454,4 +1740,47 @@ public class WTextField extends JTextField {
     public String getErrorMessage() {
         return errorMessage;
     }
+
+    // ============================================ CLASSE INTERNA - LISTENER COMPARTILHADO ============================================
+
+    /**
+     * Listener de foco e mouse sem estado, compartilhado por todos os campos.
+     *
+     * <p>
+     * Cada evento traz o campo de origem em {@link java.awt.event.ComponentEvent#getComponent()}, então o estado fica
+     * no próprio campo e uma única instância ({@link #HANDLER}) atende a todos. O listener do documento continua por
+     * campo, pois os eventos de documento não identificam o componente e um documento pode ser compartilhado.</p>
+     *
+     * @since 3.3.0
+     */
+    private static final class Handler extends MouseAdapter implements FocusListener {
+
+        @Override
+        public void focusGained(FocusEvent e) {
+            long start = WMetrics.start();
+            ((WTextField) e.getComponent()).focoAlterado(true);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void focusLost(FocusEvent e) {
+            long start = WMetrics.start();
+            ((WTextField) e.getComponent()).focoAlterado(false);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void mouseEntered(MouseEvent e) {
+            long start = WMetrics.start();
+            ((WTextField) e.getComponent()).mouseAlterado(true);
+            WMetrics.listener(e.getComponent(), start);
+        }
+
+        @Override
+        public void mouseExited(MouseEvent e) {
+            long start = WMetrics.start();
+            ((WTextField) e.getComponent()).mouseAlterado(false);
+            WMetrics.listener(e.getComponent(), start);
+        }
+    }
 }
@@ -0,0 +1,299 @@
+package br.com.warrick.swing;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.swing.SwingUtilities;
+
+/**
+ * Execução assíncrona dos validadores de um campo W, com atraso entre teclas e cancelamento.
+ *
+ * <p>
+ * Cada alteração do campo chama {@link #schedule()}, que reinicia a espera de {@link #getDebounce()} milissegundos
+ * (agendada no {@link WMessageScheduler}) e cancela a validação em andamento. Ao fim da espera, o valor é capturado
+ * na EDT e os validadores rodam em sequência fora dela; o primeiro erro encerra a execução.</p>
+ *
+ * <p>
+ * O resultado volta à EDT e é entregue ao componente apenas se nenhuma validação mais nova tiver começado: cada
+ * execução recebe um número de geração, e resultados de gerações antigas são descartados. Assim o campo nunca exibe
+ * a resposta de um valor que o usuário já alterou, mesmo que os validadores terminem fora de ordem.</p>
+ *
+ * <p>
+ * Os validadores rodam em threads virtuais quando a JVM oferece suporte (Java 21 ou superior) e, caso contrário, em
+ * um pool compartilhado de threads daemon.</p>
+ *
+ * <p>
+ * Os métodos desta classe devem ser chamados na Event Dispatch Thread.</p>
+ *
+ * @param <T> Tipo do valor validado
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public final class WValidationPipeline<T> {
+    // ============================================ CONSTANTES ============================================
+
+    /** Atraso padrão entre a última tecla e o início da validação, em milissegundos */
+    public static final int DEFAULT_DEBOUNCE = 300;
+
+    /** Mensagem exibida quando um validador falha com uma exceção sem mensagem */
+    public static final String FALHA_VALIDACAO = "Não foi possível validar o campo";
+
+    /** Executor compartilhado por todos os campos */
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    // ============================================ ATRIBUTOS ============================================
+
+    /** Validadores, na ordem de execução */
+    private final List<WValidator<? super T>> validators = new CopyOnWriteArrayList<>();
+
+    /** Lê o valor do campo na EDT */
+    private final Supplier<T> valueSupplier;
+
+    /** Aplica o resultado no campo, na EDT */
+    private final Consumer<WValidationResult> publisher;
+
+    /** Descarta o valor capturado ao fim da validação (por exemplo, apagando uma senha), ou null */
+    private final Consumer<T> discard;
+
+    /** Tarefa de início da validação, agendada ao fim do atraso */
+    private final Runnable start = this::startNow;
+
+    /** Atraso entre a última alteração e o início da validação */
+    private int debounce = DEFAULT_DEBOUNCE;
+
+    /** Geração da validação mais recente */
+    private int generation;
+
+    /** Validação em andamento, ou null */
+    private Future<?> running;
+
+    /** Resultado pendente da validação em andamento, ou null */
+    private CompletableFuture<WValidationResult> pending;
+
+    /** Descarta o valor da validação em andamento caso ela seja cancelada antes de começar, ou null */
+    private Runnable releaseValue;
+
+    // ============================================ CONSTRUTORES ============================================
+
+    /**
+     * Cria o pipeline de um campo.
+     *
+     * @param valueSupplier Lê o valor do campo na EDT
+     * @param publisher Aplica o resultado no campo, na EDT
+     */
+    public WValidationPipeline(Supplier<T> valueSupplier, Consumer<WValidationResult> publisher) {
+        this(valueSupplier, publisher, null);
+    }
+
+    /**
+     * Cria o pipeline de um campo cujo valor capturado precisa ser descartado após o uso.
+     *
+     * @param valueSupplier Lê o valor do campo na EDT
+     * @param publisher Aplica o resultado no campo, na EDT
+     * @param discard Chamado com o valor capturado quando os validadores terminam, ou null
+     */
+    public WValidationPipeline(Supplier<T> valueSupplier, Consumer<WValidationResult> publisher, Consumer<T> discard) {
+        this.valueSupplier = valueSupplier;
+        this.publisher = publisher;
+        this.discard = discard;
+    }
+
+    // ============================================ MÉTODOS PÚBLICOS ============================================
+
+    /**
+     * Adiciona um validador ao final da sequência.
+     *
+     * @param validator Validador
+     */
+    public void add(WValidator<? super T> validator) {
+        validators.add(validator);
+    }
+
+    /**
+     * Remove um validador.
+     *
+     * @param validator Validador
+     */
+    public void remove(WValidator<? super T> validator) {
+        validators.remove(validator);
+    }
+
+    /**
+     * Indica se não há validadores registrados.
+     *
+     * @return true se não houver validadores
+     */
+    public boolean isEmpty() {
+        return validators.isEmpty();
+    }
+
+    /**
+     * Agenda a validação para depois do atraso, cancelando a validação em andamento. Sem validadores, não faz nada.
+     */
+    public void schedule() {
+        if (validators.isEmpty()) {
+            return;
+        }
+        cancelRunning();
+        WMessageScheduler.schedule(this, start, debounce);
+    }
+
+    /**
+     * Valida imediatamente, sem esperar o atraso.
+     *
+     * @return Resultado, concluído na EDT; cancelado se uma validação mais nova começar antes
+     */
+    public CompletableFuture<WValidationResult> validateNow() {
+        WMessageScheduler.cancel(this);
+        return startNow();
+    }
+
+    /**
+     * Cancela a espera e a validação em andamento; nenhum resultado pendente será publicado.
+     */
+    public void cancel() {
+        WMessageScheduler.cancel(this);
+        cancelRunning();
+    }
+
+    /**
+     * Indica se há validação agendada ou em andamento.
+     *
+     * @return true se houver validação pendente
+     */
+    public boolean isPending() {
+        return running != null || WMessageScheduler.isPending(this);
+    }
+
+    public int getDebounce() {
+        return debounce;
+    }
+
+    public void setDebounce(int debounce) {
+        this.debounce = Math.max(0, debounce);
+    }
+
+    // ============================================ MÉTODOS PRIVADOS ============================================
+
+    /**
+     * Captura o valor e inicia os validadores fora da EDT.
+     */
+    private CompletableFuture<WValidationResult> startNow() {
+        cancelRunning();
+        CompletableFuture<WValidationResult> result = new CompletableFuture<>();
+        if (validators.isEmpty()) {
+            result.complete(WValidationResult.ok());
+            return result;
+        }
+
+        int gen = ++generation;
+        T value = valueSupplier.get();
+        AtomicBoolean claimed = new AtomicBoolean();
+        pending = result;
+        releaseValue = () -> {
+            if (claimed.compareAndSet(false, true) && discard != null) {
+                discard.accept(value);
+            }
+        };
+        running = EXECUTOR.submit(() -> {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            WValidationResult r = run(value);
+            if (r != null) {
+                SwingUtilities.invokeLater(() -> publish(gen, r));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Executa os validadores em sequência. Retorna null se a execução foi interrompida.
+     */
+    private WValidationResult run(T value) {
+        try {
+            WValidationResult success = WValidationResult.ok();
+            for (WValidator<? super T> validator : validators) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return null;
+                }
+                WValidationResult r = validator.validate(value);
+                if (r != null && !r.isValid()) {
+                    return r;
+                }
+                if (r != null && r.getMensagem() != null) {
+                    success = r;
+                }
+            }
+            return Thread.currentThread().isInterrupted() ? null : success;
+        } catch (InterruptedException e) {
+            return null;
+        } catch (Exception e) {
+            String mensagem = e.getMessage();
+            return WValidationResult.erro(mensagem != null && !mensagem.isEmpty() ? mensagem : FALHA_VALIDACAO);
+        } finally {
+            if (discard != null) {
+                discard.accept(value);
+            }
+        }
+    }
+
+    /**
+     * Entrega o resultado ao campo se ele pertence à validação mais recente.
+     */
+    private void publish(int gen, WValidationResult r) {
+        if (gen != generation) {
+            return;
+        }
+        CompletableFuture<WValidationResult> result = pending;
+        running = null;
+        pending = null;
+        releaseValue = null;
+        publisher.accept(r);
+        result.complete(r);
+    }
+
+    /**
+     * Interrompe a validação em andamento e invalida seu resultado.
+     */
+    private void cancelRunning() {
+        generation++;
+        if (running != null) {
+            running.cancel(true);
+            running = null;
+        }
+        if (releaseValue != null) {
+            // Se a tarefa ainda não começou, o valor capturado é descartado aqui
+            releaseValue.run();
+            releaseValue = null;
+        }
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+    }
+
+    /**
+     * Cria o executor: threads virtuais quando disponíveis, senão um pool de threads daemon.
+     */
+    private static ExecutorService createExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            AtomicInteger count = new AtomicInteger();
+            return Executors.newCachedThreadPool(r -> {
+                Thread thread = new Thread(r, "WValidation-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.warrick.swing;
+
+/**
+ * Resultado de um {@link WValidator}: válido sem mensagem, válido com mensagem de sucesso ou inválido com mensagem
+ * de erro.
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public final class WValidationResult {
+    // ============================================ CONSTANTES ============================================
+
+    /** Resultado válido sem mensagem */
+    private static final WValidationResult OK = new WValidationResult(true, null);
+
+    // ============================================ ATRIBUTOS ============================================
+
+    /** Indica se o valor é válido */
+    private final boolean valid;
+
+    /** Mensagem a exibir no campo, ou null */
+    private final String mensagem;
+
+    // ============================================ CONSTRUTORES ============================================
+
+    private WValidationResult(boolean valid, String mensagem) {
+        this.valid = valid;
+        this.mensagem = mensagem;
+    }
+
+    // ============================================ FÁBRICAS ============================================
+
+    /**
+     * Valor válido, sem mensagem. Uma mensagem anterior é removida do campo.
+     *
+     * @return Resultado válido
+     */
+    public static WValidationResult ok() {
+        return OK;
+    }
+
+    /**
+     * Valor válido, exibindo uma mensagem de sucesso.
+     *
+     * @param mensagem Mensagem de sucesso
+     * @return Resultado válido
+     */
+    public static WValidationResult sucesso(String mensagem) {
+        return new WValidationResult(true, mensagem);
+    }
+
+    /**
+     * Valor inválido, exibindo uma mensagem de erro.
+     *
+     * @param mensagem Mensagem de erro
+     * @return Resultado inválido
+     */
+    public static WValidationResult erro(String mensagem) {
+        return new WValidationResult(false, mensagem);
+    }
+
+    // ============================================ MÉTODOS DE ACESSO ============================================
+
+    public boolean isValid() {
+        return valid;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    @Override
+    public String toString() {
+        return (valid ? "ok" : "erro") + (mensagem != null ? ": " + mensagem : "");
+    }
+}
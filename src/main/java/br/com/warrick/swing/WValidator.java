@@ -0,0 +1,31 @@
+package br.com.warrick.swing;
+
+/**
+ * Validador assíncrono de um campo W.
+ *
+ * <p>
+ * Os validadores são executados fora da Event Dispatch Thread pelo {@link WValidationPipeline}, então podem consultar
+ * bancos de dados ou serviços sem travar a interface. Não devem acessar componentes Swing: recebem apenas uma cópia
+ * do valor do campo e devolvem o resultado, que é publicado na EDT.</p>
+ *
+ * <p>
+ * A execução pode ser cancelada quando o usuário continua digitando; validadores demorados devem responder à
+ * interrupção da thread (por exemplo, lançando {@link InterruptedException}).</p>
+ *
+ * @param <T> Tipo do valor validado
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+@FunctionalInterface
+public interface WValidator<T> {
+
+    /**
+     * Valida o valor do campo.
+     *
+     * @param value Valor capturado na EDT no início da validação
+     * @return Resultado da validação; null equivale a {@link WValidationResult#ok()}
+     * @throws Exception Falha ao validar, exibida como erro no campo
+     */
+    WValidationResult validate(T value) throws Exception;
+}
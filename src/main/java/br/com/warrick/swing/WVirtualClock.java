@@ -0,0 +1,79 @@
+package br.com.warrick.swing;
+
+/**
+ * Relógio manual para testes e benchmarks: o tempo só anda quando o relógio é avançado, e cada avanço gera um quadro
+ * de animação.
+ *
+ * <p>
+ * Com o relógio instalado, as animações deixam de depender do tempo real e podem ser levadas a um progresso exato.
+ * Uma animação de 300 ms sem curva de aceleração, por exemplo, fica na metade após {@code advance(150)}. As animações
+ * também rodam em componentes fora da tela e em modo headless, cuja política padrão {@link WAnimationPolicy#NONE}
+ * não vale com o relógio instalado, o que permite pintá-los em um {@code BufferedImage} no meio de uma transição. Uma
+ * política definida pela propriedade {@value WAnimator#POLICY_PROPERTY} ou por
+ * {@link WAnimator#setPolicy(WAnimationPolicy)} continua valendo: com {@code REDUCED} a mesma animação termina em
+ * 100 ms, e com {@code NONE} vai direto ao fim.</p>
+ *
+ * <pre>
+ * WVirtualClock clock = new WVirtualClock();
+ * WAnimator.setClock(clock);
+ * campo.mostrarErro("Campo inválido");
+ * clock.advance(150);
+ * campo.paint(g2);
+ * WAnimator.setClock(null);
+ * </pre>
+ *
+ * <p>
+ * Todos os métodos devem ser chamados na Event Dispatch Thread.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public final class WVirtualClock implements WAnimationClock {
+    // ============================================ ATRIBUTOS ============================================
+
+    /** Instante atual em nanossegundos */
+    private long now;
+
+    // ============================================ MÉTODOS PÚBLICOS ============================================
+
+    @Override
+    public long nanoTime() {
+        return now;
+    }
+
+    /**
+     * Avança o relógio e gera um único quadro no novo instante.
+     *
+     * @param millis Tempo a avançar em milissegundos
+     * @return Tempo real gasto no quadro, em nanossegundos
+     */
+    public long advance(long millis) {
+        now += millis * 1_000_000L;
+        return WAnimator.frame();
+    }
+
+    /**
+     * Avança o relógio pelo intervalo de um quadro, segundo {@link WAnimator#getFrameRate()}, e gera o quadro.
+     *
+     * @return Tempo real gasto no quadro, em nanossegundos
+     */
+    public long frame() {
+        now += 1_000_000_000L / WAnimator.getFrameRate();
+        return WAnimator.frame();
+    }
+
+    /**
+     * Gera quadros até que não haja mais animações em andamento.
+     *
+     * @return Quantidade de quadros gerados
+     */
+    public int finish() {
+        int frames = 0;
+        while (WAnimator.getActiveCount() > 0) {
+            frame();
+            frames++;
+        }
+        return frames;
+    }
+}
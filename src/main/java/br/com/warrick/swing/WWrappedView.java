@@ -0,0 +1,945 @@
+package br.com.warrick.swing;
+
+import java.awt.*;
+import java.awt.geom.Rectangle2D;
+import java.lang.ref.SoftReference;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import javax.swing.JViewport;
+import javax.swing.Timer;
+import javax.swing.event.DocumentEvent;
+import javax.swing.text.*;
+
+/**
+ * View de texto com quebra de linha que calcula as quebras primeiro das linhas que aparecem na tela e depois, aos
+ * poucos, das demais.
+ *
+ * <p>
+ * O {@link WrappedPlainView} do Swing cria uma view por linha do documento e recalcula as quebras de todas elas quando
+ * a largura muda. Esta view guarda apenas um vetor com a quantidade de linhas visuais de cada linha do documento:</p>
+ * <ul>
+ * <li>linhas ainda não medidas recebem uma estimativa proporcional ao número de caracteres, sem ler o texto;</li>
+ * <li>as quebras exatas são calculadas quando a linha é pintada ou consultada por {@link #modelToView} e
+ * {@link #viewToModel}, e ficam guardadas (relativas ao início da linha) até a linha ser editada;</li>
+ * <li>depois da pintura, as linhas restantes são medidas em blocos curtos na Event Dispatch Thread por um único
+ * {@link Timer} compartilhado, a partir da área visível; quando uma linha acima da área visível muda de altura, a
+ * rolagem é compensada para que o texto na tela não salte;</li>
+ * <li>a posição vertical de cada linha vem de uma árvore de somas acumuladas (Fenwick), em O(log n).</li>
+ * </ul>
+ *
+ * <p>
+ * As quebras de cada combinação de largura, fonte e tipo de quebra formam um layout, guardado em um
+ * {@link LayoutCache} compartilhado pelas views do mesmo documento. Voltar a uma largura recente (um painel que abre e
+ * fecha, um divisor arrastado de volta) ou recriar a view, como o Swing faz ao mudar a fonte ou a edição, reaproveita
+ * as quebras já calculadas. Os layouts guardados acompanham as edições: cada {@code DocumentEvent} invalida apenas
+ * as linhas que alterou. Os layouts fora de uso são mantidos por referências leves ({@link SoftReference}), como o
+ * cache de linhas do {@code WrappedPlainView}.</p>
+ *
+ * <p>
+ * As quebras seguem as mesmas regras do {@code WrappedPlainView}, por palavra ou por caractere.</p>
+ *
+ * @author Warrick
+ * @version 1.0.0
+ * @since 16/10/2026
+ */
+public class WWrappedView extends View implements TabExpander {
+    // ============================================ CONSTANTES ============================================
+
+    /** Quebras de uma linha medida que ocupa uma única linha visual */
+    private static final int[] SINGLE_ROW = new int[0];
+
+    /** Limite de linhas editadas de uma só vez que são medidas imediatamente; acima dele, são estimadas */
+    private static final int EXACT_LIMIT = 32;
+
+    /** Intervalo entre os blocos de medição em segundo plano, em milissegundos */
+    private static final int BACKGROUND_DELAY = 15;
+
+    /** Duração máxima de um bloco de medição em segundo plano, em nanossegundos */
+    private static final long BACKGROUND_BUDGET = 4_000_000L;
+
+    /** Views com linhas por medir, atendidas em rodízio */
+    private static final ArrayDeque<WWrappedView> PENDING = new ArrayDeque<>();
+
+    /** Timer único da medição em segundo plano */
+    private static final Timer BACKGROUND = new Timer(BACKGROUND_DELAY, e -> measureInBackground());
+
+    // ============================================ ATRIBUTOS ============================================
+
+    /** Indica se a quebra é feita por palavra */
+    private final boolean wordWrap;
+
+    /** Layouts do documento, compartilhados com as views que substituírem esta */
+    private final LayoutCache cache;
+
+    /** Layout da largura e fonte atuais */
+    private Layout layout;
+
+    /** Fonte e métricas usadas na medição */
+    private Font font;
+    private FontMetrics metrics;
+
+    /** Altura de uma linha visual */
+    private int lineHeight;
+
+    /** Largura de uma tabulação */
+    private float tabSize;
+
+    /** Origem horizontal das tabulações */
+    private int tabBase;
+
+    /** Largura disponível para o texto */
+    private int width = Integer.MAX_VALUE;
+
+    /** Árvore de Fenwick sobre as linhas visuais do layout atual, indexada a partir de 1 */
+    private int[] tree = new int[1];
+
+    /** Total de linhas visuais do layout atual */
+    private int totalRows;
+
+    /** Indica se alguma medição alterou a altura total desde o último aviso ao contêiner */
+    private boolean heightChanged;
+
+    /** Indica se a view está na fila da medição em segundo plano */
+    private boolean pending;
+
+    /** Segmento usado para ler o texto das linhas */
+    private final Segment lineBuffer = new Segment();
+
+    /** Área de recorte da pintura em andamento */
+    private final Rectangle clipBounds = new Rectangle();
+
+    /** Seleção e cores da pintura em andamento */
+    private int sel0;
+    private int sel1;
+    private Color selected;
+    private Color unselected;
+
+    static {
+        BACKGROUND.setRepeats(true);
+    }
+
+    // ============================================ CONSTRUTORES ============================================
+
+    /**
+     * Cria a view para o elemento raiz de um documento de texto simples, com um cache de layouts próprio.
+     *
+     * @param elem Elemento raiz, com uma linha do documento por filho
+     * @param wordWrap true para quebrar por palavra, false por caractere
+     */
+    public WWrappedView(Element elem, boolean wordWrap) {
+        this(elem, wordWrap, new LayoutCache(elem.getDocument()));
+    }
+
+    /**
+     * Cria a view para o elemento raiz de um documento de texto simples, reaproveitando os layouts do cache.
+     *
+     * @param elem Elemento raiz, com uma linha do documento por filho
+     * @param wordWrap true para quebrar por palavra, false por caractere
+     * @param cache Cache de layouts do documento do elemento
+     */
+    public WWrappedView(Element elem, boolean wordWrap, LayoutCache cache) {
+        super(elem);
+        if (cache.getDocument() != elem.getDocument()) {
+            throw new IllegalArgumentException("O cache pertence a outro documento");
+        }
+        this.wordWrap = wordWrap;
+        this.cache = cache;
+    }
+
+    // ============================================ MÉTODOS PÚBLICOS ============================================
+
+    /**
+     * Retorna a quantidade de linhas visuais, somando estimativas e medidas.
+     *
+     * @return Total de linhas visuais
+     */
+    public int getRowCount() {
+        updateMetrics();
+        return totalRows;
+    }
+
+    /**
+     * Indica se a linha do documento já tem as quebras calculadas.
+     *
+     * @param line Índice da linha
+     * @return true se a linha foi medida
+     */
+    public boolean isMeasured(int line) {
+        return layout != null && line < layout.lines && layout.breaks[line] != null;
+    }
+
+    /**
+     * Retorna a quantidade de linhas do documento ainda sem as quebras calculadas.
+     *
+     * @return Linhas estimadas
+     */
+    public int getUnmeasuredCount() {
+        updateMetrics();
+        return layout != null ? layout.unmeasured : 0;
+    }
+
+    /**
+     * Mede um bloco de linhas ainda estimadas, como a medição em segundo plano faz a cada passo do timer.
+     *
+     * @param budget Tempo máximo em nanossegundos
+     * @return true se ainda restarem linhas por medir
+     */
+    public boolean measureChunk(long budget) {
+        updateMetrics();
+        return layout != null && measurePending(System.nanoTime() + budget);
+    }
+
+    @Override
+    public float getPreferredSpan(int axis) {
+        updateMetrics();
+        if (axis == X_AXIS) {
+            return width == Integer.MAX_VALUE ? 100f : width;
+        }
+        return (float) totalRows * lineHeight;
+    }
+
+    @Override
+    public int getResizeWeight(int axis) {
+        return axis == X_AXIS ? 1 : 0;
+    }
+
+    @Override
+    public void setSize(float width, float height) {
+        updateMetrics();
+        if ((int) width != this.width) {
+            this.width = (int) width;
+            selectLayout();
+            preferenceChanged(null, true, true);
+        }
+    }
+
+    @Override
+    public void paint(Graphics g, Shape a) {
+        updateMetrics();
+        Rectangle alloc = a.getBounds();
+        tabBase = alloc.x;
+        JTextComponent host = (JTextComponent) getContainer();
+        sel0 = host.getSelectionStart();
+        sel1 = host.getSelectionEnd();
+        unselected = host.isEnabled() ? host.getForeground() : host.getDisabledTextColor();
+        Caret caret = host.getCaret();
+        selected = caret.isSelectionVisible() && host.getHighlighter() != null
+                ? host.getSelectedTextColor() : unselected;
+        g.setFont(font);
+        Highlighter h = host.getHighlighter();
+        LayeredHighlighter dh = h instanceof LayeredHighlighter ? (LayeredHighlighter) h : null;
+
+        // Sem recorte, o retângulo fica com a área da view
+        clipBounds.setBounds(alloc);
+        Rectangle clip = g.getClipBounds(clipBounds);
+        int top = clip.y;
+        int bottom = clip.y + clip.height;
+        int line = lineAtRow(Math.max(0, (top - alloc.y) / lineHeight));
+        int y = alloc.y + prefix(line) * lineHeight;
+        Element root = getElement();
+        int[] rows = layout.rows;
+        while (line < layout.lines && y < bottom) {
+            // Medir a linha não muda a posição dela, apenas a das seguintes
+            int[] ends = measure(line);
+            if (y + rows[line] * lineHeight > top) {
+                Element elem = root.getElement(line);
+                paintLine(g, a, dh, host, elem.getStartOffset(), elem.getEndOffset(), ends, alloc.x, y, top, bottom);
+            }
+            y += rows[line] * lineHeight;
+            line++;
+        }
+        firePendingHeightChange();
+        // As linhas abaixo da área visível são as próximas a aparecer na rolagem
+        layout.next = line;
+        scheduleBackground();
+    }
+
+    @Override
+    public Shape modelToView(int pos, Shape a, Position.Bias b) throws BadLocationException {
+        if (pos < getStartOffset() || pos > getEndOffset()) {
+            throw new BadLocationException("Posição fora do documento", pos);
+        }
+        updateMetrics();
+        Rectangle alloc = a.getBounds();
+        tabBase = alloc.x;
+        int testPos = b == Position.Bias.Backward ? Math.max(getStartOffset(), pos - 1) : pos;
+        int line = getElement().getElementIndex(testPos);
+        Element elem = getElement().getElement(line);
+        int start = elem.getStartOffset();
+        int[] ends = measure(line);
+        int row = rowOf(ends, testPos - start);
+        int rowStart = row > 0 ? start + ends[row - 1] : start;
+        int y = alloc.y + (prefix(line) + row) * lineHeight;
+        firePendingHeightChange();
+        if (pos > rowStart) {
+            loadText(rowStart, pos);
+            float x = alloc.x + Utilities.getTabbedTextWidth(lineBuffer, metrics, (float) alloc.x, this, rowStart);
+            return new Rectangle2D.Float(x, y, 1, lineHeight);
+        }
+        return new Rectangle(alloc.x, y, 1, lineHeight);
+    }
+
+    @Override
+    public int viewToModel(float fx, float fy, Shape a, Position.Bias[] bias) {
+        bias[0] = Position.Bias.Forward;
+        updateMetrics();
+        Rectangle alloc = a.getBounds();
+        tabBase = alloc.x;
+        if (fy < alloc.y || layout.lines == 0) {
+            return getStartOffset();
+        }
+        int row = (int) (fy - alloc.y) / lineHeight;
+        if (row >= totalRows) {
+            return getEndOffset() - 1;
+        }
+        int line = lineAtRow(row);
+        int[] ends = measure(line);
+        // A medida pode ter encolhido a linha, deixando a linha visual procurada na seguinte
+        while (line < layout.lines - 1 && row >= prefix(line) + layout.rows[line]) {
+            ends = measure(++line);
+        }
+        firePendingHeightChange();
+        int r = Math.min(row - prefix(line), layout.rows[line] - 1);
+        Element elem = getElement().getElement(line);
+        int start = elem.getStartOffset();
+        int p0 = r > 0 ? start + ends[r - 1] : start;
+        int p1 = r < ends.length ? start + ends[r] : elem.getEndOffset();
+        if (fx < alloc.x) {
+            return p0;
+        }
+        loadText(p0, p1);
+        int n = Utilities.getTabbedTextOffset(lineBuffer, metrics, (float) alloc.x, fx, this, p0, false);
+        return Math.min(p0 + n, p1 - 1);
+    }
+
+    @Override
+    public void insertUpdate(DocumentEvent e, Shape a, ViewFactory f) {
+        update(e, a);
+    }
+
+    @Override
+    public void removeUpdate(DocumentEvent e, Shape a, ViewFactory f) {
+        update(e, a);
+    }
+
+    @Override
+    public void changedUpdate(DocumentEvent e, Shape a, ViewFactory f) {
+        update(e, a);
+    }
+
+    @Override
+    public float nextTabStop(float x, int tabOffset) {
+        if (tabSize == 0) {
+            return x;
+        }
+        int ntabs = (int) ((x - tabBase) / tabSize);
+        return tabBase + (ntabs + 1) * tabSize;
+    }
+
+    // ============================================ MÉTODOS PRIVADOS - LAYOUT ============================================
+
+    /**
+     * Lê as métricas da fonte do contêiner e, na primeira vez ou quando a fonte muda, seleciona o layout.
+     */
+    private void updateMetrics() {
+        Container host = getContainer();
+        if (host == null) {
+            return;
+        }
+        Font f = host.getFont();
+        if (f == font && metrics != null) {
+            return;
+        }
+        font = f;
+        metrics = host.getFontMetrics(f);
+        lineHeight = Math.max(1, metrics.getHeight());
+        Object tabs = getDocument().getProperty(PlainDocument.tabSizeAttribute);
+        tabSize = (tabs instanceof Integer ? (Integer) tabs : 8) * metrics.charWidth('m');
+        selectLayout();
+    }
+
+    /**
+     * Passa a usar o layout da largura e fonte atuais, reaproveitando-o do cache ou criando-o com estimativas.
+     */
+    private void selectLayout() {
+        if (metrics == null || layout != null && layout.matches(width, font, wordWrap)) {
+            return;
+        }
+        Element root = getElement();
+        layout = cache.find(width, font, wordWrap, root.getElementCount());
+        if (layout == null) {
+            layout = new Layout(width, font, wordWrap, Math.max(1, metrics.charWidth('x')));
+            layout.estimateAll(root);
+            // Sem largura definida tudo ocupa uma linha visual; não vale guardar
+            if (width != Integer.MAX_VALUE) {
+                cache.add(layout);
+            }
+        }
+        buildTree();
+    }
+
+    /**
+     * Calcula e guarda as quebras de uma linha, se ainda não foram calculadas.
+     *
+     * @return Fins das linhas visuais, exceto a última
+     */
+    private int[] measure(int line) {
+        int[] ends = layout.breaks[line];
+        if (ends != null) {
+            return ends;
+        }
+        Element elem = getElement().getElement(line);
+        int start = elem.getStartOffset();
+        int end = elem.getEndOffset();
+        int count = 0;
+        ends = SINGLE_ROW;
+        if (width != Integer.MAX_VALUE) {
+            int p0 = start;
+            while (true) {
+                int p = breakPosition(p0, end);
+                p0 = p == p0 ? p + 1 : p;
+                if (p0 >= end) {
+                    break;
+                }
+                if (count == ends.length) {
+                    ends = Arrays.copyOf(ends, Math.max(4, count * 2));
+                }
+                ends[count++] = p0 - start;
+            }
+            if (count < ends.length) {
+                ends = count == 0 ? SINGLE_ROW : Arrays.copyOf(ends, count);
+            }
+        }
+        layout.breaks[line] = ends;
+        layout.unmeasured--;
+        setRows(line, count + 1);
+        return ends;
+    }
+
+    /**
+     * Posição da primeira quebra de uma linha visual que começa em {@code p0}, como no {@code WrappedPlainView}. Lê
+     * no máximo um caractere por pixel de largura, para que uma linha muito longa não seja lida inteira a cada
+     * linha visual.
+     */
+    private int breakPosition(int p0, int p1) {
+        loadText(p0, Math.min(p1, p0 + Math.max(1, width) + 1));
+        if (wordWrap) {
+            return p0 + Utilities.getBreakLocation(lineBuffer, metrics, (float) tabBase,
+                    (float) (tabBase + width), this, p0);
+        }
+        return p0 + Utilities.getTabbedTextOffset(lineBuffer, metrics, (float) tabBase,
+                (float) (tabBase + width), this, p0, false);
+    }
+
+    /**
+     * Linha visual, dentro da linha do documento, que contém a posição relativa ao início da linha.
+     */
+    private static int rowOf(int[] ends, int offset) {
+        int lower = 0;
+        int upper = ends.length;
+        while (lower < upper) {
+            int mid = (lower + upper) >>> 1;
+            if (offset < ends[mid]) {
+                upper = mid;
+            } else {
+                lower = mid + 1;
+            }
+        }
+        return lower;
+    }
+
+    /**
+     * Atualiza as linhas afetadas por uma edição em todos os layouts do cache: as linhas criadas ou alteradas perdem
+     * as quebras. No layout atual elas são medidas imediatamente (ou estimadas, em edições grandes).
+     */
+    private void update(DocumentEvent e, Shape a) {
+        Element root = getElement();
+        int first;
+        int removed = 0;
+        int count;
+        DocumentEvent.ElementChange change = e.getChange(root);
+        if (change != null) {
+            first = change.getIndex();
+            removed = change.getChildrenRemoved().length;
+            count = change.getChildrenAdded().length;
+        } else {
+            first = root.getElementIndex(e.getOffset());
+            count = 1;
+        }
+        for (Layout other : cache.layouts()) {
+            if (other != layout) {
+                other.edit(root, first, removed, count, change != null);
+            }
+        }
+        if (layout == null) {
+            return;
+        }
+        int oldTotal = totalRows;
+        if (change != null) {
+            layout.splice(first, removed, count);
+            buildTree();
+        }
+        for (int i = first, end = first + count; i < end; i++) {
+            if (layout.breaks[i] != null) {
+                layout.breaks[i] = null;
+                layout.unmeasured++;
+            }
+            if (count <= EXACT_LIMIT) {
+                measure(i);
+            } else {
+                setRows(i, layout.estimate(root.getElement(i)));
+            }
+        }
+        Component host = getContainer();
+        if (change != null || totalRows != oldTotal) {
+            heightChanged = false;
+            preferenceChanged(null, false, true);
+            host.repaint();
+        } else if (a != null) {
+            Rectangle alloc = a.getBounds();
+            host.repaint(alloc.x, alloc.y + prefix(first) * lineHeight, alloc.width,
+                    layout.rows[first] * lineHeight);
+        }
+    }
+
+    /**
+     * Avisa o contêiner se alguma medição alterou a altura total.
+     */
+    private void firePendingHeightChange() {
+        if (heightChanged) {
+            heightChanged = false;
+            preferenceChanged(null, false, true);
+        }
+    }
+
+    // ============================================ MÉTODOS PRIVADOS - SEGUNDO PLANO ============================================
+
+    /**
+     * Coloca a view na fila da medição em segundo plano, se houver linhas por medir.
+     */
+    private void scheduleBackground() {
+        if (!pending && layout.unmeasured > 0 && width != Integer.MAX_VALUE) {
+            pending = true;
+            PENDING.add(this);
+            if (!BACKGROUND.isRunning()) {
+                BACKGROUND.start();
+            }
+        }
+    }
+
+    /**
+     * Passo do timer: mede um bloco de linhas da primeira view da fila e a devolve ao fim da fila se ainda restarem
+     * linhas por medir.
+     */
+    private static void measureInBackground() {
+        WWrappedView view = PENDING.poll();
+        if (view != null) {
+            Container host = view.getContainer();
+            // Views substituídas ou fora da tela voltam à fila na próxima pintura
+            if (host != null && host.isShowing() && view.measurePending(System.nanoTime() + BACKGROUND_BUDGET)) {
+                PENDING.add(view);
+            } else {
+                view.pending = false;
+            }
+        }
+        if (PENDING.isEmpty()) {
+            BACKGROUND.stop();
+        }
+    }
+
+    /**
+     * Mede linhas estimadas a partir de {@link Layout#next} até o prazo, compensando na rolagem a mudança de altura
+     * das linhas acima da área visível.
+     *
+     * @return true se ainda restarem linhas por medir
+     */
+    private boolean measurePending(long deadline) {
+        if (layout.unmeasured == 0 || width == Integer.MAX_VALUE) {
+            return false;
+        }
+        Document doc = getDocument();
+        if (doc instanceof AbstractDocument) {
+            ((AbstractDocument) doc).readLock();
+        }
+        int aboveDelta = 0;
+        try {
+            Container host = getContainer();
+            int firstVisible = 0;
+            if (host instanceof JTextComponent) {
+                Rectangle visible = ((JTextComponent) host).getVisibleRect();
+                firstVisible = lineAtRow(Math.max(0, visible.y - host.getInsets().top) / lineHeight);
+            }
+            int[] rows = layout.rows;
+            int line = layout.next;
+            int measured = 0;
+            while (layout.unmeasured > 0) {
+                if (line >= layout.lines) {
+                    line = 0;
+                }
+                if (layout.breaks[line] == null) {
+                    int before = rows[line];
+                    measure(line);
+                    if (line < firstVisible) {
+                        aboveDelta += rows[line] - before;
+                    }
+                    if ((++measured & 15) == 0 && System.nanoTime() > deadline) {
+                        line++;
+                        break;
+                    }
+                }
+                line++;
+            }
+            layout.next = line;
+        } finally {
+            if (doc instanceof AbstractDocument) {
+                ((AbstractDocument) doc).readUnlock();
+            }
+        }
+        firePendingHeightChange();
+        compensateScroll(aboveDelta);
+        return layout.unmeasured > 0;
+    }
+
+    /**
+     * Desloca a rolagem pela variação de altura das linhas acima da área visível, mantendo o texto na tela parado.
+     */
+    private void compensateScroll(int rows) {
+        Container host = getContainer();
+        if (rows != 0 && host != null && host.getParent() instanceof JViewport) {
+            JViewport viewport = (JViewport) host.getParent();
+            // Aplica a nova altura antes de mover a rolagem
+            viewport.validate();
+            Point position = viewport.getViewPosition();
+            position.y = Math.max(0, position.y + rows * lineHeight);
+            viewport.setViewPosition(position);
+        }
+    }
+
+    // ============================================ MÉTODOS PRIVADOS - SOMAS ACUMULADAS ============================================
+
+    /**
+     * Reconstrói a árvore de Fenwick do layout atual em O(n).
+     */
+    private void buildTree() {
+        int lines = layout.lines;
+        if (tree.length < lines + 1 || tree.length > lines * 2 + 32) {
+            tree = new int[lines + lines / 8 + 17];
+        } else {
+            Arrays.fill(tree, 0);
+        }
+        int[] rows = layout.rows;
+        int total = 0;
+        for (int i = 1; i <= lines; i++) {
+            int value = rows[i - 1];
+            total += value;
+            tree[i] += value;
+            int parent = i + (i & -i);
+            if (parent <= lines) {
+                tree[parent] += tree[i];
+            }
+        }
+        totalRows = total;
+    }
+
+    /**
+     * Altera as linhas visuais de uma linha do documento no layout atual.
+     */
+    private void setRows(int line, int value) {
+        int delta = value - layout.rows[line];
+        if (delta == 0) {
+            return;
+        }
+        layout.rows[line] = value;
+        totalRows += delta;
+        heightChanged = true;
+        for (int i = line + 1; i <= layout.lines; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Linhas visuais antes da linha do documento informada.
+     */
+    private int prefix(int line) {
+        int sum = 0;
+        for (int i = line; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Linha do documento que contém a linha visual informada.
+     */
+    private int lineAtRow(int row) {
+        int lines = layout.lines;
+        int line = 0;
+        int remaining = row;
+        for (int step = Integer.highestOneBit(Math.max(1, lines)); step > 0; step >>= 1) {
+            int next = line + step;
+            if (next <= lines && tree[next] <= remaining) {
+                line = next;
+                remaining -= tree[next];
+            }
+        }
+        return Math.min(line, Math.max(0, lines - 1));
+    }
+
+    // ============================================ MÉTODOS PRIVADOS - PINTURA ============================================
+
+    /**
+     * Pinta as linhas visuais de uma linha do documento que cruzam a área de recorte.
+     */
+    private void paintLine(Graphics g, Shape a, LayeredHighlighter dh, JTextComponent host, int start, int end,
+            int[] ends, int x, int y, int top, int bottom) {
+        int p0 = start;
+        for (int r = 0; r <= ends.length && y < bottom; r++) {
+            int p1 = r < ends.length ? start + ends[r] : end;
+            if (y + lineHeight > top) {
+                if (dh != null) {
+                    dh.paintLayeredHighlights(g, p0, p1 == end ? p1 - 1 : p1, a, host, this);
+                }
+                drawRow((Graphics2D) g, p0, p1, x, y + metrics.getAscent());
+            }
+            p0 = p1;
+            y += lineHeight;
+        }
+    }
+
+    /**
+     * Desenha o texto de uma linha visual, separando os trechos selecionados como o {@code WrappedPlainView}.
+     */
+    private void drawRow(Graphics2D g, int p0, int p1, float x, float y) {
+        p1 = Math.min(getDocument().getLength(), p1);
+        if (sel0 == sel1 || selected == unselected) {
+            drawText(g, x, y, p0, p1, unselected);
+        } else if (p0 >= sel0 && p0 <= sel1 && p1 >= sel0 && p1 <= sel1) {
+            drawText(g, x, y, p0, p1, selected);
+        } else if (sel0 >= p0 && sel0 <= p1) {
+            if (sel1 >= p0 && sel1 <= p1) {
+                x = drawText(g, x, y, p0, sel0, unselected);
+                x = drawText(g, x, y, sel0, sel1, selected);
+                drawText(g, x, y, sel1, p1, unselected);
+            } else {
+                x = drawText(g, x, y, p0, sel0, unselected);
+                drawText(g, x, y, sel0, p1, selected);
+            }
+        } else if (sel1 >= p0 && sel1 <= p1) {
+            x = drawText(g, x, y, p0, sel1, selected);
+            drawText(g, x, y, sel1, p1, unselected);
+        } else {
+            drawText(g, x, y, p0, p1, unselected);
+        }
+    }
+
+    private float drawText(Graphics2D g, float x, float y, int p0, int p1, Color color) {
+        if (p1 <= p0) {
+            return x;
+        }
+        g.setColor(color);
+        loadText(p0, p1);
+        return Utilities.drawTabbedText(lineBuffer, x, y, g, this, p0);
+    }
+
+    /**
+     * Carrega um trecho do documento em {@link #lineBuffer}.
+     */
+    private void loadText(int p0, int p1) {
+        try {
+            getDocument().getText(p0, p1 - p0, lineBuffer);
+        } catch (BadLocationException e) {
+            throw new IllegalStateException("Trecho fora do documento", e);
+        }
+    }
+
+    // ============================================ TIPOS INTERNOS ============================================
+
+    /**
+     * Layouts já calculados para um documento, por largura, fonte e tipo de quebra. Guarda os
+     * {@value #CAPACITY} layouts usados mais recentemente; os que não estão em uso podem ser liberados pelo coletor
+     * de lixo.
+     */
+    public static final class LayoutCache {
+
+        /** Quantidade de layouts guardados */
+        public static final int CAPACITY = 4;
+
+        private final Document document;
+
+        /** Layouts do mais recente para o mais antigo */
+        private final ArrayDeque<SoftReference<Layout>> entries = new ArrayDeque<>(CAPACITY);
+
+        /**
+         * Cria um cache vazio para o documento.
+         *
+         * @param document Documento cujas linhas são medidas
+         */
+        public LayoutCache(Document document) {
+            this.document = document;
+        }
+
+        /**
+         * Retorna o documento do cache.
+         *
+         * @return Documento
+         */
+        public Document getDocument() {
+            return document;
+        }
+
+        /**
+         * Procura um layout e o torna o mais recente. Layouts liberados ou com outra quantidade de linhas (editados
+         * sem uma view para acompanhá-los) são descartados.
+         */
+        private Layout find(int width, Font font, boolean wordWrap, int lines) {
+            for (Iterator<SoftReference<Layout>> it = entries.iterator(); it.hasNext();) {
+                SoftReference<Layout> ref = it.next();
+                Layout layout = ref.get();
+                if (layout == null || layout.lines != lines) {
+                    it.remove();
+                } else if (layout.matches(width, font, wordWrap)) {
+                    it.remove();
+                    entries.addFirst(ref);
+                    return layout;
+                }
+            }
+            return null;
+        }
+
+        private void add(Layout layout) {
+            entries.addFirst(new SoftReference<>(layout));
+            while (entries.size() > CAPACITY) {
+                entries.removeLast();
+            }
+        }
+
+        /**
+         * Layouts ainda disponíveis.
+         */
+        private Layout[] layouts() {
+            Layout[] layouts = new Layout[entries.size()];
+            int count = 0;
+            for (Iterator<SoftReference<Layout>> it = entries.iterator(); it.hasNext();) {
+                Layout layout = it.next().get();
+                if (layout == null) {
+                    it.remove();
+                } else {
+                    layouts[count++] = layout;
+                }
+            }
+            return count == layouts.length ? layouts : Arrays.copyOf(layouts, count);
+        }
+    }
+
+    /**
+     * Quebras das linhas do documento para uma largura, fonte e tipo de quebra.
+     */
+    private static final class Layout {
+
+        private final int width;
+        private final Font font;
+        private final boolean wordWrap;
+
+        /** Largura média de um caractere, usada nas estimativas */
+        private final float charWidth;
+
+        /** Quantidade de linhas do documento */
+        private int lines;
+
+        /** Linhas visuais de cada linha do documento, estimadas ou medidas */
+        private int[] rows = new int[0];
+
+        /**
+         * Fim de cada linha visual, relativo ao início da linha do documento, exceto a última; null enquanto a
+         * linha não foi medida.
+         */
+        private int[][] breaks = new int[0][];
+
+        /** Linhas ainda não medidas */
+        private int unmeasured;
+
+        /** Próxima linha a verificar na medição em segundo plano */
+        private int next;
+
+        Layout(int width, Font font, boolean wordWrap, float charWidth) {
+            this.width = width;
+            this.font = font;
+            this.wordWrap = wordWrap;
+            this.charWidth = charWidth;
+        }
+
+        boolean matches(int width, Font font, boolean wordWrap) {
+            return this.width == width && this.wordWrap == wordWrap && this.font.equals(font);
+        }
+
+        /**
+         * Estima todas as linhas do documento.
+         */
+        void estimateAll(Element root) {
+            lines = root.getElementCount();
+            rows = new int[lines + lines / 8 + 16];
+            breaks = new int[rows.length][];
+            for (int i = 0; i < lines; i++) {
+                rows[i] = estimate(root.getElement(i));
+            }
+            unmeasured = lines;
+        }
+
+        /**
+         * Estima as linhas visuais de uma linha do documento pelo número de caracteres.
+         */
+        int estimate(Element elem) {
+            int chars = elem.getEndOffset() - elem.getStartOffset() - 1;
+            if (width == Integer.MAX_VALUE || chars <= 0 || width <= 0) {
+                return 1;
+            }
+            return Math.max(1, (int) Math.ceil(chars * charWidth / width));
+        }
+
+        /**
+         * Substitui {@code removed} linhas a partir de {@code index} por {@code added} linhas ainda não medidas.
+         */
+        void splice(int index, int removed, int added) {
+            for (int i = index; i < index + removed; i++) {
+                if (breaks[i] == null) {
+                    unmeasured--;
+                }
+            }
+            int newLines = lines - removed + added;
+            if (newLines > rows.length) {
+                int capacity = newLines + newLines / 8 + 16;
+                rows = Arrays.copyOf(rows, capacity);
+                breaks = Arrays.copyOf(breaks, capacity);
+            }
+            int tail = lines - index - removed;
+            System.arraycopy(rows, index + removed, rows, index + added, tail);
+            System.arraycopy(breaks, index + removed, breaks, index + added, tail);
+            for (int i = index; i < index + added; i++) {
+                rows[i] = 1;
+                breaks[i] = null;
+            }
+            for (int i = newLines; i < lines; i++) {
+                breaks[i] = null;
+            }
+            lines = newLines;
+            unmeasured += added;
+        }
+
+        /**
+         * Aplica uma edição a um layout fora de uso: as linhas alteradas voltam a ser estimadas.
+         */
+        void edit(Element root, int first, int removed, int count, boolean structural) {
+            if (structural) {
+                splice(first, removed, count);
+            }
+            for (int i = first, end = first + count; i < end; i++) {
+                if (breaks[i] != null) {
+                    breaks[i] = null;
+                    unmeasured++;
+                }
+                rows[i] = estimate(root.getElement(i));
+            }
+        }
+    }
+}